@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.apache.commons.collections4.map.ConcurrentReferenceHashMap;
+import org.apache.commons.collections4.map.ConcurrentReferenceHashMap.ReferenceType;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * <p>
+ * An internally used registry of the {@link BeanAccessors} available for classes annotated with {@link GeneratedAccessors}.
+ * </p>
+ * <p>
+ * The providers are discovered with {@link ServiceLoader} from the class loader of the annotated class, once per class loader. Classes which are not
+ * annotated are not looked up at all. The providers found for a class loader are referenced weakly by the loader and softly by this registry, as they keep
+ * the loader reachable.
+ * </p>
+ */
+final class AccessorRegistry {
+
+    /** Log instance */
+    private static final Log LOG = LogFactory.getLog(AccessorRegistry.class);
+
+    /** The number of broken providers after which the remaining providers of a class loader are ignored. */
+    private static final int MAX_ERRORS = 16;
+
+    /** The providers visible from a class loader by the name of their bean class. */
+    // @formatter:off
+    private static final Map<ClassLoader, Map<String, BeanAccessors>> PROVIDERS =
+            new ConcurrentReferenceHashMap.Builder<ClassLoader, Map<String, BeanAccessors>>()
+            .setKeyReferenceType(ReferenceType.WEAK)
+            .setValueReferenceType(ReferenceType.SOFT)
+            .get();
+    // @formatter:on
+
+    /**
+     * Creates the {@code PropertyHandle} for a simple property of a bean class. If the class has generated accessors which call the given methods, the
+     * handle uses them; otherwise it uses method handles.
+     *
+     * @param beanClass   The bean class
+     * @param name        The property name
+     * @param readMethod  The accessible read method, may be {@code null}
+     * @param writeMethod The accessible write method, may be {@code null}
+     * @return The new handle
+     */
+    static PropertyHandle createHandle(final Class<?> beanClass, final String name, final Method readMethod, final Method writeMethod) {
+        final BeanAccessors accessors = find(beanClass);
+        if (accessors != null) {
+            final int index = indexOf(accessors, name);
+            if (index >= 0 && isReadMethod(accessors, index, readMethod) && isWriteMethod(accessors, index, writeMethod)) {
+                return new PropertyHandle(readMethod, writeMethod, accessors, index);
+            }
+        }
+        return new PropertyHandle(readMethod, writeMethod);
+    }
+
+    /**
+     * Finds the accessors for the given bean class.
+     *
+     * @param beanClass The bean class
+     * @return The accessors or {@code null} if the class is not annotated with {@link GeneratedAccessors} or no accessors are available for it
+     */
+    static BeanAccessors find(final Class<?> beanClass) {
+        if (!beanClass.isAnnotationPresent(GeneratedAccessors.class)) {
+            return null;
+        }
+        final ClassLoader loader = beanClass.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        final BeanAccessors accessors = PROVIDERS.computeIfAbsent(loader, AccessorRegistry::load).get(beanClass.getName());
+        // a class of the same name may have been loaded by another class loader
+        return accessors != null && accessors.getBeanClass() == beanClass ? accessors : null;
+    }
+
+    /**
+     * Finds the index of a property.
+     *
+     * @param accessors The accessors
+     * @param name      The property name
+     * @return The index of the property or -1 if the accessors do not provide it
+     */
+    static int indexOf(final BeanAccessors accessors, final String name) {
+        final int count = accessors.getPropertyCount();
+        for (int i = 0; i < count; i++) {
+            if (name.equals(accessors.getPropertyName(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tests whether the generated accessors read a property with the given method.
+     *
+     * @param accessors  The accessors
+     * @param index      The index of the property
+     * @param readMethod The read method, may be {@code null}
+     * @return {@code true} if there is no read method or if the accessors call it
+     */
+    private static boolean isReadMethod(final BeanAccessors accessors, final int index, final Method readMethod) {
+        return readMethod == null || readMethod.getParameterCount() == 0 && readMethod.getName().equals(accessors.getReadMethodName(index));
+    }
+
+    /**
+     * Tests whether the generated accessors write a property with the given method.
+     *
+     * @param accessors   The accessors
+     * @param index       The index of the property
+     * @param writeMethod The write method, may be {@code null}
+     * @return {@code true} if there is no write method or if the accessors call it
+     */
+    private static boolean isWriteMethod(final BeanAccessors accessors, final int index, final Method writeMethod) {
+        return writeMethod == null || writeMethod.getParameterCount() == 1 && writeMethod.getName().equals(accessors.getWriteMethodName(index))
+                && writeMethod.getParameterTypes()[0] == accessors.getPropertyType(index);
+    }
+
+    /**
+     * Loads the providers visible from a class loader.
+     *
+     * @param loader The class loader
+     * @return The providers by the name of their bean class
+     */
+    private static Map<String, BeanAccessors> load(final ClassLoader loader) {
+        final Map<String, BeanAccessors> providers = new HashMap<>();
+        final Iterator<BeanAccessors> iterator = ServiceLoader.load(BeanAccessors.class, loader).iterator();
+        for (int errors = 0; errors < MAX_ERRORS;) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                final BeanAccessors accessors = iterator.next();
+                providers.putIfAbsent(accessors.getBeanClass().getName(), accessors);
+            } catch (final ServiceConfigurationError | RuntimeException e) {
+                // for instance a stale entry, the classes concerned keep using the default introspection
+                LOG.warn("Cannot load bean accessors visible from " + loader, e);
+                errors++;
+            }
+        }
+        return providers;
+    }
+
+    private AccessorRegistry() {
+        // empty
+    }
+}
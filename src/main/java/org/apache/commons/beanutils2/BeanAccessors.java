@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+/**
+ * <p>
+ * Provides the simple properties of a bean class together with code accessing them without reflection.
+ * </p>
+ * <p>
+ * Implementations are usually generated for classes annotated with {@link GeneratedAccessors} and registered as service providers in
+ * {@code META-INF/services/org.apache.commons.beanutils2.BeanAccessors}. They are discovered with {@link java.util.ServiceLoader} from the class loader of
+ * the annotated class. The properties are identified by their index; the names, types and accessor method names of a property must describe the methods
+ * which {@link #read(Object, int)} and {@link #write(Object, int, Object)} call, and they must follow the rules of the Java Beans specification.
+ * </p>
+ * <p>
+ * The providers discovered from a class loader are cached with a soft reference. As they reference their bean classes, the cache keeps the class loader
+ * reachable after it has been discarded otherwise, until the garbage collector clears the reference under memory pressure. Applications unloading class
+ * loaders with annotated classes, for instance on redeployment, should take this into account.
+ * </p>
+ * <p>
+ * If the bean class or one of its superclasses has an explicit {@link java.beans.BeanInfo}, it takes precedence: {@link DefaultBeanIntrospector} uses
+ * {@link java.beans.Introspector} for such a class, and the provider only serves properties whose accessor methods it calls.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe and have a public no-argument constructor.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public interface BeanAccessors {
+
+    /**
+     * Gets the bean class whose properties are provided.
+     *
+     * @return The bean class
+     */
+    Class<?> getBeanClass();
+
+    /**
+     * Gets the number of properties.
+     *
+     * @return The number of properties
+     */
+    int getPropertyCount();
+
+    /**
+     * Gets the name of a property.
+     *
+     * @param index The index of the property
+     * @return The property name
+     */
+    String getPropertyName(int index);
+
+    /**
+     * Gets the type of a property.
+     *
+     * @param index The index of the property
+     * @return The property type
+     */
+    Class<?> getPropertyType(int index);
+
+    /**
+     * Gets the name of the public read method of a property.
+     *
+     * @param index The index of the property
+     * @return The name of the method without parameters returning the property value, or {@code null} if the property cannot be read
+     */
+    String getReadMethodName(int index);
+
+    /**
+     * Gets the name of the public write method of a property.
+     *
+     * @param index The index of the property
+     * @return The name of the method with a single parameter of the property type, or {@code null} if the property cannot be written
+     */
+    String getWriteMethodName(int index);
+
+    /**
+     * Reads a property by calling its read method.
+     *
+     * @param bean  The bean, an instance of the bean class
+     * @param index The index of the property
+     * @return The property value, primitive values are boxed
+     * @throws Exception if the read method throws an exception
+     */
+    Object read(Object bean, int index) throws Exception;
+
+    /**
+     * Writes a property by calling its write method.
+     *
+     * @param bean  The bean, an instance of the bean class
+     * @param index The index of the property
+     * @param value The value, an instance of the (wrapper) type of the property, not {@code null} for primitive types
+     * @throws Exception if the write method throws an exception
+     */
+    void write(Object bean, int index, Object value) throws Exception;
+}
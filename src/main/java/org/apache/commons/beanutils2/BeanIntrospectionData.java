@@ -16,11 +16,14 @@
  */
 package org.apache.commons.beanutils2;
 
+import java.beans.IndexedPropertyDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -35,11 +38,67 @@ import java.util.Map;
  * This class mainly stores information about the properties of a bean class. Per default, this is contained in {@code PropertyDescriptor} objects. Some
  * additional information required by the {@code BeanUtils} library is also stored here.
  * </p>
+ * <p>
+ * Descriptors are looked up by name via an open addressing hash table which is built when the object is created. The read methods of the descriptors (when the
+ * object is created) and their write methods (when they are resolved for the first time) are stored with strong references, so that they do not have to be
+ * obtained again from the descriptors, which reference them only softly. {@code PropertyUtilsBean} holds this object strongly if the bean class is visible from
+ * this library or pinned mode is enabled, and softly otherwise, so that it does not keep the class loader of the bean class reachable; the methods are then
+ * stored again when the object is created anew.
+ * </p>
+ * <p>
+ * In pinned mode (see {@link PropertyUtilsBean#setPinnedIntrospection(boolean)}), the write methods and the indexed read and write methods of
+ * {@code IndexedPropertyDescriptor}s are resolved and stored when the object is created as well, so that no accessor method of the class is obtained from a
+ * soft reference again.
+ * </p>
  *
  * @since 1.9.1
  */
 final class BeanIntrospectionData {
 
+    /**
+     * Builds the hash table for looking up the descriptors by name. The table stores the index of a descriptor plus one, so that zero marks an empty slot.
+     * If a name occurs multiple times, the first descriptor is used.
+     *
+     * @param names The names of the descriptors
+     * @return The hash table
+     */
+    private static int[] createIndex(final String[] names) {
+        final int[] table = new int[tableSize(names.length)];
+        final int mask = table.length - 1;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] != null) {
+                int slot = spread(names[i].hashCode()) & mask;
+                while (table[slot] != 0 && !names[i].equals(names[table[slot] - 1])) {
+                    slot = slot + 1 & mask;
+                }
+                if (table[slot] == 0) {
+                    table[slot] = i + 1;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Spreads the bits of a hash code, so that the lower bits used to select a slot depend on the higher bits as well.
+     *
+     * @param hash The hash code
+     * @return The spread hash code
+     */
+    private static int spread(final int hash) {
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Calculates the size of the hash table for the given number of entries. This is a power of two such that the table is at most half full.
+     *
+     * @param count The number of entries
+     * @return The size of the hash table
+     */
+    private static int tableSize(final int count) {
+        return Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+    }
+
     /**
      * Initializes the map with the names of the write methods for the supported properties. The method names - if defined - need to be stored separately
      * because they may get lost when the GC claims soft references used by the {@code PropertyDescriptor} objects.
@@ -64,6 +123,33 @@ final class BeanIntrospectionData {
     /** A map for remembering the write method names for properties. */
     private final Map<String, String> writeMethodNames;
 
+    /** The names of the descriptors, in the order of the descriptors array. */
+    private final String[] names;
+
+    /** The hash table with the indexes of the descriptors, see {@link #createIndex(String[])}. */
+    private final int[] index;
+
+    /** The read methods of the descriptors, in the order of the descriptors array. */
+    private final Method[] readMethods;
+
+    /** The write methods of the descriptors, in the order of the descriptors array; filled when the methods are first resolved. */
+    private final Method[] writeMethods;
+
+    /** The indexed read methods of the descriptors in pinned mode, in the order of the descriptors array; {@code null} if not pinned. */
+    private final Method[] indexedReadMethods;
+
+    /** The indexed write methods of the descriptors in pinned mode, in the order of the descriptors array; {@code null} if not pinned. */
+    private final Method[] indexedWriteMethods;
+
+    /** A map with the accessors for simple properties which have already been resolved. */
+    private final Map<String, PropertyHandle> handles = new ConcurrentHashMap<>();
+
+    /**
+     * The accessible methods resolved for the accessor methods of the descriptors managed by this object, see
+     * {@link #getAccessibleMethod(Class, PropertyDescriptor, Method)}; empty if there is none.
+     */
+    private final Map<Method, Optional<Method>> accessibleMethods = new ConcurrentHashMap<>();
+
     /**
      * Creates a new instance of {@code BeanIntrospectionData} and initializes its completely.
      *
@@ -81,8 +167,79 @@ final class BeanIntrospectionData {
      * @param writeMethNames The map with the names of write methods
      */
     BeanIntrospectionData(final PropertyDescriptor[] descs, final Map<String, String> writeMethNames) {
+        this(null, descs, writeMethNames, false);
+    }
+
+    /**
+     * Creates a new instance of {@code BeanIntrospectionData} which optionally resolves and stores all accessor methods of the descriptors at once.
+     *
+     * @param beanCls The bean class, used for resolving write methods in pinned mode
+     * @param descs   The array with the descriptors of the available properties
+     * @param pinned  Whether all accessor methods are to be stored when the object is created
+     */
+    BeanIntrospectionData(final Class<?> beanCls, final PropertyDescriptor[] descs, final boolean pinned) {
+        this(beanCls, descs, setUpWriteMethodNames(descs), pinned);
+    }
+
+    /**
+     * Creates a new instance of {@code BeanIntrospectionData}.
+     *
+     * @param beanCls        The bean class, used for resolving write methods in pinned mode
+     * @param descs          The array with the descriptors of the available properties
+     * @param writeMethNames The map with the names of write methods
+     * @param pinned         Whether all accessor methods are to be stored when the object is created
+     */
+    private BeanIntrospectionData(final Class<?> beanCls, final PropertyDescriptor[] descs, final Map<String, String> writeMethNames, final boolean pinned) {
         descriptors = descs;
         writeMethodNames = writeMethNames;
+        names = new String[descs.length];
+        readMethods = new Method[descs.length];
+        writeMethods = new Method[descs.length];
+        for (int i = 0; i < descs.length; i++) {
+            names[i] = descs[i].getName();
+            readMethods[i] = descs[i].getReadMethod();
+        }
+        index = createIndex(names);
+        if (pinned) {
+            indexedReadMethods = new Method[descs.length];
+            indexedWriteMethods = new Method[descs.length];
+            for (int i = 0; i < descs.length; i++) {
+                getWriteMethod(beanCls, descs[i]);
+                if (descs[i] instanceof IndexedPropertyDescriptor) {
+                    indexedReadMethods[i] = ((IndexedPropertyDescriptor) descs[i]).getIndexedReadMethod();
+                    indexedWriteMethods[i] = ((IndexedPropertyDescriptor) descs[i]).getIndexedWriteMethod();
+                }
+            }
+        } else {
+            indexedReadMethods = null;
+            indexedWriteMethods = null;
+        }
+    }
+
+    /**
+     * Returns an accessible method (that is, one that can be invoked via reflection) for an accessor method of the given descriptor. For descriptors managed
+     * by this object, the result of {@link org.apache.commons.lang3.reflect.MethodUtils#getAccessibleMethod(Class, Method)} is cached per method, so the class
+     * hierarchy is searched only once. Other descriptors, which may have been created for other classes, are resolved without caching, so that this object
+     * does not keep their methods reachable.
+     *
+     * @param beanCls The bean class this object has been created for
+     * @param desc    The descriptor the method belongs to
+     * @param method  The accessor method, may be {@code null}
+     * @return The accessible method or {@code null} if there is none
+     */
+    Method getAccessibleMethod(final Class<?> beanCls, final PropertyDescriptor desc, final Method method) {
+        if (method == null) {
+            return null;
+        }
+        if (indexOf(desc) < 0) {
+            return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(beanCls, method);
+        }
+        Optional<Method> accessible = accessibleMethods.get(method);
+        if (accessible == null) {
+            accessible = Optional.ofNullable(org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(beanCls, method));
+            accessibleMethods.putIfAbsent(method, accessible);
+        }
+        return accessible.orElse(null);
     }
 
     /**
@@ -92,12 +249,8 @@ final class BeanIntrospectionData {
      * @return The {@code PropertyDescriptor} for this property or {@code null}
      */
     public PropertyDescriptor getDescriptor(final String name) {
-        for (final PropertyDescriptor pd : getDescriptors()) {
-            if (name.equals(pd.getName())) {
-                return pd;
-            }
-        }
-        return null;
+        final int idx = indexOf(name);
+        return idx >= 0 ? descriptors[idx] : null;
     }
 
     /**
@@ -109,6 +262,53 @@ final class BeanIntrospectionData {
         return descriptors;
     }
 
+    /**
+     * Returns the {@code PropertyHandle} which has been stored for the property with the specified name. If no handle has been stored yet, result is
+     * {@code null}.
+     *
+     * @param name The name of the property in question
+     * @return The {@code PropertyHandle} for this property or {@code null}
+     */
+    PropertyHandle getHandle(final String name) {
+        return handles.get(name);
+    }
+
+    /**
+     * Returns the indexed read method of the given {@code IndexedPropertyDescriptor}. In pinned mode, the method stored when this object was created is
+     * returned for descriptors managed by this object.
+     *
+     * @param desc The descriptor of the indexed property
+     * @return The indexed read method or {@code null} if there is none
+     */
+    Method getIndexedReadMethod(final IndexedPropertyDescriptor desc) {
+        final int idx = indexedReadMethods != null ? indexOf(desc) : -1;
+        return idx >= 0 ? indexedReadMethods[idx] : desc.getIndexedReadMethod();
+    }
+
+    /**
+     * Returns the indexed write method of the given {@code IndexedPropertyDescriptor}. In pinned mode, the method stored when this object was created is
+     * returned for descriptors managed by this object.
+     *
+     * @param desc The descriptor of the indexed property
+     * @return The indexed write method or {@code null} if there is none
+     */
+    Method getIndexedWriteMethod(final IndexedPropertyDescriptor desc) {
+        final int idx = indexedWriteMethods != null ? indexOf(desc) : -1;
+        return idx >= 0 ? indexedWriteMethods[idx] : desc.getIndexedWriteMethod();
+    }
+
+    /**
+     * Returns the read method for the property determined by the given {@code PropertyDescriptor}. For descriptors managed by this object, the method
+     * stored when this object was created is returned, so that the {@code SoftReference} held by the descriptor does not have to be accessed.
+     *
+     * @param desc The {@code PropertyDescriptor} of the desired property
+     * @return The read method for this property or {@code null} if there is none
+     */
+    public Method getReadMethod(final PropertyDescriptor desc) {
+        final int idx = indexOf(desc);
+        return idx >= 0 && readMethods[idx] != null ? readMethods[idx] : desc.getReadMethod();
+    }
+
     /**
      * Returns the write method for the property determined by the given {@code PropertyDescriptor}. This information is normally available in the descriptor
      * object itself. However, at least by the ORACLE implementation, the method is stored as a {@code SoftReference}. If this reference has been freed by the
@@ -120,6 +320,10 @@ final class BeanIntrospectionData {
      * @return The write method for this property or {@code null} if there is none
      */
     public Method getWriteMethod(final Class<?> beanCls, final PropertyDescriptor desc) {
+        final int idx = indexOf(desc);
+        if (idx >= 0 && writeMethods[idx] != null) {
+            return writeMethods[idx];
+        }
         Method method = desc.getWriteMethod();
         if (method == null) {
             final String methodName = writeMethodNames.get(desc.getName());
@@ -134,7 +338,53 @@ final class BeanIntrospectionData {
                 }
             }
         }
-
+        if (idx >= 0) {
+            writeMethods[idx] = method;
+        }
         return method;
     }
+
+    /**
+     * Returns the index of the descriptor with the given name.
+     *
+     * @param name The name of the property
+     * @return The index of the descriptor or -1 if there is no such descriptor
+     */
+    private int indexOf(final String name) {
+        final int mask = index.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        int entry;
+        while ((entry = index[slot]) != 0) {
+            if (name.equals(names[entry - 1])) {
+                return entry - 1;
+            }
+            slot = slot + 1 & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the given descriptor if it belongs to this object.
+     *
+     * @param desc The descriptor
+     * @return The index of the descriptor or -1 if it is not managed by this object
+     */
+    private int indexOf(final PropertyDescriptor desc) {
+        final String name = desc.getName();
+        final int idx = name != null ? indexOf(name) : -1;
+        return idx >= 0 && descriptors[idx] == desc ? idx : -1;
+    }
+
+    /**
+     * Stores a {@code PropertyHandle} for the property with the specified name. If another thread has already stored a handle for this property, this handle
+     * is kept and returned.
+     *
+     * @param name   The name of the property
+     * @param handle The handle to be stored
+     * @return The handle which is now associated with the property
+     */
+    PropertyHandle putHandle(final String name, final PropertyHandle handle) {
+        final PropertyHandle existing = handles.putIfAbsent(name, handle);
+        return existing != null ? existing : handle;
+    }
 }
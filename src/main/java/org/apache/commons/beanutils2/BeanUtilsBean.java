@@ -26,7 +26,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import org.apache.commons.beanutils2.expression.PropertyPath;
 import org.apache.commons.beanutils2.expression.Resolver;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -93,6 +99,9 @@ public class BeanUtilsBean {
      */
     private static final Log LOG = LogFactory.getLog(BeanUtilsBean.class);
 
+    /** The maximum number of populate plans cached per bean class. */
+    private static final int MAX_POPULATE_PLANS = 16;
+
     /**
      * Determines the type of a {@code DynaProperty}. Here a special treatment is needed for mapped properties.
      *
@@ -133,6 +142,18 @@ public class BeanUtilsBean {
     /** Used to access properties */
     private final PropertyUtilsBean propertyUtilsBean;
 
+    /** Whether {@code copyProperties()} may use conversion plans, which is not the case if a subclass overrides the conversion or copy logic. */
+    private final boolean plannedCopy = !ConversionPlan.isOverridden(getClass(), BeanUtilsBean.class, "convert", Object.class, Class.class)
+            && !ConversionPlan.isOverridden(getClass(), BeanUtilsBean.class, "copyProperty", Object.class, String.class, Object.class)
+            && !ConversionPlan.isOverridden(getClass(), BeanUtilsBean.class, "copyProperty", Object.class, PropertyPath.class, Object.class);
+
+    /** Whether {@code populate()} may use populate plans, which is not the case if a subclass overrides the conversion or assignment logic. */
+    private final boolean plannedPopulate = !ConversionPlan.isOverridden(getClass(), BeanUtilsBean.class, "convert", Object.class, Class.class)
+            && !ConversionPlan.isOverridden(getClass(), BeanUtilsBean.class, "setProperty", Object.class, String.class, Object.class);
+
+    /** The cache of populate plans, keyed by the bean class and then by the set of keys; {@code null} if populate plans are not cached. */
+    private volatile ClassCache<Map<Set<String>, PopulatePlan>> populatePlansCache;
+
     /**
      * <p>
      * Constructs an instance using new property and conversion instances.
@@ -248,6 +269,11 @@ public class BeanUtilsBean {
      * </p>
      *
      * <p>
+     * When copying between standard JavaBeans, the properties to be copied and the conversions they require are determined once per pair of bean classes
+     * and cached, until {@link Converter}s are registered or deregistered.
+     * </p>
+     *
+     * <p>
      * <strong>FIXME</strong> - Indexed and mapped properties that do not have getter and setter methods for the underlying array or Map are not copied by this
      * method.
      * </p>
@@ -289,6 +315,8 @@ public class BeanUtilsBean {
                     copyProperty(dest, k, entry.getValue());
                 }
             }
+        } else if (plannedCopy && !(dest instanceof DynaBean) && !(dest instanceof Map)) {
+            copyProperties(dest, orig, getConversionPlan(dest.getClass(), orig.getClass()));
         } else /* if (orig is a standard JavaBean) */ {
             final PropertyDescriptor[] origDescriptors = getPropertyUtils().getPropertyDescriptors(orig);
             for (final PropertyDescriptor origDescriptor : origDescriptors) {
@@ -308,6 +336,50 @@ public class BeanUtilsBean {
         }
     }
 
+    /**
+     * Copies the properties of a standard JavaBean to another one according to a conversion plan.
+     *
+     * @param dest Destination bean whose properties are modified
+     * @param orig Origin bean whose properties are retrieved
+     * @param plan The conversion plan for the classes of the beans
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    private void copyProperties(final Object dest, final Object orig, final ConversionPlan plan) throws IllegalAccessException, InvocationTargetException {
+        final PropertyUtilsBean propertyUtils = getPropertyUtils();
+        final CopyPlan copyPlan = plan.getCopyPlan();
+        final boolean directReads = !propertyUtils.isDelegatingGetters();
+        for (int i = 0; i < plan.size(); i++) {
+            final ConversionPlan.Conversion conversion = plan.getConversion(i);
+            if (conversion == ConversionPlan.Conversion.SKIP) {
+                continue;
+            }
+            final String name = copyPlan.getName(i);
+            if (conversion == ConversionPlan.Conversion.COPY && !propertyUtils.isWriteable(dest, name)) {
+                continue;
+            }
+            final PropertyHandle reader = copyPlan.getReader(i);
+            Object value;
+            try {
+                value = directReads && reader.hasReadHandle() ? reader.read(orig) : propertyUtils.getSimpleProperty(orig, name);
+            } catch (final NoSuchMethodException e) {
+                continue; // Should not happen
+            }
+            if (conversion == ConversionPlan.Conversion.COPY) {
+                copyProperty(dest, name, value);
+                continue;
+            }
+            if (value != null) {
+                if (conversion == ConversionPlan.Conversion.CONVERTER) {
+                    value = plan.getConverter(i).convert(plan.getType(i), value);
+                } else if (conversion == ConversionPlan.Conversion.CONVERT) {
+                    value = convert(value, plan.getType(i));
+                }
+            }
+            propertyUtils.writeProperty(dest, copyPlan.getWriter(i), name, value);
+        }
+    }
+
     /**
      * <p>
      * Copy the specified property value to the specified destination bean, performing any type conversion that is required. If the specified bean does not have
@@ -330,13 +402,29 @@ public class BeanUtilsBean {
      * @throws IllegalAccessException    if the caller does not have access to the property accessor method
      * @throws InvocationTargetException if the property accessor method throws an exception
      */
-    public void copyProperty(final Object bean, String name, Object value) throws IllegalAccessException, InvocationTargetException {
+    public void copyProperty(final Object bean, final String name, final Object value) throws IllegalAccessException, InvocationTargetException {
+        copyProperty(bean, getPropertyUtils().getPropertyPath(name), value);
+    }
+
+    /**
+     * Copy the specified property value to the specified destination bean, performing any type conversion that is required. This method behaves like
+     * {@link #copyProperty(Object, String, Object)}, but does not have to parse the property name expression.
+     *
+     * @param bean  Bean on which setting is to be performed
+     * @param path  The parsed property name expression
+     * @param value Value to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @see PropertyUtilsBean#getPropertyPath(String)
+     * @since 2.0.0
+     */
+    public void copyProperty(final Object bean, final PropertyPath path, Object value) throws IllegalAccessException, InvocationTargetException {
         // Trace logging (if enabled)
         if (LOG.isTraceEnabled()) {
             final StringBuilder sb = new StringBuilder("  copyProperty(");
             sb.append(bean);
             sb.append(", ");
-            sb.append(name);
+            sb.append(path);
             sb.append(", ");
             if (value == null) {
                 sb.append("<NULL>");
@@ -361,25 +449,27 @@ public class BeanUtilsBean {
 
         // Resolve any nested expression to get the actual target bean
         Object target = bean;
-        final Resolver resolver = getPropertyUtils().getResolver();
-        while (resolver.hasNested(name)) {
-            try {
-                target = getPropertyUtils().getProperty(target, resolver.next(name));
-                name = resolver.remove(name);
-            } catch (final NoSuchMethodException e) {
+        final int last = path.size() - 1;
+        for (int i = 0; i < last; i++) {
+            final PropertyProbe probe = getPropertyUtils().probePathSegment(target, path.getSegment(i));
+            if (!probe.isAvailable()) {
                 return; // Skip this property setter
             }
+            target = probe.getValue();
         }
+        final PropertyPath.Segment segment = path.getSegment(last);
+        final String name = segment.getExpression();
         if (LOG.isTraceEnabled()) {
             LOG.trace("    Target bean = " + target);
             LOG.trace("    Target name = " + name);
         }
 
         // Declare local variables we will require
-        final String propName = resolver.getProperty(name); // Simple name of target property
+        final Resolver resolver = getPropertyUtils().getResolver();
+        final String propName = segment.getName(); // Simple name of target property
         Class<?> type = null; // Java type of target property
-        final int index = resolver.getIndex(name); // Indexed subscript value (if any)
-        final String key = resolver.getKey(name); // Mapped key value (if any)
+        final int index = segment.isValid() ? segment.getIndex() : resolver.getIndex(name); // Indexed subscript value (if any)
+        final String key = segment.isValid() ? segment.getKey() : resolver.getKey(name); // Mapped key value (if any)
 
         // Calculate the target property type
         if (target instanceof DynaBean) {
@@ -392,7 +482,7 @@ public class BeanUtilsBean {
         } else {
             PropertyDescriptor descriptor = null;
             try {
-                descriptor = getPropertyUtils().getPropertyDescriptor(target, name);
+                descriptor = getPropertyUtils().getPropertyDescriptor(target, propName);
                 if (descriptor == null) {
                     return; // Skip this property setter
                 }
@@ -439,6 +529,42 @@ public class BeanUtilsBean {
         }
     }
 
+    /**
+     * <p>
+     * Creates a record of the given class from the property values of the origin bean, converting them to the types of the record components as necessary.
+     * The canonical constructor of the record is called once with the converted values, so records can be created although they have no write methods.
+     * </p>
+     * <p>
+     * The origin bean can be a standard JavaBean, a {@link DynaBean} or a {@code Map} with property names as keys; see
+     * {@link PropertyUtilsBean#copyToRecord(Class, Object)} for details. {@code null} values are not converted; for components of primitive types, they are
+     * replaced by the default value of the type.
+     * </p>
+     *
+     * @param <T>         The type of the record
+     * @param recordClass The record class
+     * @param orig        Origin bean whose properties are retrieved
+     * @return The new record
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method or to the canonical constructor
+     * @throws IllegalArgumentException  if the class is not a record class or a converted value cannot be assigned to its component
+     * @throws InstantiationException    if the record cannot be instantiated
+     * @throws InvocationTargetException if the property accessor method or the canonical constructor throws an exception
+     * @throws NullPointerException      if an argument is {@code null}
+     * @since 2.0.0
+     */
+    public <T> T copyToRecord(final Class<T> recordClass, final Object orig) throws IllegalAccessException, InstantiationException,
+            InvocationTargetException {
+        Objects.requireNonNull(orig, "orig");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("BeanUtils.copyToRecord(" + recordClass + ", " + orig + ")");
+        }
+        final RecordComponents components = RecordComponents.forRecordClass(recordClass);
+        final Object[] values = getPropertyUtils().getRecordValues(components, orig);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = convertForCopy(values[i], components.getType(i));
+        }
+        return recordClass.cast(components.newInstance(values));
+    }
+
     /**
      * <p>
      * Return the entire set of properties for which the specified bean provides a read method. This map contains the to {@code String} converted property
@@ -499,7 +625,7 @@ public class BeanUtilsBean {
             final Class<?> clazz = bean.getClass();
             for (final PropertyDescriptor descriptor : descriptors) {
                 final String name = descriptor.getName();
-                if (getPropertyUtils().getReadMethod(clazz, descriptor) != null) {
+                if (getPropertyUtils().getReadMethod(clazz, descriptor) != null || descriptor instanceof FieldPropertyDescriptor) {
                     description.put(name, getProperty(bean, name));
                 }
             }
@@ -544,6 +670,25 @@ public class BeanUtilsBean {
         return results;
     }
 
+    /**
+     * Obtains the conversion plan for copying the properties of beans of one class to beans of another class. The plan is cached together with the copy
+     * plan of the {@code PropertyUtilsBean} and created again if it has become invalid.
+     *
+     * @param destClass The class of the destination beans
+     * @param origClass The class of the origin beans
+     * @return The conversion plan
+     */
+    private ConversionPlan getConversionPlan(final Class<?> destClass, final Class<?> origClass) {
+        final CopyPlan copyPlan = getPropertyUtils().getCopyPlan(destClass, origClass);
+        final ConvertUtilsBean convertUtils = getConvertUtils();
+        ConversionPlan plan = copyPlan.getConversionPlan();
+        if (plan == null || !plan.isValid(convertUtils)) {
+            plan = new ConversionPlan(getPropertyUtils(), convertUtils, destClass, copyPlan);
+            copyPlan.setConversionPlan(plan);
+        }
+        return plan;
+    }
+
     /**
      * Gets the {@code ConvertUtilsBean} instance used to perform the conversions.
      *
@@ -637,6 +782,44 @@ public class BeanUtilsBean {
         return getConvertUtils().convert(value);
     }
 
+    /**
+     * Gets the value of the (possibly nested) property of the specified name, for the specified bean, as a String. Unlike
+     * {@link #getNestedProperty(Object, String)}, this method returns {@code null} as soon as a nested reference evaluates to {@code null}. To enable this
+     * behavior for all nested reads of this instance, use {@link PropertyUtilsBean#setNullSafeNesting(boolean)} on its {@link #getPropertyUtils()
+     * PropertyUtilsBean}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly nested name of the property to be extracted
+     * @return The nested property's value, converted to a String, or {@code null} if a nested reference returns null
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @see PropertyUtilsBean#getNullSafeProperty(Object, String)
+     * @since 2.0.0
+     */
+    public String getNullSafeProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final Object value = getPropertyUtils().getNullSafeProperty(bean, name);
+        return getConvertUtils().convert(value);
+    }
+
+    /**
+     * Gets the value of the property referenced by the specified {@link PropertyPath} of the specified bean, as a String.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param path The parsed property name expression
+     * @return The property's value, converted to a String
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @see PropertyUtilsBean#getPropertyPath(String)
+     * @since 2.0.0
+     */
+    public String getProperty(final Object bean, final PropertyPath path) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final Object value = getPropertyUtils().getNestedProperty(bean, path);
+        return getConvertUtils().convert(value);
+    }
+
     /**
      * Gets the value of the specified property of the specified bean, no matter which property reference format is used, as a String.
      *
@@ -651,6 +834,29 @@ public class BeanUtilsBean {
         return getNestedProperty(bean, name);
     }
 
+    /**
+     * Obtains the populate plan for the class of a bean and the keys of a map, creating it if necessary.
+     *
+     * @param cache      The cache of populate plans
+     * @param beanClass  The bean class
+     * @param properties The map to populate the bean from
+     * @return The populate plan or {@code null} if the maximum number of plans for the bean class has been reached
+     */
+    private PopulatePlan getPopulatePlan(final ClassCache<Map<Set<String>, PopulatePlan>> cache, final Class<?> beanClass,
+            final Map<String, ? extends Object> properties) {
+        final Map<Set<String>, PopulatePlan> plans = cache.get(beanClass);
+        final PopulatePlan plan = plans.get(properties.keySet());
+        if (plan != null && plan.isValid(getPropertyUtils(), getConvertUtils())) {
+            return plan;
+        }
+        if (plan == null && plans.size() >= MAX_POPULATE_PLANS) {
+            return null;
+        }
+        final PopulatePlan created = new PopulatePlan(getPropertyUtils(), getConvertUtils(), beanClass, properties.keySet());
+        plans.put(created.getKeySet(), created);
+        return created;
+    }
+
     /**
      * Gets the {@code PropertyUtilsBean} instance used to access properties.
      *
@@ -675,6 +881,17 @@ public class BeanUtilsBean {
         return getConvertUtils().convert(value);
     }
 
+    /**
+     * Tests whether {@link #populate(Object, Map)} caches populate plans.
+     *
+     * @return {@code true} if populate plans are cached
+     * @see #setCachePopulatePlans(boolean)
+     * @since 2.0.0
+     */
+    public boolean isCachePopulatePlans() {
+        return populatePlansCache != null;
+    }
+
     /**
      * <p>
      * Populate the JavaBeans properties of the specified bean, based on the specified name/value pairs. This method uses Java reflection APIs to identify
@@ -698,6 +915,11 @@ public class BeanUtilsBean {
      * what you want for general property copying with type conversion. For that purpose, check out the {@code copyProperties()} method instead.
      * </p>
      *
+     * <p>
+     * If {@link #setCachePopulatePlans(boolean) populate plans} are cached, the setters and {@link Converter}s for the keys of the map are looked up once per
+     * bean class and set of keys.
+     * </p>
+     *
      * @param bean       JavaBean whose properties are being populated
      * @param properties Map keyed by property name, with the corresponding (String or String[]) value(s) to be set
      * @throws IllegalAccessException    if the caller does not have access to the property accessor method
@@ -711,6 +933,14 @@ public class BeanUtilsBean {
         if (LOG.isDebugEnabled()) {
             LOG.debug("BeanUtils.populate(" + bean + ", " + properties + ")");
         }
+        final ClassCache<Map<Set<String>, PopulatePlan>> cache = populatePlansCache;
+        if (cache != null && plannedPopulate && !(bean instanceof DynaBean) && !(bean instanceof Map)) {
+            final PopulatePlan plan = getPopulatePlan(cache, bean.getClass(), properties);
+            if (plan != null) {
+                populate(bean, properties, plan);
+                return;
+            }
+        }
 
         // Loop through the property name/value pairs to be set
         for (final Map.Entry<String, ? extends Object> entry : properties.entrySet()) {
@@ -725,6 +955,132 @@ public class BeanUtilsBean {
         }
     }
 
+    /**
+     * Populates the properties of a bean according to a populate plan. Keys which are not contained in the plan are assigned by
+     * {@link #setProperty(Object, String, Object)}.
+     *
+     * @param bean       JavaBean whose properties are being populated
+     * @param properties Map keyed by property name, with the corresponding (String or String[]) value(s) to be set
+     * @param plan       The populate plan for the class of the bean and the keys of the map
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    private void populate(final Object bean, final Map<String, ? extends Object> properties, final PopulatePlan plan)
+            throws IllegalAccessException, InvocationTargetException {
+        int expected = 0;
+        for (final Map.Entry<String, ? extends Object> entry : properties.entrySet()) {
+            final String name = entry.getKey();
+            if (name == null) {
+                continue;
+            }
+            final int index = plan.indexOf(name, expected);
+            if (index < 0) {
+                setProperty(bean, name, entry.getValue());
+                continue;
+            }
+            expected = index + 1;
+            final PopulatePlan.Assignment assignment = plan.getAssignment(index);
+            if (assignment == PopulatePlan.Assignment.SKIP) {
+                continue;
+            }
+            if (assignment == PopulatePlan.Assignment.SET_PROPERTY) {
+                setProperty(bean, name, entry.getValue());
+                continue;
+            }
+            final Object value = entry.getValue() instanceof String[] ? ((String[]) entry.getValue())[0] : entry.getValue();
+            final Object newValue;
+            switch (assignment) {
+            case CONVERTER:
+                newValue = plan.getConverter(index).convert(plan.getType(index), value);
+                break;
+            case NONE:
+                newValue = value;
+                break;
+            case STRING:
+                newValue = value instanceof String ? value : getConvertUtils().convert(value, String.class);
+                break;
+            default:
+                newValue = getConvertUtils().convert(value, plan.getType(index));
+                break;
+            }
+            getPropertyUtils().writeProperty(bean, plan.getWriter(index), name, newValue);
+        }
+    }
+
+    /**
+     * Creates a record of the given class from the specified name/value pairs, the counterpart of {@link #populate(Object, Map)} for records. The values are
+     * converted to the types of the record components, for instance from {@code String} or {@code String[]} request parameters, and passed to the canonical
+     * constructor in a single call. Components without a value in the map get {@code null}, or the default value of their primitive type. Keys which are
+     * not names of components are ignored.
+     *
+     * @param <T>         The type of the record
+     * @param recordClass The record class
+     * @param properties  Map keyed by component name, with the corresponding values
+     * @return The new record
+     * @throws IllegalAccessException    if the caller does not have access to the canonical constructor
+     * @throws IllegalArgumentException  if the class is not a record class or a converted value cannot be assigned to its component
+     * @throws InstantiationException    if the record cannot be instantiated
+     * @throws InvocationTargetException if the canonical constructor throws an exception
+     * @throws NullPointerException      if an argument is {@code null}
+     * @since 2.0.0
+     */
+    public <T> T populateRecord(final Class<T> recordClass, final Map<String, ? extends Object> properties) throws IllegalAccessException,
+            InstantiationException, InvocationTargetException {
+        return copyToRecord(recordClass, Objects.requireNonNull(properties, "properties"));
+    }
+
+    /**
+     * Performs the lookups which this bean would otherwise perform lazily when the properties of the given classes are accessed for the first time, in
+     * parallel on the given executor. See {@link PropertyUtilsBean#prewarm(Collection, Executor)} for details.
+     *
+     * @param classes  The bean classes
+     * @param executor The executor performing the warm-up, {@code null} for the common {@link ForkJoinPool}
+     * @return A future which is completed when all classes have been processed; it is completed exceptionally if any class could not be processed
+     * @throws NullPointerException if the collection or one of its elements is {@code null}
+     * @since 2.0.0
+     */
+    public CompletableFuture<Void> prewarm(final Collection<Class<?>> classes, final Executor executor) {
+        return getPropertyUtils().prewarm(classes, executor);
+    }
+
+    /**
+     * Creates the plans which {@link #copyProperties(Object, Object)} uses for copying the properties of beans of the given origin classes to beans of the
+     * destination class, including the {@link Converter}s to be applied, in parallel on the given executor. The plans are created again when Converters are
+     * registered or deregistered afterwards.
+     *
+     * @param destClass   The class of the destination beans
+     * @param origClasses The classes of the origin beans
+     * @param executor    The executor performing the warm-up, {@code null} for the common {@link ForkJoinPool}
+     * @return A future which is completed when all plans have been created; it is completed exceptionally if any plan could not be created
+     * @throws NullPointerException if an argument is {@code null} or the collection contains {@code null}
+     * @since 2.0.0
+     */
+    public CompletableFuture<Void> prewarmCopy(final Class<?> destClass, final Collection<Class<?>> origClasses, final Executor executor) {
+        if (!plannedCopy) {
+            return getPropertyUtils().prewarmCopy(destClass, origClasses, executor);
+        }
+        Objects.requireNonNull(destClass, "destClass");
+        return PropertyUtilsBean.forEachAsync(Objects.requireNonNull(origClasses, "origClasses"), executor,
+                origClass -> getConversionPlan(destClass, origClass));
+    }
+
+    /**
+     * Sets whether {@link #populate(Object, Map)} caches populate plans. A populate plan is created for a bean class and a set of map keys. It stores the
+     * setter and the {@link Converter} to be used for each key, so that populating further beans of the same class from maps with the same keys does not
+     * need to look them up again. Keys which are no simple property names are still handled by {@link #setProperty(Object, String, Object)}.
+     * <p>
+     * Plans are only cached for a limited number of different key sets per bean class. They are discarded when populate plans are disabled.
+     * </p>
+     *
+     * @param cachePopulatePlans {@code true} to cache populate plans, {@code false} otherwise (the default)
+     * @since 2.0.0
+     */
+    public void setCachePopulatePlans(final boolean cachePopulatePlans) {
+        if (cachePopulatePlans != isCachePopulatePlans()) {
+            populatePlansCache = cachePopulatePlans ? ClassCache.createPerInstance(type -> new ConcurrentHashMap<>()) : null;
+        }
+    }
+
     /**
      * <p>
      * Set the specified property value, performing type conversions as required to conform to the type of the destination property.
@@ -787,15 +1143,15 @@ public class BeanUtilsBean {
         Object target = bean;
         final Resolver resolver = getPropertyUtils().getResolver();
         while (resolver.hasNested(name)) {
-            try {
-                target = getPropertyUtils().getProperty(target, resolver.next(name));
-                if (target == null) { // the value of a nested property is null
-                    return;
-                }
-                name = resolver.remove(name);
-            } catch (final NoSuchMethodException e) {
+            final PropertyProbe probe = getPropertyUtils().tryGetProperty(target, resolver.next(name));
+            if (!probe.isAvailable()) {
                 return; // Skip this property setter
             }
+            target = probe.getValue();
+            if (target == null) { // the value of a nested property is null
+                return;
+            }
+            name = resolver.remove(name);
         }
         if (LOG.isTraceEnabled()) {
             LOG.trace("    Target bean = " + target);
@@ -860,7 +1216,7 @@ public class BeanUtilsBean {
                 }
                 type = value == null ? Object.class : value.getClass();
             } else {
-                if (descriptor.getWriteMethod() == null) {
+                if (!FieldPropertyDescriptor.hasWriter(descriptor)) {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Skipping read-only property");
                     }
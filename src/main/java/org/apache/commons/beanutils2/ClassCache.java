@@ -0,0 +1,483 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+import org.apache.commons.collections4.map.ConcurrentReferenceHashMap;
+import org.apache.commons.collections4.map.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * A cache for metadata derived from classes. The value for a class is computed by a loader function on first access and then kept until the cache is
+ * cleared or the class becomes unreachable.
+ * <p>
+ * Two backends are available:
+ * </p>
+ * <ul>
+ * <li>{@link Backend#CLASS_VALUE} (the default for static caches) stores the values in a {@link ClassValue}. The JVM attaches the values directly to
+ * the class objects, so a lookup does not need to hash the class or to follow references. A value is held strongly by its class for as long as the class
+ * is alive, so it must not reference classes of other class loaders (see {@link #isVisible(Class, Class)}); a value referencing its own class does not
+ * prevent the class from being unloaded together with its class loader. The values are instances of classes of this library, so they are only attached
+ * to classes loaded by the class loader of this library or one of its descendants. Otherwise, a class of an ancestor class loader, for instance
+ * {@code String}, would keep this library and its class loader reachable, for instance after a web application has been undeployed. The values of other
+ * classes are stored in a map with weak keys and soft values, as by the reference map backend. {@link #clear()} only discards the {@code ClassValue}; the
+ * values it has computed stay attached to their classes until the JVM expunges them, which happens lazily when values of the same class are accessed
+ * again. Clearing therefore does not free memory promptly. As the JVM handles many short-lived {@code ClassValue} instances poorly, this backend is meant
+ * for static caches which exist as long as this library.</li>
+ * <li>{@link Backend#REFERENCE_MAP} stores the values in a {@link ConcurrentReferenceHashMap} with weak keys and soft values. A value referencing its class
+ * keeps the class reachable until the garbage collector clears the value under memory pressure; it is computed again when needed. Clearing the cache
+ * releases the values immediately.</li>
+ * </ul>
+ * <p>
+ * The caches of instances, see {@link #createPerInstance(Function)}, always use {@link ConcurrentReferenceHashMap}s with weak keys rather than a
+ * {@code ClassValue} per instance. The values of classes visible from this library, which cannot be unloaded before it, are held strongly and are never
+ * computed again unless the cache is cleared. The values of other classes are held softly, because a value referencing its class would otherwise keep
+ * the class loader of the class reachable, for instance after a web application has been undeployed.
+ * </p>
+ * <p>
+ * The backend used by the static caches of this library is selected once by the system property {@value #BACKEND_PROPERTY}; the value
+ * {@code referenceMap} selects the reference map backend.
+ * </p>
+ * <p>
+ * With both backends, a missing value is computed by a single thread: if multiple threads request it concurrently, the others wait for the result instead
+ * of repeating the computation. No global lock is involved. If the loader requests the value of the class it is computing, it is computed again in a nested
+ * call rather than blocking forever.
+ * </p>
+ *
+ * @param <V> The type of the cached values
+ */
+abstract class ClassCache<V> {
+
+    /**
+     * The available storage backends.
+     */
+    enum Backend {
+
+        /** Stores the values in a {@link ClassValue}. */
+        CLASS_VALUE,
+
+        /** Stores the values in a map with weak keys and soft values. */
+        REFERENCE_MAP
+    }
+
+    /**
+     * The backend storing the values in a {@link ClassValue}.
+     *
+     * @param <V> The type of the cached values
+     */
+    private static final class ClassValueCache<V> extends ClassCache<V> {
+
+        /**
+         * The storage of the values. The in-flight computations belong to the storage, so that a computation started before the cache was cleared does not
+         * provide values for the new storage.
+         */
+        private final class Values extends ClassValue<V> {
+
+            /** The computations currently running. */
+            private final Map<Class<?>, Load<V>> inFlight = new ConcurrentHashMap<>();
+
+            @Override
+            protected V computeValue(final Class<?> type) {
+                return load(inFlight, type);
+            }
+        }
+
+        /** The current storage, replaced when the cache is cleared. */
+        private volatile Values values = new Values();
+
+        /** The storage of the values of classes to which values must not be attached, see {@link ClassCache#isAttachable(Class)}. */
+        private final ReferenceMapCache<V> foreign;
+
+        ClassValueCache(final Function<Class<?>, ? extends V> loader) {
+            super(loader);
+            foreign = new ReferenceMapCache<>(loader, ReferenceType.SOFT);
+        }
+
+        @Override
+        void clear() {
+            values = new Values();
+            foreign.clear();
+        }
+
+        @Override
+        void clearSoftValues() {
+            foreign.clearSoftValues();
+        }
+
+        @Override
+        V get(final Class<?> type) {
+            return isAttachable(type) ? values.get(type) : foreign.get(type);
+        }
+
+        @Override
+        Backend getBackend() {
+            return Backend.CLASS_VALUE;
+        }
+    }
+
+    /**
+     * A computation of the value for a single class whose result can be awaited by other threads.
+     *
+     * @param <V> The type of the computed value
+     */
+    private static final class Load<V> extends FutureTask<V> {
+
+        /** The thread which has created this task and is going to run it. */
+        private final Thread owner = Thread.currentThread();
+
+        /**
+         * Creates a new instance for the given class.
+         *
+         * @param loader The function computing the value
+         * @param type   The class whose value is to be computed
+         */
+        Load(final Function<Class<?>, ? extends V> loader, final Class<?> type) {
+            super(() -> loader.apply(type));
+        }
+
+        /**
+         * Waits for the result of the computation. Interruptions are recorded, but do not abort waiting, because the result cannot be obtained otherwise.
+         *
+         * @return The computed value
+         */
+        V join() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return get();
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    } catch (final ExecutionException e) {
+                        final Throwable cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw new IllegalStateException(cause);
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * The cache of an object, holding the values of classes visible from this library strongly and the values of other classes softly.
+     *
+     * @param <V> The type of the cached values
+     */
+    private static final class PerInstanceCache<V> extends ClassCache<V> {
+
+        /** The values of the classes visible from this library. */
+        private final ReferenceMapCache<V> visible;
+
+        /** The values of the other classes. */
+        private final ReferenceMapCache<V> foreign;
+
+        PerInstanceCache(final Function<Class<?>, ? extends V> loader) {
+            super(loader);
+            visible = new ReferenceMapCache<>(loader, ReferenceType.STRONG);
+            foreign = new ReferenceMapCache<>(loader, ReferenceType.SOFT);
+        }
+
+        @Override
+        void clear() {
+            visible.clear();
+            foreign.clear();
+        }
+
+        @Override
+        void clearSoftValues() {
+            foreign.clearSoftValues();
+        }
+
+        @Override
+        V get(final Class<?> type) {
+            return isVisible(type, ClassCache.class) ? visible.get(type) : foreign.get(type);
+        }
+
+        @Override
+        Backend getBackend() {
+            return Backend.REFERENCE_MAP;
+        }
+    }
+
+    /**
+     * The backend storing the values in a map with weak keys and soft or strong values.
+     *
+     * @param <V> The type of the cached values
+     */
+    private static final class ReferenceMapCache<V> extends ClassCache<V> {
+
+        /** The cached values. */
+        private final Map<Class<?>, V> values;
+
+        /** The reference type of the values. */
+        private final ReferenceType valueType;
+
+        /** The computations currently running. */
+        private final Map<Class<?>, Load<V>> inFlight = new ConcurrentHashMap<>();
+
+        ReferenceMapCache(final Function<Class<?>, ? extends V> loader, final ReferenceType valueType) {
+            super(loader);
+            this.valueType = valueType;
+            // @formatter:off
+            values = new ConcurrentReferenceHashMap.Builder<Class<?>, V>()
+                    .setKeyReferenceType(ReferenceType.WEAK)
+                    .setValueReferenceType(valueType)
+                    .get();
+            // @formatter:on
+        }
+
+        @Override
+        void clear() {
+            values.clear();
+        }
+
+        @Override
+        void clearSoftValues() {
+            if (valueType != ReferenceType.STRONG) {
+                values.clear();
+            }
+        }
+
+        @Override
+        V get(final Class<?> type) {
+            final V value = values.get(type);
+            return value != null ? value : load(inFlight, type);
+        }
+
+        @Override
+        Backend getBackend() {
+            return Backend.REFERENCE_MAP;
+        }
+
+        @Override
+        V loaded(final Class<?> type, final V value) {
+            if (value == null) {
+                return null;
+            }
+            // a thread which has missed the stored value may have computed it again
+            final V existing = values.putIfAbsent(type, value);
+            return existing != null ? existing : value;
+        }
+    }
+
+    /** The name of the system property selecting the backend of the caches of this library. */
+    static final String BACKEND_PROPERTY = "org.apache.commons.beanutils2.classCache";
+
+    /** The class loader of this library. */
+    private static final ClassLoader LIBRARY_LOADER = ClassCache.class.getClassLoader();
+
+    /** The backend used by {@link #create(Function)} for static caches. */
+    static final Backend DEFAULT_BACKEND = defaultBackend();
+
+    /**
+     * Creates a new cache using the default backend. This method is intended for static caches; caches owned by objects which may be created in large numbers
+     * or discarded use {@link #createPerInstance(Function)}.
+     *
+     * @param <V>    The type of the cached values
+     * @param loader The function computing the value for a class
+     * @return The new cache
+     */
+    static <V> ClassCache<V> create(final Function<Class<?>, ? extends V> loader) {
+        return create(DEFAULT_BACKEND, loader);
+    }
+
+    /**
+     * Creates a new cache using the given backend.
+     *
+     * @param <V>     The type of the cached values
+     * @param backend The backend
+     * @param loader  The function computing the value for a class
+     * @return The new cache
+     */
+    static <V> ClassCache<V> create(final Backend backend, final Function<Class<?>, ? extends V> loader) {
+        Objects.requireNonNull(loader, "loader");
+        switch (Objects.requireNonNull(backend, "backend")) {
+        case REFERENCE_MAP:
+            return new ReferenceMapCache<>(loader, ReferenceType.SOFT);
+        default:
+            return new ClassValueCache<>(loader);
+        }
+    }
+
+    /**
+     * Creates a new cache owned by an object, for instance a {@code PropertyUtilsBean}. It uses maps with weak keys rather than a {@code ClassValue} per
+     * object; the values of classes visible from this library are held strongly, the values of other classes softly.
+     *
+     * @param <V>    The type of the cached values
+     * @param loader The function computing the value for a class
+     * @return The new cache
+     */
+    static <V> ClassCache<V> createPerInstance(final Function<Class<?>, ? extends V> loader) {
+        return new PerInstanceCache<>(Objects.requireNonNull(loader, "loader"));
+    }
+
+    /**
+     * Creates a new cache owned by an object which holds the values of all classes strongly, including the classes of other class loaders. The values are
+     * released only when the cache is cleared or becomes unreachable, so they keep the classes they reference and their class loaders reachable until then.
+     *
+     * @param <V>    The type of the cached values
+     * @param loader The function computing the value for a class
+     * @return The new cache
+     */
+    static <V> ClassCache<V> createStrong(final Function<Class<?>, ? extends V> loader) {
+        return new ReferenceMapCache<>(Objects.requireNonNull(loader, "loader"), ReferenceType.STRONG);
+    }
+
+    /**
+     * Determines the default backend from the system property {@value #BACKEND_PROPERTY}.
+     *
+     * @return The default backend
+     */
+    private static Backend defaultBackend() {
+        try {
+            final String value = System.getProperty(BACKEND_PROPERTY);
+            if ("referenceMap".equalsIgnoreCase(value) || Backend.REFERENCE_MAP.name().equalsIgnoreCase(value)) {
+                return Backend.REFERENCE_MAP;
+            }
+        } catch (final SecurityException e) {
+            // use the default
+        }
+        return Backend.CLASS_VALUE;
+    }
+
+    /**
+     * Tests whether values of this library may be attached to the given class by a {@code ClassValue}. This is the case if the class has been loaded by
+     * the class loader of this library or one of its descendants; then, the values do not keep a class loader reachable which would not be reachable
+     * anyway.
+     *
+     * @param type The class
+     * @return {@code true} if values may be attached to the class
+     */
+    static boolean isAttachable(final Class<?> type) {
+        return type.getClassLoader() == LIBRARY_LOADER || isVisible(ClassCache.class, type);
+    }
+
+    /**
+     * Tests whether a class is visible from another class, that is whether it has been loaded by the class loader of the other class or by one of its
+     * ancestors. A value cached for the other class may only reference visible classes; otherwise it would keep their class loader reachable as long as
+     * the other class exists.
+     *
+     * @param type The class to be referenced
+     * @param from The class whose cached value references {@code type}
+     * @return {@code true} if {@code type} is visible from {@code from}
+     */
+    static boolean isVisible(final Class<?> type, final Class<?> from) {
+        final ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        try {
+            for (ClassLoader current = from.getClassLoader(); current != null; current = current.getParent()) {
+                if (current == loader) {
+                    return true;
+                }
+            }
+        } catch (final SecurityException e) {
+            // cannot be determined, assume the worst
+        }
+        return false;
+    }
+
+    /** The function computing the values. */
+    private final Function<Class<?>, ? extends V> loader;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param loader The function computing the value for a class
+     */
+    ClassCache(final Function<Class<?>, ? extends V> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Removes all values from this cache.
+     */
+    abstract void clear();
+
+    /**
+     * Removes the values held by soft references from this cache, as the garbage collector may do under memory pressure. The values held strongly are kept.
+     */
+    abstract void clearSoftValues();
+
+    /**
+     * Gets the value for the given class, computing it if necessary.
+     *
+     * @param type The class
+     * @return The value, may be {@code null} if the loader returned {@code null}
+     * @throws NullPointerException if the class is {@code null}
+     */
+    abstract V get(Class<?> type);
+
+    /**
+     * Gets the backend of this cache.
+     *
+     * @return The backend
+     */
+    abstract Backend getBackend();
+
+    /**
+     * Computes the value for the given class, or waits for the computation if another thread is already performing it.
+     *
+     * @param inFlight The computations currently running
+     * @param type     The class
+     * @return The value
+     */
+    final V load(final Map<Class<?>, Load<V>> inFlight, final Class<?> type) {
+        final Load<V> load = new Load<>(t -> loaded(t, loader.apply(t)), type);
+        final Load<V> running = inFlight.putIfAbsent(type, load);
+        if (running == null) {
+            try {
+                load.run();
+            } finally {
+                inFlight.remove(type, load);
+            }
+            return load.join();
+        }
+        if (running.owner == Thread.currentThread()) {
+            // the loader has requested the class it is computing, waiting would block forever
+            return loader.apply(type);
+        }
+        return running.join();
+    }
+
+    /**
+     * Notifies this cache that a value has been computed, before concurrent requests for the same class stop waiting for it. This implementation returns the
+     * value unchanged; the {@code ClassValue} stores it itself.
+     *
+     * @param type  The class
+     * @param value The computed value
+     * @return The value to be returned for the class
+     */
+    V loaded(final Class<?> type, final V value) {
+        return value;
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.beanutils2.expression.PropertyPath;
+
+/**
+ * <p>
+ * A property name expression which has been bound to a root bean class by {@link PropertyUtilsBean#compile(Class, String)}.
+ * </p>
+ * <p>
+ * When a property is accessed via {@link PropertyUtilsBean#getNestedProperty(Object, String)}, the accessor methods of all segments of the expression are
+ * looked up on each call. A {@code CompiledProperty} instead resolves the accessors of simple property segments once: starting at the root class, the chain
+ * of read methods and their return types is followed, and the accessors found are stored in a small cache per segment. At runtime, the class of the current
+ * object is compared with the classes in this cache; on a hit, the accessor is invoked directly. Objects of other classes (for instance subclasses of the
+ * declared property types) are added to the cache when they are encountered, up to a small number of different classes per segment. Beyond that, and for
+ * segments which cannot be bound to an accessor (indexed and mapped segments, {@code Map}s and {@code DynaBean}s, properties without an accessible read
+ * method), the generic logic of {@link PropertyUtilsBean} is used, still based on the pre-parsed {@link PropertyPath}.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe. The results of {@link #get(Object)} and {@link #set(Object, Object)} are the same as those of the corresponding
+ * methods of {@code PropertyUtilsBean}, including the exceptions thrown.
+ * </p>
+ *
+ * @see PropertyUtilsBean#compile(Class, String)
+ * @since 2.0.0
+ */
+public final class CompiledProperty {
+
+    /**
+     * An entry of an inline cache, associating a bean class with the accessor of a property.
+     */
+    private static final class Entry {
+
+        /** The bean class. */
+        private final Class<?> type;
+
+        /** The accessor, {@code null} if the property cannot be accessed directly on this class. */
+        private final PropertyHandle handle;
+
+        Entry(final Class<?> type, final PropertyHandle handle) {
+            this.type = type;
+            this.handle = handle;
+        }
+    }
+
+    /**
+     * The inline cache for a single segment.
+     */
+    private static final class InlineCache {
+
+        /** The entries of this cache, replaced as a whole when a class is added. */
+        private volatile Entry[] entries = {};
+
+        /**
+         * Adds an entry for the given class if the cache has not yet reached its maximum size.
+         *
+         * @param type   The bean class
+         * @param handle The accessor
+         */
+        void add(final Class<?> type, final PropertyHandle handle) {
+            final Entry[] current = entries;
+            if (current.length < MAX_CACHED_TYPES) {
+                final Entry[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = new Entry(type, handle);
+                entries = updated;
+            }
+        }
+
+        /**
+         * Looks up the entry for the given class.
+         *
+         * @param type The bean class
+         * @return The entry or {@code null} if the class is not cached
+         */
+        Entry lookup(final Class<?> type) {
+            for (final Entry entry : entries) {
+                if (entry.type == type) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Tests whether further classes can be added to this cache.
+         *
+         * @return {@code true} if the cache is full
+         */
+        boolean isFull() {
+            return entries.length >= MAX_CACHED_TYPES;
+        }
+    }
+
+    /** The maximum number of classes cached per segment. */
+    private static final int MAX_CACHED_TYPES = 4;
+
+    /**
+     * Tests whether the accessor of a segment can be cached for objects of the given class.
+     *
+     * @param segment The segment
+     * @param type    The class of the object the segment is evaluated on
+     * @return {@code true} if the segment is a simple property of a regular bean class
+     */
+    private static boolean isBindable(final PropertyPath.Segment segment, final Class<?> type) {
+        return !segment.isIndexed() && !segment.isMapped() && !Map.class.isAssignableFrom(type) && !DynaBean.class.isAssignableFrom(type);
+    }
+
+    /** The PropertyUtilsBean used for resolving accessors and for the generic access logic. */
+    private final PropertyUtilsBean propertyUtils;
+
+    /** The root class. */
+    private final Class<?> beanClass;
+
+    /** The parsed expression. */
+    private final PropertyPath path;
+
+    /** The inline caches of the single segments. */
+    private final InlineCache[] caches;
+
+    /** The declared type of the property as resolved from the root class, {@code null} if it cannot be determined in advance. */
+    private final Class<?> propertyType;
+
+    /** Whether values are read through the handles, which is not the case if the PropertyUtilsBean calls overridden getters. */
+    private final boolean directReads;
+
+    /**
+     * Creates a new instance and resolves the accessors along the declared types of the property chain.
+     *
+     * @param propertyUtils The PropertyUtilsBean
+     * @param beanClass     The root class
+     * @param path          The parsed expression
+     */
+    CompiledProperty(final PropertyUtilsBean propertyUtils, final Class<?> beanClass, final PropertyPath path) {
+        this.propertyUtils = propertyUtils;
+        this.beanClass = beanClass;
+        this.path = path;
+        this.caches = new InlineCache[path.size()];
+        Class<?> type = beanClass;
+        for (int i = 0; i < caches.length; i++) {
+            caches[i] = new InlineCache();
+            final PropertyPath.Segment segment = path.getSegment(i);
+            if (type == null || type.isPrimitive() || !isBindable(segment, type)) {
+                type = null;
+                continue;
+            }
+            final PropertyHandle handle = propertyUtils.getPropertyHandle(type, segment.getName());
+            // objects of abstract types do not exist, so there is no point in caching them
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                caches[i].add(type, handle);
+            }
+            type = handle != null ? handle.getReadType() : null;
+        }
+        this.propertyType = type;
+        this.directReads = !propertyUtils.isDelegatingGetters();
+    }
+
+    /**
+     * Gets the value of this property from the specified bean, with no type conversions. This is equivalent to
+     * {@link PropertyUtilsBean#getNestedProperty(Object, String)}, so it honors the {@link PropertyUtilsBean#setNullSafeNesting(boolean) null-safe
+     * nesting} setting of the {@code PropertyUtilsBean} this property has been compiled by.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null
+     * @throws NestedNullException       if a nested reference to a property returns null and null-safe nesting is disabled
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    public Object get(final Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return get(bean, propertyUtils.isNullSafeNesting());
+    }
+
+    /**
+     * Gets the value of this property from the specified bean.
+     *
+     * @param bean     Bean whose property is to be extracted
+     * @param nullSafe Whether a nested reference returning null yields {@code null}
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private Object get(final Object bean, final boolean nullSafe) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final int last = caches.length - 1;
+        final Object parent = resolveParent(bean, last, nullSafe);
+        return parent != null ? read(parent, last) : null;
+    }
+
+    /**
+     * Gets the root bean class this property has been compiled for.
+     *
+     * @return The root bean class
+     */
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Gets the value of this property from the specified bean as {@code boolean}. This is equivalent to
+     * {@link PropertyUtilsBean#getBooleanProperty(Object, String)}: if the property has a read method or field of type {@code boolean}, it is read without
+     * boxing; otherwise, the value is converted. Nested references returning null always cause an exception.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value is not a {@code Boolean}
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public boolean getBoolean(final Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return readPrimitive(bean, PrimitiveType.BOOLEAN) != 0;
+    }
+
+    /**
+     * Gets the value of this property from the specified bean as {@code double}. This is equivalent to
+     * {@link PropertyUtilsBean#getDoubleProperty(Object, String)}: if the property has a read method or field of type {@code double}, it is read without
+     * boxing; otherwise, the value is converted by {@link Number#doubleValue()}. Nested references returning null always cause an exception.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value is not a {@code Number}
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public double getDouble(final Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return Double.longBitsToDouble(readPrimitive(bean, PrimitiveType.DOUBLE));
+    }
+
+    /**
+     * Gets the value of this property from the specified bean as {@code int}. This is equivalent to
+     * {@link PropertyUtilsBean#getIntProperty(Object, String)}: if the property has a read method or field of type {@code int}, it is read without
+     * boxing; otherwise, the value is converted by {@link Number#intValue()}. Nested references returning null always cause an exception.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value is not a {@code Number}
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public int getInt(final Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return (int) readPrimitive(bean, PrimitiveType.INT);
+    }
+
+    /**
+     * Gets the value of this property from the specified bean as {@code long}. This is equivalent to
+     * {@link PropertyUtilsBean#getLongProperty(Object, String)}: if the property has a read method or field of type {@code long}, it is read without
+     * boxing; otherwise, the value is converted by {@link Number#longValue()}. Nested references returning null always cause an exception.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value is not a {@code Number}
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public long getLong(final Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return readPrimitive(bean, PrimitiveType.LONG);
+    }
+
+    /**
+     * Obtains the handle to be used for the given segment and object from the inline cache, adding it if possible.
+     *
+     * @param index   The index of the segment
+     * @param current The object the segment is evaluated on
+     * @return The handle or {@code null} if the generic logic has to be used
+     */
+    private PropertyHandle getHandle(final int index, final Object current) {
+        final Class<?> type = current.getClass();
+        final InlineCache cache = caches[index];
+        final Entry entry = cache.lookup(type);
+        if (entry != null) {
+            return entry.handle;
+        }
+        final PropertyPath.Segment segment = path.getSegment(index);
+        if (cache.isFull() || !isBindable(segment, type)) {
+            return null;
+        }
+        final PropertyHandle handle = propertyUtils.getPropertyHandle(type, segment.getName());
+        cache.add(type, handle);
+        return handle;
+    }
+
+    /**
+     * Gets the value of this property from the specified bean, with no type conversions, returning {@code null} as soon as a nested reference evaluates to
+     * {@code null}. This is equivalent to {@link PropertyUtilsBean#getNullSafeProperty(Object, String)}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @return The property value or {@code null} if a nested reference returns null
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public Object getNullSafe(final Object bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return get(bean, true);
+    }
+
+    /**
+     * Gets the parsed property name expression of this property.
+     *
+     * @return The property path
+     */
+    public PropertyPath getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the declared type of this property as resolved along the declared types of the property chain, starting at the root class.
+     *
+     * @return The property type or {@code null} if it cannot be determined without a bean, for instance for indexed or mapped properties
+     */
+    Class<?> getPropertyType() {
+        return propertyType;
+    }
+
+    /**
+     * Reads this property as a value of the given primitive type. This is the implementation of the primitive accessors, for instance {@link #getInt(Object)}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param type The primitive type
+     * @return The property value, see {@link PrimitiveType}
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private long readPrimitive(final Object bean, final PrimitiveType type) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final int last = caches.length - 1;
+        final Object parent = resolveParent(bean, last, false);
+        final PropertyHandle handle = getHandle(last, parent);
+        if (directReads && type.canRead(handle)) {
+            return type.read(handle, parent);
+        }
+        return type.fromValue(read(parent, last), path.toString());
+    }
+
+    /**
+     * Evaluates the segment with the given index.
+     *
+     * @param current The object the segment is evaluated on
+     * @param index   The index of the segment
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private Object read(final Object current, final int index) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final PropertyHandle handle = getHandle(index, current);
+        if (directReads && handle != null && handle.hasReadHandle()) {
+            return handle.read(current);
+        }
+        return propertyUtils.getPathSegment(current, path.getSegment(index));
+    }
+
+    /**
+     * Evaluates all segments before the one with the given index.
+     *
+     * @param bean     The root bean
+     * @param index    The index of the segment whose parent is to be resolved
+     * @param nullSafe Whether a nested reference returning null yields {@code null} rather than an exception
+     * @return The object the segment with the given index has to be evaluated on, {@code null} if a nested reference returns null in null-safe mode
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private Object resolveParent(final Object bean, final int index, final boolean nullSafe)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        Object current = Objects.requireNonNull(bean, "bean");
+        for (int i = 0; i < index; i++) {
+            final Object next = read(current, i);
+            if (next == null) {
+                if (nullSafe) {
+                    return null;
+                }
+                throw new NestedNullException("Null property value for '" + path.getSegment(i).getRemainder() + "' on bean class '" + current.getClass() + "'");
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Sets the value of this property on the specified bean, with no type conversions. This is equivalent to
+     * {@link PropertyUtilsBean#setNestedProperty(Object, String, Object)}.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    public void set(final Object bean, final Object value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final int last = caches.length - 1;
+        final Object parent = resolveParent(bean, last, false);
+        final PropertyHandle handle = getHandle(last, parent);
+        if (handle != null && handle.canWrite(value)) {
+            handle.write(parent, value);
+        } else {
+            propertyUtils.setPathSegment(parent, path.getSegment(last), value);
+        }
+    }
+
+    /**
+     * Sets the value of this property on the specified bean to a {@code boolean} value. This is equivalent to
+     * {@link PropertyUtilsBean#setBooleanProperty(Object, String, boolean)}: if the property has a write method or field of type {@code boolean}, the value is
+     * written without boxing; otherwise, the boxed value is set, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value cannot be assigned to the property
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setBoolean(final Object bean, final boolean value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, PrimitiveType.BOOLEAN, value ? 1 : 0);
+    }
+
+    /**
+     * Sets the value of this property on the specified bean to a {@code double} value. This is equivalent to
+     * {@link PropertyUtilsBean#setDoubleProperty(Object, String, double)}: if the property has a write method or field of type {@code double}, the value is
+     * written without boxing; otherwise, the boxed value is set, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value cannot be assigned to the property
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setDouble(final Object bean, final double value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, PrimitiveType.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Sets the value of this property on the specified bean to a {@code int} value. This is equivalent to
+     * {@link PropertyUtilsBean#setIntProperty(Object, String, int)}: if the property has a write method or field of type {@code int}, the value is
+     * written without boxing; otherwise, the boxed value is set, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value cannot be assigned to the property
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setInt(final Object bean, final int value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, PrimitiveType.INT, value);
+    }
+
+    /**
+     * Sets the value of this property on the specified bean to a {@code long} value. This is equivalent to
+     * {@link PropertyUtilsBean#setLongProperty(Object, String, long)}: if the property has a write method or field of type {@code long}, the value is
+     * written without boxing; otherwise, the boxed value is set, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value cannot be assigned to the property
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setLong(final Object bean, final long value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, PrimitiveType.LONG, value);
+    }
+
+    @Override
+    public String toString() {
+        return beanClass.getName() + ":" + path;
+    }
+
+    /**
+     * Writes this property as a value of the given primitive type. This is the implementation of the primitive accessors, for instance
+     * {@link #setInt(Object, int)}.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param type  The primitive type
+     * @param value Value to which this property is to be set, see {@link PrimitiveType}
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private void writePrimitive(final Object bean, final PrimitiveType type, final long value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final int last = caches.length - 1;
+        final Object parent = resolveParent(bean, last, false);
+        final PropertyHandle handle = getHandle(last, parent);
+        if (type.canWrite(handle)) {
+            type.write(handle, parent, value);
+        } else {
+            propertyUtils.setPathSegment(parent, path.getSegment(last), type.toValue(value));
+        }
+    }
+}
@@ -17,8 +17,10 @@
 
 package org.apache.commons.beanutils2;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An instance of this class represents a value that is provided per (thread) context classloader.
@@ -82,7 +84,9 @@ import java.util.WeakHashMap;
  * </p>
  *
  * <p>
- * <strong>Note:</strong> A WeakHashMap bug in several 1.3 JVMs results in a memory leak for those JVMs.
+ * <strong>Note:</strong> The values are stored in a concurrent map which references the class loaders weakly; entries of collected class loaders are
+ * removed on the next access. Once the value for a class loader has been initialized, {@link #get()} neither acquires a lock nor blocks, so it scales with the
+ * number of threads and does not pin virtual threads. {@link #initialValue()} is invoked under a lock which is specific to the class loader.
  * </p>
  *
  * <p>
@@ -94,52 +98,177 @@ import java.util.WeakHashMap;
  * @see Thread#getContextClassLoader
  */
 public class ContextClassLoaderLocal<T> {
-    private final Map<ClassLoader, T> valueByClassLoader = new WeakHashMap<>();
-    private boolean globalValueInitialized;
-    private T globalValue;
 
     /**
-     * Constructs a context classloader instance
+     * Holds the value for a single class loader, which is initialized on first access.
      */
-    public ContextClassLoaderLocal() {
+    private final class Holder {
+
+        /** Whether the value has been set or initialized. */
+        private volatile boolean initialized;
+
+        /** The value, published by the write to {@code initialized}. */
+        private T value;
+
+        /**
+         * Creates a holder whose value is obtained from {@link ContextClassLoaderLocal#initialValue()} on first access.
+         */
+        Holder() {
+        }
+
+        /**
+         * Creates a holder for the given value.
+         *
+         * @param value The value
+         */
+        Holder(final T value) {
+            this.value = value;
+            initialized = true;
+        }
+
+        /**
+         * Gets the value, initializing it if necessary.
+         *
+         * @return The value
+         */
+        T get() {
+            if (!initialized) {
+                synchronized (this) {
+                    if (!initialized) {
+                        value = initialValue();
+                        initialized = true;
+                    }
+                }
+            }
+            return value;
+        }
     }
 
     /**
-     * Gets the instance which provides the functionality for {@link BeanUtils}. This is a pseudo-singleton - an single instance is provided per (thread)
-     * context classloader. This mechanism provides isolation for web apps deployed in the same container.
-     *
-     * @return The object currently associated with the context-classloader of the current thread.
+     * A key of the map of values. Keys are equal if they refer to the same class loader.
      */
-    public synchronized T get() {
-        // synchronizing the whole method is a bit slower
-        // but guarantees no subtle threading problems, and there's no
-        // need to synchronize valueByClassLoader
+    private interface Key {
 
-        // make sure that the map is given a change to purge itself
-        valueByClassLoader.isEmpty();
-        try {
+        /**
+         * Gets the class loader of this key.
+         *
+         * @return The class loader, {@code null} if it has been garbage collected
+         */
+        ClassLoader getClassLoader();
+    }
+
+    /**
+     * A key used to look up the value of a class loader without registering a reference.
+     */
+    private static final class LookupKey implements Key {
 
-            final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
-            if (contextClassLoader != null) {
+        /** The class loader. */
+        private final ClassLoader classLoader;
 
-                T value = valueByClassLoader.get(contextClassLoader);
-                if (value == null && !valueByClassLoader.containsKey(contextClassLoader)) {
-                    value = initialValue();
-                    valueByClassLoader.put(contextClassLoader, value);
-                }
-                return value;
+        LookupKey(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key && ((Key) obj).getClassLoader() == classLoader;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(classLoader);
+        }
+    }
+
+    /**
+     * A key stored in the map of values, which references the class loader weakly.
+     */
+    private static final class WeakKey extends WeakReference<ClassLoader> implements Key {
 
+        /** The identity hash code of the class loader, which must not change when it is collected. */
+        private final int hash;
+
+        WeakKey(final ClassLoader classLoader, final ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            hash = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
             }
+            final ClassLoader classLoader = get();
+            return classLoader != null && obj instanceof Key && ((Key) obj).getClassLoader() == classLoader;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 
+    /**
+     * Gets the context class loader of the current thread.
+     *
+     * @return The context class loader or {@code null} if it is not set or cannot be accessed
+     */
+    private static ClassLoader getContextClassLoader() {
+        try {
+            return Thread.currentThread().getContextClassLoader();
         } catch (final SecurityException e) {
-            /* SWALLOW - should we log this? */ }
-
-        // if none or exception, return the globalValue
-        if (!globalValueInitialized) {
-            globalValue = initialValue();
-            globalValueInitialized = true;
-        } // else already set
-        return globalValue;
+            /* SWALLOW - should we log this? */
+            return null;
+        }
+    }
+
+    /** The values keyed by the class loaders, which are referenced weakly. */
+    private final Map<Key, Holder> valueByClassLoader = new ConcurrentHashMap<>();
+
+    /** The queue of the keys whose class loaders have been garbage collected. */
+    private final ReferenceQueue<ClassLoader> staleKeys = new ReferenceQueue<>();
+
+    /** The value used if there is no context class loader. */
+    private volatile Holder globalValue = new Holder();
+
+    /**
+     * Constructs a context classloader instance
+     */
+    public ContextClassLoaderLocal() {
+    }
+
+    /**
+     * Gets the instance which provides the functionality for {@link BeanUtils}. This is a pseudo-singleton - an single instance is provided per (thread)
+     * context classloader. This mechanism provides isolation for web apps deployed in the same container.
+     *
+     * @return The object currently associated with the context-classloader of the current thread.
+     */
+    public T get() {
+        removeStaleEntries();
+        final ClassLoader contextClassLoader = getContextClassLoader();
+        if (contextClassLoader == null) {
+            // if none or exception, return the globalValue
+            return globalValue.get();
+        }
+        Holder holder = valueByClassLoader.get(new LookupKey(contextClassLoader));
+        if (holder == null) {
+            final Holder created = new Holder();
+            holder = valueByClassLoader.putIfAbsent(new WeakKey(contextClassLoader, staleKeys), created);
+            if (holder == null) {
+                holder = created;
+            }
+        }
+        return holder.get();
     }
 
     /**
@@ -154,44 +283,42 @@ public class ContextClassLoaderLocal<T> {
         return null;
     }
 
+    /**
+     * Removes the entries of class loaders which have been garbage collected. This is cheap if there are none.
+     */
+    private void removeStaleEntries() {
+        for (Object key = staleKeys.poll(); key != null; key = staleKeys.poll()) {
+            valueByClassLoader.remove(key);
+        }
+    }
+
     /**
      * Sets the value - a value is provided per (thread) context classloader. This mechanism provides isolation for web apps deployed in the same container.
      *
      * @param value The object to be associated with the entrant thread's context classloader
      */
-    public synchronized void set(final T value) {
-        // synchronizing the whole method is a bit slower
-        // but guarantees no subtle threading problems
-
-        // make sure that the map is given a change to purge itself
-        valueByClassLoader.isEmpty();
-        try {
-
-            final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
-            if (contextClassLoader != null) {
-                valueByClassLoader.put(contextClassLoader, value);
-                return;
+    public void set(final T value) {
+        removeStaleEntries();
+        final ClassLoader contextClassLoader = getContextClassLoader();
+        if (contextClassLoader != null) {
+            final Holder holder = new Holder(value);
+            if (valueByClassLoader.replace(new LookupKey(contextClassLoader), holder) == null) {
+                valueByClassLoader.put(new WeakKey(contextClassLoader, staleKeys), holder);
             }
-
-        } catch (final SecurityException e) {
-            /* SWALLOW - should we log this? */ }
-
-        // if in doubt, set the global value
-        globalValue = value;
-        globalValueInitialized = true;
+        } else {
+            // if in doubt, set the global value
+            globalValue = new Holder(value);
+        }
     }
 
     /**
      * Unsets the value associated with the current thread's context classloader
      */
-    public synchronized void unset() {
-        try {
-
-            final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    public void unset() {
+        final ClassLoader contextClassLoader = getContextClassLoader();
+        if (contextClassLoader != null) {
             unset(contextClassLoader);
-
-        } catch (final SecurityException e) {
-            /* SWALLOW - should we log this? */ }
+        }
     }
 
     /**
@@ -199,7 +326,10 @@ public class ContextClassLoaderLocal<T> {
      *
      * @param classLoader The classloader to <em>unset</em> for
      */
-    public synchronized void unset(final ClassLoader classLoader) {
-        valueByClassLoader.remove(classLoader);
+    public void unset(final ClassLoader classLoader) {
+        removeStaleEntries();
+        if (classLoader != null) {
+            valueByClassLoader.remove(new LookupKey(classLoader));
+        }
     }
 }
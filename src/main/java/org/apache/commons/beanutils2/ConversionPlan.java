@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * The conversions to be performed when {@link BeanUtilsBean#copyProperties(Object, Object)} copies the properties of a {@link CopyPlan}.
+ * <p>
+ * {@code BeanUtilsBean.copyProperty()} converts each value by looking up the {@link Converter} for the type of the destination property. For most pairs of
+ * properties, the outcome of this lookup only depends on the declared types of the two properties, so it is determined once per plan:
+ * </p>
+ * <ul>
+ * <li>If no Converter is registered for the destination type, or if the standard Converter would return the value unchanged because it already has the
+ * destination type, the value is copied as it is.</li>
+ * <li>If the standard Converter of a primitive destination type would convert a number of a narrower primitive type, the widening conversion of the write
+ * method is used.</li>
+ * <li>Otherwise, the Converter found is invoked directly.</li>
+ * </ul>
+ * <p>
+ * Conversions to {@code String} depend on the runtime type of the value and are delegated to {@link BeanUtilsBean#convert(Object, Class)}. Properties
+ * which cannot be written directly are copied by {@link BeanUtilsBean#copyProperty(Object, String, Object)}.
+ * </p>
+ * <p>
+ * A plan is bound to the {@link ConvertUtilsBean} it has been created for, and it becomes invalid as soon as a Converter is registered or deregistered.
+ * </p>
+ */
+final class ConversionPlan {
+
+    /**
+     * The ways of copying a single property.
+     */
+    enum Conversion {
+
+        /** The value is copied by {@link BeanUtilsBean#copyProperty(Object, String, Object)}. */
+        COPY,
+
+        /** The value is converted by {@link BeanUtilsBean#convert(Object, Class)}. */
+        CONVERT,
+
+        /** The value is converted by the Converter stored in the plan. */
+        CONVERTER,
+
+        /** The value is copied as it is. */
+        NONE,
+
+        /** The property is not copied at all. */
+        SKIP,
+
+        /** The value is a number which is widened by the write method of the destination property. */
+        WIDENING
+    }
+
+    /** The wrapper types of the primitive numbers, ordered so that a type can be widened to each of the types following it. */
+    private static final List<Class<?>> WIDENING_ORDER = Arrays.asList(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    /**
+     * Finds the type of a property of the destination class.
+     *
+     * @param descriptors The property descriptors of the destination class
+     * @param name        The name of the property
+     * @return The property type or {@code null} if it is not known
+     */
+    private static Class<?> findType(final PropertyDescriptor[] descriptors, final String name) {
+        for (final PropertyDescriptor descriptor : descriptors) {
+            if (name.equals(descriptor.getName())) {
+                return descriptor.getPropertyType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tests whether a subclass overrides a method declared by a base class.
+     *
+     * @param type           The class to be tested
+     * @param base           The base class declaring the method
+     * @param name           The name of the method
+     * @param parameterTypes The parameter types of the method
+     * @return {@code true} if a class between {@code type} (inclusive) and {@code base} (exclusive) declares the method
+     */
+    static boolean isOverridden(final Class<?> type, final Class<?> base, final String name, final Class<?>... parameterTypes) {
+        for (Class<?> current = type; current != null && current != base; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                // continue with the superclass
+            } catch (final SecurityException e) {
+                // cannot be determined, assume the worst
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether the standard Converter for the destination type returns values of the source type unchanged. This is the case if the source type is
+     * final, so that the values are exactly of this type, and if it corresponds to the destination type.
+     *
+     * @param sourceType The declared type of the source property
+     * @param destType   The type of the destination property
+     * @return {@code true} if no conversion takes place
+     */
+    private static boolean isUnchanged(final Class<?> sourceType, final Class<?> destType) {
+        if (sourceType.isArray() || Collection.class.isAssignableFrom(sourceType)) {
+            return false;
+        }
+        return (sourceType.isPrimitive() || Modifier.isFinal(sourceType.getModifiers()))
+                && ClassUtils.primitiveToWrapper(sourceType) == ClassUtils.primitiveToWrapper(destType);
+    }
+
+    /**
+     * Tests whether the standard Converter for a primitive destination type performs a widening primitive conversion for values of the source type.
+     *
+     * @param sourceType The declared type of the source property
+     * @param destType   The type of the destination property
+     * @return {@code true} if the conversion is a widening primitive conversion
+     */
+    private static boolean isWidening(final Class<?> sourceType, final Class<?> destType) {
+        if (!destType.isPrimitive()) {
+            return false;
+        }
+        final int source = WIDENING_ORDER.indexOf(ClassUtils.primitiveToWrapper(sourceType));
+        return source >= 0 && source < WIDENING_ORDER.indexOf(ClassUtils.primitiveToWrapper(destType));
+    }
+
+    /** The properties to be copied. */
+    private final CopyPlan copyPlan;
+
+    /** The ConvertUtilsBean this plan has been created for, referenced weakly as it may hold Converters of other class loaders. */
+    private final WeakReference<ConvertUtilsBean> convertUtils;
+
+    /** The modification count of the ConvertUtilsBean when this plan was created. */
+    private final int modificationCount;
+
+    /** The conversions of the properties. */
+    private final Conversion[] conversions;
+
+    /** The Converters of the properties using {@link Conversion#CONVERTER}. */
+    private final Converter<?>[] converters;
+
+    /** The types of the destination properties. */
+    private final Class<?>[] types;
+
+    /**
+     * Creates a new plan for the properties of the given copy plan.
+     *
+     * @param propertyUtils The {@code PropertyUtilsBean} providing the introspection data
+     * @param convertUtils  The {@code ConvertUtilsBean} performing the conversions
+     * @param destClass     The class of the destination beans
+     * @param copyPlan      The properties to be copied
+     */
+    ConversionPlan(final PropertyUtilsBean propertyUtils, final ConvertUtilsBean convertUtils, final Class<?> destClass, final CopyPlan copyPlan) {
+        // read the count first, a concurrent modification then invalidates this plan
+        this.modificationCount = convertUtils.getModificationCount();
+        this.copyPlan = copyPlan;
+        this.convertUtils = new WeakReference<>(convertUtils);
+        final int size = copyPlan.size();
+        this.conversions = new Conversion[size];
+        this.converters = new Converter<?>[size];
+        this.types = new Class<?>[size];
+        final PropertyDescriptor[] descriptors = propertyUtils.getPropertyDescriptors(destClass);
+        for (int i = 0; i < size; i++) {
+            final String name = copyPlan.getName(i);
+            if ("class".equals(name)) {
+                conversions[i] = Conversion.SKIP; // No point in trying to set an object's class
+                continue;
+            }
+            final Class<?> destType = copyPlan.getWriter(i) != null ? findType(descriptors, name) : null;
+            if (destType == null) {
+                conversions[i] = Conversion.COPY;
+                continue;
+            }
+            types[i] = destType;
+            conversions[i] = resolve(convertUtils, copyPlan.getReader(i).getReadType(), destType, i);
+            if (conversions[i] == Conversion.CONVERTER && !ClassCache.isVisible(converters[i].getClass(), destClass)) {
+                // do not keep the Converter's class loader reachable
+                converters[i] = null;
+                conversions[i] = Conversion.CONVERT;
+            }
+        }
+    }
+
+    /**
+     * Gets the conversion of a property.
+     *
+     * @param index The index of the property
+     * @return The conversion
+     */
+    Conversion getConversion(final int index) {
+        return conversions[index];
+    }
+
+    /**
+     * Gets the Converter of a property.
+     *
+     * @param index The index of the property
+     * @return The Converter or {@code null} if the conversion is not {@link Conversion#CONVERTER}
+     */
+    Converter<?> getConverter(final int index) {
+        return converters[index];
+    }
+
+    /**
+     * Gets the properties to be copied.
+     *
+     * @return The copy plan
+     */
+    CopyPlan getCopyPlan() {
+        return copyPlan;
+    }
+
+    /**
+     * Gets the type of a destination property.
+     *
+     * @param index The index of the property
+     * @return The type or {@code null} if the conversion is {@link Conversion#COPY} or {@link Conversion#SKIP}
+     */
+    Class<?> getType(final int index) {
+        return types[index];
+    }
+
+    /**
+     * Tests whether this plan can be used for conversions by the given {@code ConvertUtilsBean}.
+     *
+     * @param convertUtils The {@code ConvertUtilsBean}
+     * @return {@code true} if this plan has been created for this {@code ConvertUtilsBean} and its Converters have not been modified since
+     */
+    boolean isValid(final ConvertUtilsBean convertUtils) {
+        return this.convertUtils.get() == convertUtils && modificationCount == convertUtils.getModificationCount();
+    }
+
+    /**
+     * Determines the conversion of a single property.
+     *
+     * @param convertUtils The {@code ConvertUtilsBean}
+     * @param sourceType   The declared type of the source property
+     * @param destType     The type of the destination property
+     * @param index        The index of the property
+     * @return The conversion
+     */
+    private Conversion resolve(final ConvertUtilsBean convertUtils, final Class<?> sourceType, final Class<?> destType, final int index) {
+        if (!convertUtils.hasStandardLookup()) {
+            return Conversion.CONVERT;
+        }
+        if (destType == String.class || destType == String[].class) {
+            // the Converter depends on the runtime type of the value
+            return destType == String.class && sourceType == String.class && convertUtils.isStandardConverter(String.class) ? Conversion.NONE
+                    : Conversion.CONVERT;
+        }
+        final Converter<?> converter = convertUtils.lookup(destType);
+        if (converter == null) {
+            return Conversion.NONE;
+        }
+        if (convertUtils.isStandardConverter(destType)) {
+            if (isUnchanged(sourceType, destType)) {
+                return Conversion.NONE;
+            }
+            if (isWidening(sourceType, destType)) {
+                return Conversion.WIDENING;
+            }
+        }
+        converters[index] = converter;
+        return Conversion.CONVERTER;
+    }
+
+    /**
+     * Gets the number of properties.
+     *
+     * @return The number of properties
+     */
+    int size() {
+        return conversions.length;
+    }
+}
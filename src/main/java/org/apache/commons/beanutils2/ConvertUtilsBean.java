@@ -49,6 +49,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.apache.commons.beanutils2.converters.ArrayConverter;
@@ -221,6 +222,20 @@ public class ConvertUtilsBean {
      */
     private final Map<Class<?>, Converter<?>> converters = BeanUtils.createCache();
 
+    /**
+     * The standard {@link Converter}s registered by this bean itself, keyed by the destination Class. A standard Converter is still in effect as long as it is
+     * the one contained in {@link #converters}.
+     */
+    private final Map<Class<?>, Converter<?>> standardConverters = BeanUtils.createCache();
+
+    /** The number of modifications of the registered converters, used to detect stale copy plans. */
+    private final AtomicInteger modificationCount = new AtomicInteger();
+
+    /** Whether the conversion logic of this class is in effect, that is whether a subclass does not override it. */
+    private final boolean standardLookup = !ConversionPlan.isOverridden(getClass(), ConvertUtilsBean.class, "convert", Object.class, Class.class)
+            && !ConversionPlan.isOverridden(getClass(), ConvertUtilsBean.class, "lookup", Class.class, Class.class)
+            && !ConversionPlan.isOverridden(getClass(), ConvertUtilsBean.class, "lookup", Class.class);
+
     /** Constructs a bean with standard converters registered */
     public ConvertUtilsBean() {
         deregister();
@@ -332,6 +347,7 @@ public class ConvertUtilsBean {
     public void deregister() {
 
         converters.clear();
+        standardConverters.clear();
 
         registerPrimitives(false);
         registerStandard(false, false);
@@ -339,6 +355,7 @@ public class ConvertUtilsBean {
         registerArrays(false, 0);
         register(BigDecimal.class, new BigDecimalConverter());
         register(BigInteger.class, new BigIntegerConverter());
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -348,6 +365,37 @@ public class ConvertUtilsBean {
      */
     public void deregister(final Class<?> clazz) {
         converters.remove(clazz);
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of modifications of the registered converters. The number changes whenever a {@link Converter} is registered or deregistered.
+     *
+     * @return The modification count
+     */
+    int getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Tests whether the conversion logic of this class is in effect. This is not the case if a subclass overrides {@link #convert(Object, Class)} or one
+     * of the {@code lookup()} methods; the result of a conversion cannot be predicted then.
+     *
+     * @return {@code true} if conversions are performed by this class
+     */
+    boolean hasStandardLookup() {
+        return standardLookup;
+    }
+
+    /**
+     * Tests whether the {@link Converter} registered for the specified destination class is the standard one registered by this bean itself.
+     *
+     * @param clazz The destination class
+     * @return {@code true} if the standard Converter for this class is registered
+     */
+    boolean isStandardConverter(final Class<?> clazz) {
+        final Converter<?> converter = standardConverters.get(clazz);
+        return converter != null && converter == converters.get(clazz);
     }
 
     /**
@@ -425,7 +473,9 @@ public class ConvertUtilsBean {
 
     /** Strictly for convenience since it has same parameter order as Map.put */
     private <T> void register(final Class<?> clazz, final Converter<T> converter) {
-        register(new ConverterFacade<>(converter), clazz);
+        final Converter<T> facade = new ConverterFacade<>(converter);
+        standardConverters.put(clazz, facade);
+        register(facade, clazz);
     }
 
     /**
@@ -436,6 +486,7 @@ public class ConvertUtilsBean {
      */
     public void register(final Converter converter, final Class<?> clazz) {
         converters.put(clazz, converter);
+        modificationCount.incrementAndGet();
     }
 
     /**
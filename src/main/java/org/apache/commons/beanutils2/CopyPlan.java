@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The properties to be copied from beans of one class to beans of another class by {@link PropertyUtilsBean#copyProperties(Object, Object)}.
+ * <p>
+ * A plan contains the properties of the origin class which have a read method and for which the destination class has a write method, together with the
+ * handles of these methods. It is computed once per pair of classes, so copying a bean does not have to look up the properties of both classes again.
+ * Properties which have no simple read method in the origin class or no simple write method in the destination class are not part of the plan; copying
+ * them would fail with a {@code NoSuchMethodException}, which {@code copyProperties()} ignores.
+ * </p>
+ * <p>
+ * A property name which the resolver does not regard as a simple name cannot be checked in advance. It is added to the plan without a write handle, and
+ * the generic logic of {@code PropertyUtilsBean} is used to write it.
+ * </p>
+ */
+final class CopyPlan {
+
+    /** The names of the properties to be copied. */
+    private final String[] names;
+
+    /** The handles for reading the properties from the origin bean. */
+    private final PropertyHandle[] readers;
+
+    /** The handles for writing the properties to the destination bean, {@code null} if the generic logic is to be used. */
+    private final PropertyHandle[] writers;
+
+    /** The conversions used by {@code BeanUtilsBean} for copying these properties, created on demand. */
+    private volatile ConversionPlan conversionPlan;
+
+    /**
+     * Creates a new plan for copying properties between beans of the given classes.
+     *
+     * @param propertyUtils The {@code PropertyUtilsBean} providing the introspection data
+     * @param destClass     The class of the destination beans
+     * @param origClass     The class of the origin beans
+     */
+    CopyPlan(final PropertyUtilsBean propertyUtils, final Class<?> destClass, final Class<?> origClass) {
+        final List<String> nameList = new ArrayList<>();
+        final List<PropertyHandle> readerList = new ArrayList<>();
+        final List<PropertyHandle> writerList = new ArrayList<>();
+        for (final PropertyDescriptor descriptor : propertyUtils.getPropertyDescriptors(origClass)) {
+            final String name = descriptor.getName();
+            final PropertyHandle reader = propertyUtils.getPropertyHandle(origClass, name);
+            if (reader == null || !reader.isReadable()) {
+                continue;
+            }
+            final PropertyHandle writer = propertyUtils.getWriteHandle(destClass, name);
+            if (writer != null || !propertyUtils.isSimpleName(name)) {
+                nameList.add(name);
+                readerList.add(reader);
+                writerList.add(writer);
+            }
+        }
+        names = nameList.toArray(new String[0]);
+        readers = readerList.toArray(new PropertyHandle[0]);
+        writers = writerList.toArray(new PropertyHandle[0]);
+    }
+
+    /**
+     * Gets the conversions used by {@code BeanUtilsBean} for copying these properties.
+     *
+     * @return The conversion plan or {@code null} if it has not been created yet
+     */
+    ConversionPlan getConversionPlan() {
+        return conversionPlan;
+    }
+
+    /**
+     * Gets the name of a property.
+     *
+     * @param index The index of the property
+     * @return The name of the property
+     */
+    String getName(final int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the handle for reading a property from the origin bean.
+     *
+     * @param index The index of the property
+     * @return The read handle
+     */
+    PropertyHandle getReader(final int index) {
+        return readers[index];
+    }
+
+    /**
+     * Gets the handle for writing a property to the destination bean.
+     *
+     * @param index The index of the property
+     * @return The write handle or {@code null} if the generic logic has to be used
+     */
+    PropertyHandle getWriter(final int index) {
+        return writers[index];
+    }
+
+    /**
+     * Sets the conversions used by {@code BeanUtilsBean} for copying these properties.
+     *
+     * @param conversionPlan The conversion plan
+     */
+    void setConversionPlan(final ConversionPlan conversionPlan) {
+        this.conversionPlan = conversionPlan;
+    }
+
+    /**
+     * Gets the number of properties to be copied.
+     *
+     * @return The number of properties
+     */
+    int size() {
+        return names.length;
+    }
+}
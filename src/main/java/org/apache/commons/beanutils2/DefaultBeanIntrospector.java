@@ -37,6 +37,11 @@ import org.apache.commons.logging.LogFactory;
  * to the Java Beans specification.
  * </p>
  * <p>
+ * For classes annotated with {@link GeneratedAccessors}, the properties are obtained from the {@link BeanAccessors} generated at compile time, so that the
+ * rather expensive {@link Introspector} is not involved. An explicit {@link BeanInfo} takes precedence: if the class or one of its superclasses has one,
+ * the generated accessors are not used for introspection.
+ * </p>
+ * <p>
  * This class is a singleton. The single instance can be obtained using the {@code INSTANCE} field. It does not define any state and thus can be shared by
  * arbitrary clients. {@link PropertyUtils} per default uses this instance as its only {@code BeanIntrospector} object.
  * </p>
@@ -60,6 +65,53 @@ public class DefaultBeanIntrospector implements BeanIntrospector {
     private DefaultBeanIntrospector() {
     }
 
+    /**
+     * Creates the property descriptors described by generated accessors.
+     *
+     * @param beanClass The current class to be inspected
+     * @param accessors The generated accessors of this class
+     * @return The property descriptors or {@code null} if the accessors do not match the class
+     */
+    private PropertyDescriptor[] createDescriptors(final Class<?> beanClass, final BeanAccessors accessors) {
+        final PropertyDescriptor[] descriptors = new PropertyDescriptor[accessors.getPropertyCount()];
+        try {
+            for (int i = 0; i < descriptors.length; i++) {
+                final String readMethodName = accessors.getReadMethodName(i);
+                final String writeMethodName = accessors.getWriteMethodName(i);
+                final Method readMethod = readMethodName != null ? beanClass.getMethod(readMethodName) : null;
+                final Method writeMethod = writeMethodName != null ? beanClass.getMethod(writeMethodName, accessors.getPropertyType(i)) : null;
+                descriptors[i] = new PropertyDescriptor(accessors.getPropertyName(i), readMethod, writeMethod);
+            }
+        } catch (final IntrospectionException | NoSuchMethodException | SecurityException e) {
+            log.warn("The generated accessors do not match " + beanClass + ", using java.beans.Introspector instead", e);
+            return null;
+        }
+        return descriptors;
+    }
+
+    /**
+     * Tests whether an explicit {@link BeanInfo} is available for the given class or one of its superclasses. It is looked up like {@link Introspector} does:
+     * as a class with the name of the bean class and the suffix {@code BeanInfo}, either in the package of the bean class or in one of the packages of the
+     * {@link Introspector#getBeanInfoSearchPath() search path}.
+     *
+     * @param beanClass The current class to be inspected
+     * @return {@code true} if there is an explicit {@code BeanInfo} which {@link Introspector} uses for this class
+     */
+    private static boolean hasExplicitBeanInfo(final Class<?> beanClass) {
+        final String[] searchPath = Introspector.getBeanInfoSearchPath();
+        for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (isBeanInfo(type.getName() + "BeanInfo", type)) {
+                return true;
+            }
+            for (final String pkg : searchPath) {
+                if (isBeanInfo(pkg + "." + type.getSimpleName() + "BeanInfo", type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * This method fixes an issue where IndexedPropertyDescriptor behaves differently in different versions of the JDK for 'indexed' properties which use
      * java.util.List (rather than an array). It implements a workaround for Bug 28358. If you have a Bean with the following getters/setters for an indexed
@@ -124,14 +176,38 @@ public class DefaultBeanIntrospector implements BeanIntrospector {
         }
     }
 
+    /**
+     * Tests whether a class with the given name implementing {@link BeanInfo} can be loaded by the class loader of a bean class.
+     *
+     * @param name The name of the {@code BeanInfo} class
+     * @param type The bean class
+     * @return {@code true} if the class exists and implements {@code BeanInfo}
+     */
+    private static boolean isBeanInfo(final String name, final Class<?> type) {
+        try {
+            return BeanInfo.class.isAssignableFrom(Class.forName(name, false, type.getClassLoader()));
+        } catch (final ClassNotFoundException | LinkageError | SecurityException e) {
+            return false;
+        }
+    }
+
     /**
      * Performs introspection of a specific Java class. This implementation uses the {@code java.beans.Introspector.getBeanInfo()} method to obtain all property
-     * descriptors for the current class and adds them to the passed in introspection context.
+     * descriptors for the current class and adds them to the passed in introspection context. If the class has {@link GeneratedAccessors generated
+     * accessors} and no explicit {@link BeanInfo}, the descriptors are created from the accessors instead.
      *
      * @param icontext The introspection context
      */
     @Override
     public void introspect(final IntrospectionContext icontext) {
+        final BeanAccessors accessors = AccessorRegistry.find(icontext.getTargetClass());
+        if (accessors != null && !hasExplicitBeanInfo(icontext.getTargetClass())) {
+            final PropertyDescriptor[] descriptors = createDescriptors(icontext.getTargetClass(), accessors);
+            if (descriptors != null) {
+                icontext.addPropertyDescriptors(descriptors);
+                return;
+            }
+        }
         BeanInfo beanInfo = null;
         try {
             beanInfo = Introspector.getBeanInfo(icontext.getTargetClass());
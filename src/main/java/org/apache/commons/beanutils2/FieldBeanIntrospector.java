@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.IntrospectionException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * <p>
+ * A {@code BeanIntrospector} implementation which exposes fields as properties.
+ * </p>
+ * <p>
+ * Classes which expose their state in public fields rather than through get and set methods have no properties according to the Java Beans specification.
+ * This class adds a {@link FieldPropertyDescriptor} for each public instance field of a bean class, including inherited fields, and optionally for
+ * non-public fields with configured names. {@link PropertyUtilsBean} reads and writes these properties through method handles bound to the fields, so
+ * field properties work with {@code getProperty()}, {@code setProperty()}, {@code copyProperties()} and the other methods accessing simple properties.
+ * {@code final} fields are read-only.
+ * </p>
+ * <p>
+ * Accessor methods take precedence: if a property with the name of a field has been found by a {@code BeanIntrospector} registered before this one, the
+ * field is ignored. So best results are achieved by adding this instance as custom {@code BeanIntrospector} after the {@link DefaultBeanIntrospector}
+ * object, for instance by calling {@link PropertyUtilsBean#addBeanIntrospector(BeanIntrospector)}. If a class declares a field with the same name as a field
+ * of one of its superclasses, the field of the subclass is used.
+ * </p>
+ * <p>
+ * Non-public fields, and public fields declared by non-public classes, are made accessible by this class. If this is not permitted, they are ignored.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FieldBeanIntrospector implements BeanIntrospector {
+
+    /** An instance which exposes the public instance fields of bean classes. */
+    public static final FieldBeanIntrospector PUBLIC_FIELDS = new FieldBeanIntrospector(Collections.emptySet());
+
+    /** The logger. */
+    private final Log log = LogFactory.getLog(getClass());
+
+    /** The names of the non-public fields to be exposed. */
+    private final Set<String> fieldNames;
+
+    /**
+     * Creates a new instance of {@code FieldBeanIntrospector} which exposes the public instance fields of bean classes and the non-public instance fields
+     * with the given names.
+     *
+     * @param fieldNames The names of the non-public fields to be exposed (must not be {@code null})
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    public FieldBeanIntrospector(final Collection<String> fieldNames) {
+        Objects.requireNonNull(fieldNames, "fieldNames");
+        this.fieldNames = Collections.unmodifiableSet(new HashSet<>(fieldNames));
+    }
+
+    /**
+     * Tests whether the given field is to be exposed.
+     *
+     * @param field The field
+     * @return {@code true} if a property is to be created for the field
+     */
+    private boolean accept(final Field field) {
+        return Modifier.isPublic(field.getModifiers()) || fieldNames.contains(field.getName());
+    }
+
+    /**
+     * Returns a (unmodifiable) set with the names of the non-public fields which are exposed by this {@code BeanIntrospector}.
+     *
+     * @return A set with the names of the exposed non-public fields
+     */
+    public Set<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Performs introspection of a specific Java class. This implementation adds a {@link FieldPropertyDescriptor} for each field to be exposed, unless
+     * the context already contains a property with the name of the field.
+     *
+     * @param icontext The introspection context
+     */
+    @Override
+    public void introspect(final IntrospectionContext icontext) {
+        final Set<String> names = new HashSet<>();
+        for (Class<?> type = icontext.getTargetClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (final Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || !names.add(field.getName()) || !accept(field)
+                        || icontext.hasProperty(field.getName())) {
+                    continue;
+                }
+                try {
+                    if (!Modifier.isPublic(field.getModifiers()) || !Modifier.isPublic(type.getModifiers())) {
+                        field.setAccessible(true);
+                    }
+                    icontext.addPropertyDescriptor(new FieldPropertyDescriptor(field));
+                } catch (final IntrospectionException | RuntimeException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Ignoring field " + field, e);
+                    }
+                }
+            }
+        }
+    }
+}
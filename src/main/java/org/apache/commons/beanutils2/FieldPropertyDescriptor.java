@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A descriptor for a property which is backed by a field rather than by accessor methods. Such descriptors are created by {@link FieldBeanIntrospector}.
+ * </p>
+ * <p>
+ * A field property has neither a read method nor a write method; {@link #getReadMethod()} and {@link #getWriteMethod()} return {@code null}.
+ * {@link PropertyUtilsBean} reads and writes the field directly through method handles. The property is readable, and it is writable unless the field is
+ * {@code final}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FieldPropertyDescriptor extends PropertyDescriptor {
+
+    /**
+     * Tests whether the property described by the given descriptor can be read as a simple property, either by its read method or by its field.
+     *
+     * @param descriptor The descriptor
+     * @return {@code true} if the property has a read method or is a field property
+     */
+    static boolean hasReader(final PropertyDescriptor descriptor) {
+        return descriptor.getReadMethod() != null || descriptor instanceof FieldPropertyDescriptor;
+    }
+
+    /**
+     * Tests whether the property described by the given descriptor can be written as a simple property, either by its write method or by its field.
+     *
+     * @param descriptor The descriptor
+     * @return {@code true} if the property has a write method or is a writable field property
+     */
+    static boolean hasWriter(final PropertyDescriptor descriptor) {
+        return descriptor.getWriteMethod() != null || descriptor instanceof FieldPropertyDescriptor && ((FieldPropertyDescriptor) descriptor).isWritable();
+    }
+
+    /** The field backing the property. */
+    private final Field field;
+
+    /**
+     * Creates a new instance of {@code FieldPropertyDescriptor} for the given field. The property has the name of the field. The caller is responsible for
+     * making the field accessible if it is not public.
+     *
+     * @param field The field (must not be {@code null})
+     * @throws IntrospectionException if the descriptor cannot be created
+     * @throws NullPointerException   if the field is {@code null}
+     */
+    public FieldPropertyDescriptor(final Field field) throws IntrospectionException {
+        super(Objects.requireNonNull(field, "field").getName(), null, null);
+        this.field = field;
+    }
+
+    /**
+     * Gets the field backing the property.
+     *
+     * @return The field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Gets the type of the property, which is the type of the field.
+     *
+     * @return The type of the field
+     */
+    @Override
+    public Class<?> getPropertyType() {
+        return field.getType();
+    }
+
+    /**
+     * Tests whether the property can be written.
+     *
+     * @return {@code true} unless the field is {@code final}
+     */
+    public boolean isWritable() {
+        return !Modifier.isFinal(field.getModifiers());
+    }
+}
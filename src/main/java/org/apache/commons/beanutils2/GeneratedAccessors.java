@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Marks a bean class for which {@link BeanAccessors} are generated at compile time.
+ * </p>
+ * <p>
+ * When the annotation processor {@code org.apache.commons.beanutils2.processor.GeneratedAccessorsProcessor} is enabled for a compilation, it generates a
+ * class named {@code <BeanClass>_BeanAccessors} in the package of each annotated class and registers it as a service provider of {@link BeanAccessors}.
+ * {@link DefaultBeanIntrospector} then obtains the properties of the annotated class from the generated class instead of {@link java.beans.Introspector},
+ * and {@link PropertyUtilsBean} reads and writes simple properties by calling the accessor methods directly rather than reflectively.
+ * </p>
+ * <p>
+ * The processor is not registered for automatic discovery, so it has to be named explicitly, for instance with the {@code -processor} option of
+ * {@code javac} or in the {@code annotationProcessors} of the Maven compiler plugin. Classes whose properties cannot be determined reliably at compile time,
+ * for instance classes with indexed accessor methods, are reported by a warning and keep using {@code java.beans.Introspector}.
+ * </p>
+ * <p>
+ * An explicit {@link java.beans.BeanInfo} of the annotated class or one of its superclasses takes precedence over the generated accessors for
+ * introspection. The generated classes are cached per class loader and keep it reachable until memory runs low, see {@link BeanAccessors}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GeneratedAccessors {
+}
@@ -0,0 +1,560 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * The introspection results of a {@link PropertyUtilsBean} for a set of classes, which can be written to and read from a compact binary format.
+ * <p>
+ * A snapshot records the classes by name and their properties by name, type and the signatures of their accessor methods. It does not hold any classes or
+ * methods itself. When a {@code PropertyUtilsBean} needs the descriptors of a class recorded in a snapshot it has loaded, the entry is validated against
+ * the live class: the public methods of the class must be the same as when the snapshot was written, and the configuration of the
+ * {@link BeanIntrospector}s must match. Only then are the descriptors created from the recorded methods, without running the introspectors. Otherwise,
+ * the class is introspected as usual.
+ * </p>
+ * <p>
+ * The introspectors are compared by class; for {@link SuppressPropertiesBeanIntrospector} and {@link FluentPropertyBeanIntrospector}, their configuration
+ * is compared as well. Changes which do not affect the public methods of a bean class, for example a modified {@code BeanInfo} class, are not detected.
+ * </p>
+ * <p>
+ * The binary format consists of a table of all strings, followed by the entries referring to the strings by their index. It is only meant to be read by
+ * the same version of this library.
+ * </p>
+ */
+final class IntrospectionSnapshot {
+
+    /**
+     * The recorded data of a single class.
+     */
+    private static final class Entry {
+
+        /** The number of public methods of the class. */
+        private final int methodCount;
+
+        /** The combined hash code of the signatures of the public methods of the class. */
+        private final int methodHash;
+
+        /** The properties of the class. */
+        private final Property[] properties;
+
+        /** The mapped properties of the class. */
+        private final Property[] mappedProperties;
+
+        Entry(final int methodCount, final int methodHash, final Property[] properties, final Property[] mappedProperties) {
+            this.methodCount = methodCount;
+            this.methodHash = methodHash;
+            this.properties = properties;
+            this.mappedProperties = mappedProperties;
+        }
+
+        /**
+         * Gets the public methods of the live class by their signatures if the class has not changed since the entry was recorded.
+         *
+         * @param beanClass The live class
+         * @return The methods or {@code null} if the class has changed
+         */
+        Map<String, Method> resolve(final Class<?> beanClass) {
+            final Method[] methods = beanClass.getMethods();
+            if (methods.length != methodCount) {
+                return null;
+            }
+            final Map<String, Method> signatures = new HashMap<>();
+            int hash = 0;
+            for (final Method method : methods) {
+                final String signature = signature(method);
+                signatures.put(signature, method);
+                hash += signature.hashCode();
+            }
+            return hash == methodHash ? signatures : null;
+        }
+    }
+
+    /**
+     * A recorded property.
+     */
+    private static final class Property {
+
+        /** The kind of the descriptor, {@link #PLAIN}, {@link #INDEXED} or {@link #MAPPED}. */
+        private final int kind;
+
+        /** The name of the property. */
+        private final String name;
+
+        /** The name of the property type, {@code null} if the descriptor has no type. */
+        private final String type;
+
+        /** The signatures of the accessor methods in the order of the descriptor constructor, {@code null} for missing methods. */
+        private final String[] methods;
+
+        Property(final int kind, final String name, final String type, final String[] methods) {
+            this.kind = kind;
+            this.name = name;
+            this.type = type;
+            this.methods = methods;
+        }
+
+        /**
+         * Checks the type of the created descriptor.
+         *
+         * @param actualType The type of the created descriptor
+         * @throws IntrospectionException if the type does not match the recorded type
+         */
+        private void checkType(final Class<?> actualType) throws IntrospectionException {
+            if (type == null ? actualType != null : actualType == null || !type.equals(actualType.getName())) {
+                throw new IntrospectionException("Type mismatch for property " + name);
+            }
+        }
+
+        /**
+         * Creates the descriptor of this property for the live class.
+         *
+         * @param beanClass  The live class
+         * @param signatures The public methods of the class by their signatures
+         * @return The descriptor
+         * @throws IntrospectionException if the descriptor cannot be created or does not match the recorded data
+         */
+        PropertyDescriptor create(final Class<?> beanClass, final Map<String, Method> signatures) throws IntrospectionException {
+            if (kind == MAPPED) {
+                return createMapped(beanClass);
+            }
+            final Method[] accessors = new Method[methods.length];
+            for (int i = 0; i < methods.length; i++) {
+                if (methods[i] != null) {
+                    accessors[i] = signatures.get(methods[i]);
+                    if (accessors[i] == null) {
+                        throw new IntrospectionException("Method not found: " + methods[i]);
+                    }
+                }
+            }
+            final PropertyDescriptor descriptor = kind == INDEXED ? new IndexedPropertyDescriptor(name, accessors[0], accessors[1], accessors[2], accessors[3])
+                    : new PropertyDescriptor(name, accessors[0], accessors[1]);
+            checkType(descriptor.getPropertyType());
+            return descriptor;
+        }
+
+        /**
+         * Creates the descriptor of this mapped property for the live class. The accessor methods are resolved by name in the same way as when the
+         * descriptor was created originally; they must match the recorded signatures.
+         *
+         * @param beanClass The live class
+         * @return The descriptor
+         * @throws IntrospectionException if the descriptor cannot be created or does not match the recorded data
+         */
+        private PropertyDescriptor createMapped(final Class<?> beanClass) throws IntrospectionException {
+            final MappedPropertyDescriptor descriptor = new MappedPropertyDescriptor(name, beanClass, methodName(methods[0]), methodName(methods[1]));
+            if (!Objects.equals(methods[0], signature(descriptor.getMappedReadMethod()))
+                    || !Objects.equals(methods[1], signature(descriptor.getMappedWriteMethod()))) {
+                throw new IntrospectionException("Methods changed for property " + name);
+            }
+            checkType(descriptor.getMappedPropertyType());
+            return descriptor;
+        }
+    }
+
+    /** The log. */
+    private static final Log LOG = LogFactory.getLog(IntrospectionSnapshot.class);
+
+    /** The first bytes of a snapshot. */
+    private static final int MAGIC = 0x42555348;
+
+    /** The version of the binary format. */
+    private static final int VERSION = 1;
+
+    /** The index of a missing string. */
+    private static final int NONE = -1;
+
+    /** The kind of a {@link PropertyDescriptor}. */
+    private static final int PLAIN = 0;
+
+    /** The kind of an {@link IndexedPropertyDescriptor}. */
+    private static final int INDEXED = 1;
+
+    /** The kind of a {@link MappedPropertyDescriptor}. */
+    private static final int MAPPED = 2;
+
+    /** The largest number of strings, classes or properties accepted when a snapshot is read. */
+    private static final int MAX_COUNT = 1 << 20;
+
+    /**
+     * Determines the fingerprint of a configuration of introspectors.
+     *
+     * @param introspectors The introspectors
+     * @return The fingerprint
+     */
+    static String fingerprint(final Collection<BeanIntrospector> introspectors) {
+        final StringBuilder buf = new StringBuilder();
+        for (final BeanIntrospector introspector : introspectors) {
+            buf.append(introspector.getClass().getName());
+            if (introspector instanceof SuppressPropertiesBeanIntrospector) {
+                buf.append(new TreeSet<>(((SuppressPropertiesBeanIntrospector) introspector).getSuppressedProperties()));
+            } else if (introspector instanceof FluentPropertyBeanIntrospector) {
+                buf.append('(').append(((FluentPropertyBeanIntrospector) introspector).getWriteMethodPrefix()).append(')');
+            } else if (introspector instanceof FieldBeanIntrospector) {
+                buf.append(new TreeSet<>(((FieldBeanIntrospector) introspector).getFieldNames()));
+            }
+            buf.append(';');
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Gets the index of a string in the string table, adding it if necessary.
+     *
+     * @param strings The string table
+     * @param string  The string
+     * @return The index or {@link #NONE} for {@code null}
+     */
+    private static int index(final Map<String, Integer> strings, final String string) {
+        if (string == null) {
+            return NONE;
+        }
+        return strings.computeIfAbsent(string, s -> Integer.valueOf(strings.size())).intValue();
+    }
+
+    /**
+     * Extracts the name of a method from its signature.
+     *
+     * @param signature The signature, see {@link #signature(Method)}
+     * @return The name of the method or {@code null} if the signature is {@code null}
+     */
+    private static String methodName(final String signature) {
+        return signature != null ? signature.substring(signature.indexOf(' ') + 1, signature.indexOf('(')) : null;
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param in The stream to read from
+     * @return The snapshot
+     * @throws IOException if the stream cannot be read or does not contain a snapshot
+     */
+    static IntrospectionSnapshot read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("Not an introspection snapshot of this version");
+        }
+        final String[] strings = new String[readCount(data, "strings")];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = data.readUTF();
+        }
+        final IntrospectionSnapshot snapshot = new IntrospectionSnapshot(readString(data, strings));
+        final int count = readCount(data, "classes");
+        for (int i = 0; i < count; i++) {
+            final String className = readString(data, strings);
+            final int methodCount = data.readInt();
+            final int methodHash = data.readInt();
+            snapshot.entries.put(className, new Entry(methodCount, methodHash, readProperties(data, strings), readProperties(data, strings)));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reads the number of elements of a table, which must not be negative or implausibly large, so that a corrupted stream cannot cause huge allocations.
+     *
+     * @param data The stream to read from
+     * @param what The elements counted, for the error message
+     * @return The number of elements
+     * @throws IOException if the stream cannot be read or the number is invalid
+     */
+    private static int readCount(final DataInputStream data, final String what) throws IOException {
+        final int count = data.readInt();
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IOException("Invalid number of " + what + ": " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads the properties of an entry.
+     *
+     * @param data    The stream to read from
+     * @param strings The string table
+     * @return The properties
+     * @throws IOException if the stream cannot be read
+     */
+    private static Property[] readProperties(final DataInputStream data, final String[] strings) throws IOException {
+        final Property[] properties = new Property[readCount(data, "properties")];
+        for (int i = 0; i < properties.length; i++) {
+            final int kind = data.readByte();
+            if (kind != PLAIN && kind != INDEXED && kind != MAPPED) {
+                throw new IOException("Invalid property kind " + kind);
+            }
+            final String name = readString(data, strings);
+            final String type = readString(data, strings);
+            final String[] methods = new String[kind == INDEXED ? 4 : 2];
+            for (int j = 0; j < methods.length; j++) {
+                methods[j] = readString(data, strings);
+            }
+            properties[i] = new Property(kind, name, type, methods);
+        }
+        return properties;
+    }
+
+    /**
+     * Reads a reference to a string.
+     *
+     * @param data    The stream to read from
+     * @param strings The string table
+     * @return The string or {@code null}
+     * @throws IOException if the stream cannot be read or the reference is invalid
+     */
+    private static String readString(final DataInputStream data, final String[] strings) throws IOException {
+        final int index = data.readInt();
+        if (index == NONE) {
+            return null;
+        }
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("Invalid string reference " + index);
+        }
+        return strings[index];
+    }
+
+    /**
+     * Gets the signature by which a method is recorded, consisting of its return type, name and parameter types.
+     *
+     * @param method The method
+     * @return The signature or {@code null} if the method is {@code null}
+     */
+    private static String signature(final Method method) {
+        if (method == null) {
+            return null;
+        }
+        final StringBuilder buf = new StringBuilder();
+        buf.append(method.getReturnType().getName()).append(' ').append(method.getName()).append('(');
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                buf.append(',');
+            }
+            buf.append(parameterTypes[i].getName());
+        }
+        return buf.append(')').toString();
+    }
+
+    /**
+     * Writes the properties of an entry.
+     *
+     * @param body       The stream to write to
+     * @param strings    The string table
+     * @param properties The properties
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeProperties(final DataOutputStream body, final Map<String, Integer> strings, final Property[] properties) throws IOException {
+        body.writeInt(properties.length);
+        for (final Property property : properties) {
+            body.writeByte(property.kind);
+            body.writeInt(index(strings, property.name));
+            body.writeInt(index(strings, property.type));
+            for (final String method : property.methods) {
+                body.writeInt(index(strings, method));
+            }
+        }
+    }
+
+    /** The fingerprint of the introspectors the snapshot has been created with. */
+    private final String fingerprint;
+
+    /** The entries by class name. */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty snapshot.
+     *
+     * @param fingerprint The fingerprint of the introspectors the descriptors are created with, see {@link #fingerprint(Collection)}
+     */
+    IntrospectionSnapshot(final String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Records the descriptors of a class. Classes which have no name by which they can be found again, and classes with descriptors of other types than
+     * the standard descriptors and {@link MappedPropertyDescriptor}, are not recorded.
+     *
+     * @param beanClass         The class
+     * @param data              The introspection data of the class
+     * @param mappedDescriptors The mapped descriptors of the class
+     * @return {@code true} if the class has been recorded
+     */
+    boolean add(final Class<?> beanClass, final BeanIntrospectionData data, final Collection<?> mappedDescriptors) {
+        if (beanClass.isSynthetic() || beanClass.isAnonymousClass() || beanClass.getName().indexOf('/') >= 0) {
+            return false;
+        }
+        final PropertyDescriptor[] descriptors = data.getDescriptors();
+        final Property[] properties = new Property[descriptors.length];
+        for (int i = 0; i < descriptors.length; i++) {
+            final PropertyDescriptor descriptor = descriptors[i];
+            final String type = descriptor.getPropertyType() != null ? descriptor.getPropertyType().getName() : null;
+            final String read = signature(data.getReadMethod(descriptor));
+            final String write = signature(data.getWriteMethod(beanClass, descriptor));
+            if (descriptor.getClass() == IndexedPropertyDescriptor.class) {
+                final IndexedPropertyDescriptor indexed = (IndexedPropertyDescriptor) descriptor;
+                properties[i] = new Property(INDEXED, descriptor.getName(), type,
+                        new String[] { read, write, signature(indexed.getIndexedReadMethod()), signature(indexed.getIndexedWriteMethod()) });
+            } else if (descriptor.getClass() == PropertyDescriptor.class) {
+                properties[i] = new Property(PLAIN, descriptor.getName(), type, new String[] { read, write });
+            } else {
+                return false;
+            }
+        }
+        final List<Property> mappedProperties = new ArrayList<>(mappedDescriptors.size());
+        for (final Object value : mappedDescriptors) {
+            if (value.getClass() != MappedPropertyDescriptor.class) {
+                return false;
+            }
+            final MappedPropertyDescriptor descriptor = (MappedPropertyDescriptor) value;
+            final Class<?> type = descriptor.getMappedPropertyType();
+            mappedProperties.add(new Property(MAPPED, descriptor.getName(), type != null ? type.getName() : null,
+                    new String[] { signature(descriptor.getMappedReadMethod()), signature(descriptor.getMappedWriteMethod()) }));
+        }
+        int hash = 0;
+        final Method[] methods = beanClass.getMethods();
+        for (final Method method : methods) {
+            hash += signature(method).hashCode();
+        }
+        entries.put(beanClass.getName(), new Entry(methods.length, hash, properties, mappedProperties.toArray(new Property[0])));
+        return true;
+    }
+
+    /**
+     * Creates the descriptors of a class from the recorded data.
+     *
+     * @param beanClass   The class
+     * @param fingerprint The fingerprint of the current introspectors
+     * @param mapped      {@code true} for the mapped descriptors, {@code false} for the other descriptors
+     * @return The descriptors or {@code null} if the class has not been recorded or the recorded data is not valid
+     */
+    private PropertyDescriptor[] restore(final Class<?> beanClass, final String fingerprint, final boolean mapped) {
+        final Entry entry = entries.get(beanClass.getName());
+        if (entry == null || !this.fingerprint.equals(fingerprint)) {
+            return null;
+        }
+        final Map<String, Method> signatures = entry.resolve(beanClass);
+        if (signatures == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Ignoring snapshot of changed class " + beanClass.getName());
+            }
+            return null;
+        }
+        final Property[] properties = mapped ? entry.mappedProperties : entry.properties;
+        final PropertyDescriptor[] descriptors = new PropertyDescriptor[properties.length];
+        try {
+            for (int i = 0; i < properties.length; i++) {
+                descriptors[i] = properties[i].create(beanClass, signatures);
+            }
+        } catch (final IntrospectionException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Ignoring invalid snapshot of class " + beanClass.getName(), e);
+            }
+            return null;
+        }
+        return descriptors;
+    }
+
+    /**
+     * Creates the descriptors of a class from the recorded data.
+     *
+     * @param beanClass   The class
+     * @param fingerprint The fingerprint of the current introspectors
+     * @return The descriptors or {@code null} if the class has not been recorded or the recorded data is not valid
+     */
+    PropertyDescriptor[] restoreDescriptors(final Class<?> beanClass, final String fingerprint) {
+        return restore(beanClass, fingerprint, false);
+    }
+
+    /**
+     * Creates the mapped descriptors of a class from the recorded data.
+     *
+     * @param beanClass   The class
+     * @param fingerprint The fingerprint of the current introspectors
+     * @return The mapped descriptors by name or {@code null} if the class has not been recorded or the recorded data is not valid
+     */
+    Map<String, PropertyDescriptor> restoreMappedDescriptors(final Class<?> beanClass, final String fingerprint) {
+        final PropertyDescriptor[] descriptors = restore(beanClass, fingerprint, true);
+        if (descriptors == null) {
+            return null;
+        }
+        final Map<String, PropertyDescriptor> result = new HashMap<>();
+        for (final PropertyDescriptor descriptor : descriptors) {
+            result.put(descriptor.getName(), descriptor);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of recorded classes.
+     *
+     * @return The number of classes
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes this snapshot.
+     *
+     * @param out The stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    void write(final OutputStream out) throws IOException {
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        final DataOutputStream body = new DataOutputStream(bodyBytes);
+        body.writeInt(index(strings, fingerprint));
+        body.writeInt(entries.size());
+        for (final Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+            final Entry entry = mapEntry.getValue();
+            body.writeInt(index(strings, mapEntry.getKey()));
+            body.writeInt(entry.methodCount);
+            body.writeInt(entry.methodHash);
+            writeProperties(body, strings, entry.properties);
+            writeProperties(body, strings, entry.mappedProperties);
+        }
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(strings.size());
+        for (final String string : strings.keySet()) {
+            data.writeUTF(string);
+        }
+        bodyBytes.writeTo(data);
+        data.flush();
+    }
+}
@@ -18,13 +18,18 @@
 package org.apache.commons.beanutils2;
 
 import java.beans.IntrospectionException;
+import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A MappedPropertyDescriptor describes one mapped property. Mapped properties are multivalued properties like indexed properties but that are accessed with a
@@ -55,6 +60,7 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
         private Reference<Class<?>> writeParamTypeRef0;
         private Reference<Class<?>> writeParamTypeRef1;
         private String[] writeParamClassNames;
+        private Method pinnedMethod;
 
         MappedMethodReference(final Method m) {
             if (m != null) {
@@ -74,6 +80,9 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
         }
 
         private Method get() {
+            if (pinnedMethod != null) {
+                return pinnedMethod;
+            }
             if (methodRef == null) {
                 return null;
             }
@@ -119,6 +128,13 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
             return m;
         }
 
+        /**
+         * Keeps the method with a strong reference, so that it is never released.
+         */
+        private void pin() {
+            pinnedMethod = get();
+        }
+
         /**
          * Try to re-load the class
          */
@@ -152,11 +168,98 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
         }
     }
 
+    /**
+     * The candidates for mapped accessor methods of a class. Mapped read methods are looked up by {@link MethodUtils}; this table only records the names
+     * of the public methods which could match, so that names without such a method are rejected without a lookup. Mapped write methods without a read
+     * method are resolved here: for each name, the table holds the method the former hierarchy scan would have found, that is the public instance method
+     * with two parameters declared by the most derived class, or else by one of the interfaces of the class, searched depth-first.
+     */
+    private static final class MappedMethods {
+
+        /** The names of the public methods which can be called with a single String argument. */
+        private final Set<String> readerNames = new HashSet<>();
+
+        /** The public instance methods with two parameters by name. */
+        private final Map<String, Method> writers = new HashMap<>();
+
+        /**
+         * Creates the table for the given class.
+         *
+         * @param type The class
+         */
+        MappedMethods(final Class<?> type) {
+            for (final Method method : type.getMethods()) {
+                if (method.getParameterCount() == 1 || method.isVarArgs()) {
+                    readerNames.add(method.getName());
+                }
+            }
+            // For overridden methods we need to find the most derived version.
+            // So we start with the given class and walk up the superclass chain.
+            for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+                for (final Method method : clazz.getDeclaredMethods()) {
+                    final int mods = method.getModifiers();
+                    if (Modifier.isPublic(mods) && !Modifier.isStatic(mods) && method.getParameterCount() == 2) {
+                        writers.putIfAbsent(method.getName(), method);
+                    }
+                }
+            }
+            // Now check any inherited interfaces. This is necessary both when
+            // the argument class is itself an interface, and when the argument
+            // class is an abstract class.
+            for (final Class<?> interface1 : type.getInterfaces()) {
+                MAPPED_METHODS.get(interface1).writers.forEach(writers::putIfAbsent);
+            }
+        }
+
+        /**
+         * Adds the property name derived from a method name to a set if the method name starts with the given prefix.
+         *
+         * @param names      The set of property names
+         * @param methodName The method name
+         * @param prefix     The prefix of the accessor method
+         */
+        private static void addPropertyName(final Set<String> names, final String methodName, final String prefix) {
+            if (methodName.length() > prefix.length() && methodName.startsWith(prefix)) {
+                names.add(Introspector.decapitalize(methodName.substring(prefix.length())));
+            }
+        }
+
+        /**
+         * Gets the names of the properties for which the class has a candidate for a mapped read or write method.
+         *
+         * @return The property names
+         */
+        Set<String> getPropertyNames() {
+            final Set<String> names = new HashSet<>();
+            for (final String name : readerNames) {
+                addPropertyName(names, name, "get");
+                addPropertyName(names, name, "is");
+            }
+            for (final String name : writers.keySet()) {
+                addPropertyName(names, name, "set");
+            }
+            return names;
+        }
+
+        /**
+         * Tests whether the class may have a mapped property with the given capitalized name.
+         *
+         * @param base The capitalized property name
+         * @return {@code false} if the class has no candidate for a mapped read or write method
+         */
+        boolean hasCandidates(final String base) {
+            return readerNames.contains("get" + base) || readerNames.contains("is" + base) || writers.containsKey("set" + base);
+        }
+    }
+
     /**
      * The parameter types array for the reader method signature.
      */
     private static final Class<?>[] STRING_CLASS_PARAMETER = new Class[] { String.class };
 
+    /** The tables of mapped accessor candidates by class, computed lazily. */
+    private static final ClassCache<MappedMethods> MAPPED_METHODS = ClassCache.create(MappedMethods::new);
+
     /**
      * Gets a capitalized version of the specified property name.
      *
@@ -192,57 +295,44 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
     }
 
     /**
-     * Find a method on a class with a specified number of parameters.
+     * Find a public instance method on a class with two parameters, using the cached table of the class.
      */
-    private static Method getMethod(final Class<?> clazz, final String methodName, final int parameterCount) throws IntrospectionException {
+    private static Method getWriteMethod(final Class<?> clazz, final String methodName) throws IntrospectionException {
         if (methodName == null) {
             return null;
         }
 
-        final Method method = internalGetMethod(clazz, methodName, parameterCount);
+        final Method method = MAPPED_METHODS.get(clazz).writers.get(methodName);
         if (method != null) {
             return method;
         }
 
         // No Method found
-        throw new IntrospectionException("No method \"" + methodName + "\" with " + parameterCount + " parameter(s)");
+        throw new IntrospectionException("No method \"" + methodName + "\" with 2 parameter(s)");
     }
 
     /**
-     * Find a method on a class with a specified number of parameters.
+     * Gets the names of the properties a class may have as mapped properties, that is the names for which {@link #hasMappedMethods(Class, String)} returns
+     * {@code true}. Creating a descriptor with {@link #MappedPropertyDescriptor(String, Class)} can still fail for some of them.
+     *
+     * @param beanClass The bean class
+     * @return The names of the candidates for mapped properties
      */
-    private static Method internalGetMethod(final Class<?> initial, final String methodName, final int parameterCount) {
-        // For overridden methods we need to find the most derived version.
-        // So we start with the given class and walk up the superclass chain.
-        for (Class<?> clazz = initial; clazz != null; clazz = clazz.getSuperclass()) {
-            final Method[] methods = clazz.getDeclaredMethods();
-            for (final Method method : methods) {
-                if (method == null) {
-                    continue;
-                }
-                // skip static methods.
-                final int mods = method.getModifiers();
-                if (!Modifier.isPublic(mods) || Modifier.isStatic(mods)) {
-                    continue;
-                }
-                if (method.getName().equals(methodName) && method.getParameterTypes().length == parameterCount) {
-                    return method;
-                }
-            }
-        }
-
-        // Now check any inherited interfaces. This is necessary both when
-        // the argument class is itself an interface, and when the argument
-        // class is an abstract class.
-        final Class<?>[] interfaces = initial.getInterfaces();
-        for (final Class<?> interface1 : interfaces) {
-            final Method method = internalGetMethod(interface1, methodName, parameterCount);
-            if (method != null) {
-                return method;
-            }
-        }
+    static Set<String> getMappedPropertyNames(final Class<?> beanClass) {
+        return MAPPED_METHODS.get(beanClass).getPropertyNames();
+    }
 
-        return null;
+    /**
+     * Tests whether a class may have a mapped property with the given name, that is whether it has a public method which is a candidate for a mapped read
+     * or write method of the property. This is a cheap test based on a cached table of the methods of the class; if it returns {@code true}, creating a
+     * descriptor with {@link #MappedPropertyDescriptor(String, Class)} can still fail.
+     *
+     * @param beanClass    The bean class
+     * @param propertyName The property name
+     * @return {@code false} if the class cannot have a mapped property with this name
+     */
+    static boolean hasMappedMethods(final Class<?> beanClass, final String propertyName) {
+        return !propertyName.isEmpty() && MAPPED_METHODS.get(beanClass).hasCandidates(capitalizePropertyName(propertyName));
     }
 
     /**
@@ -282,23 +372,18 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
         // Look for mapped read method and matching write method
         Method mappedReadMethod = null;
         Method mappedWriteMethod = null;
-        try {
-            try {
-                mappedReadMethod = getMethod(beanClass, "get" + base, STRING_CLASS_PARAMETER);
-            } catch (final IntrospectionException e) {
-                mappedReadMethod = getMethod(beanClass, "is" + base, STRING_CLASS_PARAMETER);
+        if (MAPPED_METHODS.get(beanClass).hasCandidates(base)) {
+            mappedReadMethod = MethodUtils.getMatchingAccessibleMethod(beanClass, "get" + base, STRING_CLASS_PARAMETER);
+            if (mappedReadMethod == null) {
+                mappedReadMethod = MethodUtils.getMatchingAccessibleMethod(beanClass, "is" + base, STRING_CLASS_PARAMETER);
+            }
+            if (mappedReadMethod != null) {
+                final Class<?>[] params = { String.class, mappedReadMethod.getReturnType() };
+                mappedWriteMethod = MethodUtils.getMatchingAccessibleMethod(beanClass, "set" + base, params);
+            } else {
+                // If there's no read method, then look for just a write method
+                mappedWriteMethod = MAPPED_METHODS.get(beanClass).writers.get("set" + base);
             }
-            final Class<?>[] params = { String.class, mappedReadMethod.getReturnType() };
-            mappedWriteMethod = getMethod(beanClass, "set" + base, params);
-        } catch (final IntrospectionException e) {
-            /*
-             * Swallow IntrospectionException TODO: Why?
-             */
-        }
-
-        // If there's no read method, then look for just a write method
-        if (mappedReadMethod == null) {
-            mappedWriteMethod = getMethod(beanClass, "set" + base, 2);
         }
 
         if (mappedReadMethod == null && mappedWriteMethod == null) {
@@ -337,7 +422,7 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
             final Class<?>[] params = { String.class, mappedReadMethod.getReturnType() };
             mappedWriteMethod = getMethod(beanClass, mappedSetterName, params);
         } else {
-            mappedWriteMethod = getMethod(beanClass, mappedSetterName, 2);
+            mappedWriteMethod = getWriteMethod(beanClass, mappedSetterName);
         }
         mappedReadMethodRef = new MappedMethodReference(mappedReadMethod);
         mappedWriteMethodRef = new MappedMethodReference(mappedWriteMethod);
@@ -426,6 +511,15 @@ public class MappedPropertyDescriptor extends PropertyDescriptor {
         return mappedWriteMethodRef.get();
     }
 
+    /**
+     * Keeps the mapped read and write methods of this descriptor with strong references, so that they are not released under memory pressure and do not
+     * have to be looked up again. This is used by {@link PropertyUtilsBean} in pinned introspection mode.
+     */
+    void pin() {
+        mappedReadMethodRef.pin();
+        mappedWriteMethodRef.pin();
+    }
+
     /**
      * Sets the method that should be used to read one of the property value.
      *
@@ -18,13 +18,15 @@
 package org.apache.commons.beanutils2;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.apache.commons.collections4.map.ConcurrentReferenceHashMap;
-import org.apache.commons.collections4.map.ConcurrentReferenceHashMap.ReferenceType;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -51,61 +53,115 @@ import org.apache.commons.logging.LogFactory;
 public final class MethodUtils {
 
     /**
-     * Represents the key to looking up a Method by reflection.
+     * A lookup which has been resolved to a method.
      */
-    private static final class MethodKey {
+    private static final class Lookup {
 
-        private final Class<?> cls;
-        private final String methodName;
+        /** The parameter types of the lookup, a private copy. */
         private final Class<?>[] paramTypes;
+
+        /** Whether the match has to be exact. */
         private final boolean exact;
-        private final int hashCode;
+
+        /** The method found. */
+        private final Method method;
+
+        Lookup(final Class<?>[] paramTypes, final boolean exact, final Method method) {
+            this.paramTypes = paramTypes;
+            this.exact = exact;
+            this.method = method;
+        }
 
         /**
-         * The sole constructor.
+         * Tests whether this lookup has been made with the given arguments.
          *
-         * @param cls        The class to reflect, must not be null.
-         * @param methodName The method name to obtain.
-         * @param paramTypes The array of classes representing the parameter types.
-         * @param exact      whether the match has to be exact.
+         * @param types      The parameter types
+         * @param exactMatch Whether the match has to be exact
+         * @return {@code true} if the arguments are equal
          */
-        public MethodKey(final Class<?> cls, final String methodName, final Class<?>[] paramTypes, final boolean exact) {
-            this.cls = Objects.requireNonNull(cls, "cls");
-            this.methodName = Objects.requireNonNull(methodName, "methodName");
-            this.paramTypes = paramTypes != null ? paramTypes : BeanUtils.EMPTY_CLASS_ARRAY;
-            this.exact = exact;
-            this.hashCode = methodName.length();
+        boolean matches(final Class<?>[] types, final boolean exactMatch) {
+            return exact == exactMatch && Arrays.equals(paramTypes, types);
         }
+    }
+
+    /**
+     * The public methods of a class with a specific name: the numbers of their parameters and the lookups which have been resolved for them. Lookups for
+     * a number of parameters no method accepts are rejected without reflection; resolved lookups are found by comparing the parameter types, so that no key
+     * object has to be created.
+     */
+    private static final class MethodGroup {
+
+        /** The numbers of parameters of the methods as a bit set, the highest bit standing for all numbers from 63 on. */
+        private final long arities;
+
+        /** Whether one of the methods has a variable number of arguments. */
+        private final boolean varArgs;
+
+        /** The resolved lookups, replaced as a whole when a lookup is added. */
+        private volatile Lookup[] lookups = {};
 
         /**
-         * Checks for equality.
+         * Creates a new group for the given methods with the same name.
          *
-         * @param obj object to be tested for equality.
-         * @return true, if the object describes the same Method.
+         * @param methods The methods
          */
-        @Override
-        public boolean equals(final Object obj) {
-            if (!(obj instanceof MethodKey)) {
-                return false;
+        MethodGroup(final List<Method> methods) {
+            long bits = 0;
+            boolean anyVarArgs = false;
+            for (final Method method : methods) {
+                bits |= arityBit(method.getParameterCount());
+                anyVarArgs |= method.isVarArgs();
             }
-            final MethodKey md = (MethodKey) obj;
-            return exact == md.exact && methodName.equals(md.methodName) && cls.equals(md.cls) && Arrays.equals(paramTypes, md.paramTypes);
+            this.arities = bits;
+            this.varArgs = anyVarArgs;
+        }
+
+        /**
+         * Tests whether one of the methods of this group can match a lookup with the given number of parameters.
+         *
+         * @param paramCount The number of parameters of the lookup
+         * @param exact      Whether the match has to be exact
+         * @return {@code false} if the lookup cannot find a method
+         */
+        boolean accepts(final int paramCount, final boolean exact) {
+            return (arities & arityBit(paramCount)) != 0 || !exact && varArgs;
         }
 
         /**
-         * Returns the string length of method name. I.e. if the hash codes are different, the objects are different. If the hash codes are the same, need to
-         * use the equals method to determine equality.
+         * Adds a resolved lookup unless a lookup with the same arguments has been added concurrently.
          *
-         * @return The string length of method name.
+         * @param paramTypes The parameter types of the lookup
+         * @param exact      Whether the match has to be exact
+         * @param method     The method found
+         * @return The method stored for the lookup
          */
-        @Override
-        public int hashCode() {
-            return hashCode;
+        synchronized Method add(final Class<?>[] paramTypes, final boolean exact, final Method method) {
+            final Method existing = find(paramTypes, exact);
+            if (existing != null) {
+                return existing;
+            }
+            final Lookup[] current = lookups;
+            final Lookup[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = new Lookup(paramTypes.clone(), exact, method);
+            lookups = updated;
+            CACHE_SIZE.incrementAndGet();
+            return method;
         }
 
-        @Override
-        public String toString() {
-            return "MethodKey [cls=" + cls + ", methodName=" + methodName + ", paramTypes=" + Arrays.toString(paramTypes) + ", exact=" + exact + "]";
+        /**
+         * Finds the method of a resolved lookup.
+         *
+         * @param paramTypes The parameter types of the lookup
+         * @param exact      Whether the match has to be exact
+         * @return The method or {@code null} if the lookup has not been resolved yet
+         */
+        Method find(final Class<?>[] paramTypes, final boolean exact) {
+            for (final Lookup lookup : lookups) {
+                if (lookup.matches(paramTypes, exact)) {
+                    return lookup.method;
+                }
+            }
+            return null;
         }
     }
 
@@ -118,28 +174,38 @@ public final class MethodUtils {
      * would mean having a map keyed by context classloader which may introduce memory-leak problems.
      * </p>
      */
-    private static volatile boolean CACHE_ENABLED = true; //NOPMD volatile: written under the class monitor, read lock-free in computeIfAbsent
+    private static volatile boolean CACHE_ENABLED = true; //NOPMD volatile: written under the class monitor, read lock-free in getMethod
 
     /**
-     * Stores a cache of MethodKey -> Method.
-     * <p>
-     * The keys into this map only ever exist as temporary variables within methods of this class, and are never exposed to users of this class. This means that
-     * this map is used only as a mechanism for limiting the size of the cache, that is, a way to tell the garbage collector that the contents of the cache can
-     * be completely garbage-collected whenever it needs the memory. Whether this is a good approach to this problem is doubtful; something like the Commons
-     * Collections LRUMap may be more appropriate (though of course selecting an appropriate size is an issue).
-     * </p>
+     * Stores an index of the public methods, grouped by name, for each class to reflect.
      * <p>
-     * This static variable is safe even when this code is deployed via a shared class loader because it is keyed via a MethodKey object which has a Class as
-     * one of its members and that member is used in the MethodKey.equals method. So two components that load the same class via different class loaders will
-     * generate non-equal MethodKey objects and hence end up with different entries in the map.
+     * The index of a class is stored in a {@link ClassCache} keyed by this class, so a lookup neither allocates nor hashes reference objects, and the
+     * cached methods live exactly as long as the class they have been looked up on. The methods found are stored in the {@link MethodGroup} of their name.
+     * This static variable is safe even when this code is deployed via a shared class loader: two components that load the same class via different class
+     * loaders use different class objects and hence end up with different entries. Lookups whose parameter types are not visible from the class to reflect
+     * are not cached, because the stored parameter types would keep their class loader reachable.
      * </p>
      */
-    // @formatter:off
-    private static final Map<MethodKey, Method> CACHE = new ConcurrentReferenceHashMap.Builder<MethodKey, Method>()
-            .setKeyReferenceType(ReferenceType.WEAK)
-            .setValueReferenceType(ReferenceType.WEAK)
-            .get();
-    // @formatter:on
+    private static final ClassCache<Map<String, MethodGroup>> CACHE = ClassCache.create(MethodUtils::indexMethods);
+
+    /** The number of methods added to the cache since it has been cleared. */
+    private static final AtomicInteger CACHE_SIZE = new AtomicInteger();
+
+    /** The number of lookups answered without reflection. */
+    private static final LongAdder CACHE_HITS = new LongAdder();
+
+    /** The number of lookups which required reflection. */
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+
+    /**
+     * Gets the bit representing the given number of parameters in {@link MethodGroup#arities}.
+     *
+     * @param paramCount The number of parameters
+     * @return The bit
+     */
+    private static long arityBit(final int paramCount) {
+        return 1L << Math.min(paramCount, Long.SIZE - 1);
+    }
 
     /**
      * Clear the method cache.
@@ -148,17 +214,8 @@ public final class MethodUtils {
      * @since 1.8.0
      */
     public static synchronized int clearCache() {
-        final int size = CACHE.size();
         CACHE.clear();
-        return size;
-    }
-
-    private static Method computeIfAbsent(final MethodKey key, final Function<MethodKey, ? extends Method> mappingFunction) {
-        final Method method = CACHE_ENABLED ? CACHE.computeIfAbsent(key, k -> mappingFunction.apply(k)) : mappingFunction.apply(key);
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Matched " + key + " with method: " + method + ", CACHE_ENABLED: " + CACHE_ENABLED);
-        }
-        return method;
+        return CACHE_SIZE.getAndSet(0);
     }
 
     /**
@@ -186,13 +243,7 @@ public final class MethodUtils {
      * @return The accessible method.
      */
     public static Method getAccessibleMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
-        return computeIfAbsent(new MethodKey(clazz, methodName, parameterTypes, true), k -> {
-            try {
-                return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(clazz, clazz.getMethod(methodName, parameterTypes));
-            } catch (final NoSuchMethodException e) {
-                return null;
-            }
-        });
+        return getMethod(clazz, methodName, parameterTypes, true);
     }
 
     /**
@@ -208,6 +259,30 @@ public final class MethodUtils {
         return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(method);
     }
 
+    /**
+     * Gets the number of lookups of {@link #getAccessibleMethod(Class, String, Class...)} and {@link #getMatchingAccessibleMethod(Class, String, Class[])}
+     * which have been answered from the cache, without reflection. This includes lookups for methods the class does not declare with the given name and
+     * number of parameters. The statistics are not reset when the cache is cleared.
+     *
+     * @return The number of cache hits
+     * @since 2.0.0
+     */
+    public static long getCacheHitCount() {
+        return CACHE_HITS.sum();
+    }
+
+    /**
+     * Gets the number of lookups of {@link #getAccessibleMethod(Class, String, Class...)} and {@link #getMatchingAccessibleMethod(Class, String, Class[])}
+     * which could not be answered from the cache and required reflection, including all lookups while caching is disabled. The statistics are not reset
+     * when the cache is cleared.
+     *
+     * @return The number of cache misses
+     * @since 2.0.0
+     */
+    public static long getCacheMissCount() {
+        return CACHE_MISSES.sum();
+    }
+
     /**
      * Gets an accessible method that matches the given name and has compatible parameters. Compatible parameters mean that every method parameter is assignable
      * from the given parameters. In other words, it finds a method with the given name that will take the parameters given.
@@ -227,13 +302,119 @@ public final class MethodUtils {
      * @return The accessible method.
      */
     public static Method getMatchingAccessibleMethod(final Class<?> clazz, final String methodName, final Class<?>[] parameterTypes) {
-        return computeIfAbsent(new MethodKey(clazz, methodName, parameterTypes, false), k -> {
-            final Method method = org.apache.commons.lang3.reflect.MethodUtils.getMatchingAccessibleMethod(clazz, methodName, parameterTypes);
-            if (method != null) {
-                setMethodAccessible(method); // Default access superclass workaround
+        return getMethod(clazz, methodName, parameterTypes, false);
+    }
+
+    /**
+     * Looks up a method, using the cache if it is enabled. A lookup which has been resolved before is found in the {@link MethodGroup} of the method name
+     * without allocations; lookups for names or numbers of parameters the class has no public method for are rejected without reflection.
+     *
+     * @param cls            The class to reflect
+     * @param methodName     The method name
+     * @param parameterTypes The parameter types
+     * @param exact          Whether the match has to be exact
+     * @return The accessible method or {@code null} if none was found
+     */
+    private static Method getMethod(final Class<?> cls, final String methodName, final Class<?>[] parameterTypes, final boolean exact) {
+        Objects.requireNonNull(cls, "cls");
+        Objects.requireNonNull(methodName, "methodName");
+        final Class<?>[] paramTypes = parameterTypes != null ? parameterTypes : BeanUtils.EMPTY_CLASS_ARRAY;
+        final Method method;
+        if (CACHE_ENABLED) {
+            method = lookupMethod(CACHE.get(cls).get(methodName), cls, methodName, paramTypes, exact);
+        } else {
+            CACHE_MISSES.increment();
+            method = findMethod(cls, methodName, paramTypes, exact);
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Matched " + cls.getName() + "." + methodName + Arrays.toString(paramTypes) + " (exact: " + exact + ") with method: " + method
+                    + ", CACHE_ENABLED: " + CACHE_ENABLED);
+        }
+        return method;
+    }
+
+    /**
+     * Finds a method by reflection.
+     *
+     * @param cls        The class to reflect
+     * @param methodName The method name
+     * @param paramTypes The parameter types
+     * @param exact      Whether the match has to be exact
+     * @return The accessible method or {@code null} if none was found
+     */
+    private static Method findMethod(final Class<?> cls, final String methodName, final Class<?>[] paramTypes, final boolean exact) {
+        if (exact) {
+            try {
+                return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(cls, cls.getMethod(methodName, paramTypes));
+            } catch (final NoSuchMethodException e) {
+                return null;
             }
-            return method;
-        });
+        }
+        final Method method = org.apache.commons.lang3.reflect.MethodUtils.getMatchingAccessibleMethod(cls, methodName, paramTypes);
+        if (method != null) {
+            setMethodAccessible(method); // Default access superclass workaround
+        }
+        return method;
+    }
+
+    /**
+     * Creates the index of the public methods of a class, grouped by name.
+     *
+     * @param cls The class
+     * @return The method groups by name
+     */
+    private static Map<String, MethodGroup> indexMethods(final Class<?> cls) {
+        final Map<String, List<Method>> methods = new HashMap<>();
+        for (final Method method : cls.getMethods()) {
+            methods.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+        }
+        final Map<String, MethodGroup> groups = new HashMap<>(methods.size() * 4 / 3 + 1);
+        methods.forEach((name, list) -> groups.put(name, new MethodGroup(list)));
+        return groups;
+    }
+
+    /**
+     * Tests whether the result of a lookup can be stored in the cache of the class to reflect. This is not the case if one of the parameter types has been
+     * loaded by a class loader which is not visible from this class, for instance by a child class loader; the cache would keep this loader reachable as long
+     * as the class exists.
+     *
+     * @param cls        The class to reflect
+     * @param paramTypes The parameter types of the lookup
+     * @return {@code true} if the result can be cached
+     */
+    private static boolean isCacheable(final Class<?> cls, final Class<?>[] paramTypes) {
+        for (final Class<?> paramType : paramTypes) {
+            if (paramType != null && !ClassCache.isVisible(paramType, cls)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up a method in the group of its name, resolving it by reflection and adding it to the group if necessary.
+     *
+     * @param group      The group of the methods with the name, {@code null} if the class has no such public method
+     * @param cls        The class to reflect
+     * @param methodName The method name
+     * @param paramTypes The parameter types
+     * @param exact      Whether the match has to be exact
+     * @return The accessible method or {@code null} if none was found
+     */
+    private static Method lookupMethod(final MethodGroup group, final Class<?> cls, final String methodName, final Class<?>[] paramTypes,
+            final boolean exact) {
+        if (group == null || !group.accepts(paramTypes.length, exact)) {
+            CACHE_HITS.increment();
+            return null;
+        }
+        final Method cached = group.find(paramTypes, exact);
+        if (cached != null) {
+            CACHE_HITS.increment();
+            return cached;
+        }
+        CACHE_MISSES.increment();
+        final Method method = findMethod(cls, methodName, paramTypes, exact);
+        return method != null && isCacheable(cls, paramTypes) ? group.add(paramTypes, exact, method) : method;
     }
 
     /**
@@ -245,7 +426,7 @@ public final class MethodUtils {
     public static synchronized void setCacheMethods(final boolean cacheMethods) {
         CACHE_ENABLED = cacheMethods;
         if (!CACHE_ENABLED) {
-            CACHE.clear();
+            clearCache();
         }
     }
 
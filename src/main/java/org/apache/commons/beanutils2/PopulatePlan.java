@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The assignments performed by {@link BeanUtilsBean#populate(Object, Map)} for maps with a specific set of keys on beans of a specific class.
+ * <p>
+ * For each key, the plan stores the write handle of the property and the {@link Converter} which {@code BeanUtilsBean.setProperty()} would look up for the
+ * property type. Keys which are no simple names of writable properties with a non-array type, or whose Converter depends on the runtime type of the value,
+ * are assigned by {@link BeanUtilsBean#setProperty(Object, String, Object)}.
+ * </p>
+ * <p>
+ * The keys are kept in the iteration order of the map the plan has been created for. Maps with the same keys usually iterate them in the same order, so
+ * that {@code populate()} can walk the map and the plan side by side.
+ * </p>
+ * <p>
+ * A plan becomes invalid when Converters are registered or deregistered, or when the descriptors of the {@link PropertyUtilsBean} are cleared.
+ * </p>
+ */
+final class PopulatePlan {
+
+    /**
+     * The ways of assigning a single value.
+     */
+    enum Assignment {
+
+        /** The value is converted by {@link ConvertUtilsBean#convert(Object, Class)}. */
+        CONVERT,
+
+        /** The value is converted by the Converter stored in the plan. */
+        CONVERTER,
+
+        /** The value is assigned as it is, as no Converter is registered for the property type. */
+        NONE,
+
+        /** The value is assigned by {@link BeanUtilsBean#setProperty(Object, String, Object)}. */
+        SET_PROPERTY,
+
+        /** The property is read-only, the value is ignored. */
+        SKIP,
+
+        /** The property is a {@code String}; a {@code String} value is assigned as it is, other values are converted. */
+        STRING
+    }
+
+    /** The keys of the map the plan has been created for, without {@code null}, in iteration order. */
+    private final String[] keys;
+
+    /** The indexes of the keys. */
+    private final Map<String, Integer> indexes;
+
+    /** The set of all keys of the map, including {@code null}. */
+    private final Set<String> keySet;
+
+    /** The assignments of the keys. */
+    private final Assignment[] assignments;
+
+    /** The handles for writing the properties. */
+    private final PropertyHandle[] writers;
+
+    /** The Converters of the keys using {@link Assignment#CONVERTER}. */
+    private final Converter<?>[] converters;
+
+    /** The property types. */
+    private final Class<?>[] types;
+
+    /** The PropertyUtilsBean this plan has been created for. */
+    private final WeakReference<PropertyUtilsBean> propertyUtils;
+
+    /** The modification count of the PropertyUtilsBean when this plan was created. */
+    private final int propertyUtilsModificationCount;
+
+    /** The ConvertUtilsBean this plan has been created for. */
+    private final WeakReference<ConvertUtilsBean> convertUtils;
+
+    /** The modification count of the ConvertUtilsBean when this plan was created. */
+    private final int convertUtilsModificationCount;
+
+    /**
+     * Creates a new plan for populating beans of the given class.
+     *
+     * @param propertyUtils The {@code PropertyUtilsBean} providing the introspection data
+     * @param convertUtils  The {@code ConvertUtilsBean} performing the conversions
+     * @param beanClass     The bean class
+     * @param keySet        The keys of the map to populate the beans from
+     */
+    PopulatePlan(final PropertyUtilsBean propertyUtils, final ConvertUtilsBean convertUtils, final Class<?> beanClass, final Set<String> keySet) {
+        // read the counts first, a concurrent modification then invalidates this plan
+        this.propertyUtilsModificationCount = propertyUtils.getModificationCount();
+        this.convertUtilsModificationCount = convertUtils.getModificationCount();
+        this.propertyUtils = new WeakReference<>(propertyUtils);
+        this.convertUtils = new WeakReference<>(convertUtils);
+        this.keySet = Collections.unmodifiableSet(new HashSet<>(keySet));
+        final List<String> keyList = new ArrayList<>(keySet.size());
+        for (final String key : keySet) {
+            if (key != null) {
+                keyList.add(key);
+            }
+        }
+        this.keys = keyList.toArray(new String[0]);
+        this.indexes = new HashMap<>();
+        this.assignments = new Assignment[keys.length];
+        this.writers = new PropertyHandle[keys.length];
+        this.converters = new Converter<?>[keys.length];
+        this.types = new Class<?>[keys.length];
+        final Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+        for (final PropertyDescriptor descriptor : propertyUtils.getPropertyDescriptors(beanClass)) {
+            descriptors.put(descriptor.getName(), descriptor);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            indexes.put(keys[i], Integer.valueOf(i));
+            assignments[i] = resolve(propertyUtils, convertUtils, beanClass, descriptors, i);
+        }
+    }
+
+    /**
+     * Gets the assignment of a key.
+     *
+     * @param index The index of the key
+     * @return The assignment
+     */
+    Assignment getAssignment(final int index) {
+        return assignments[index];
+    }
+
+    /**
+     * Gets the Converter of a key.
+     *
+     * @param index The index of the key
+     * @return The Converter or {@code null} if the assignment is not {@link Assignment#CONVERTER}
+     */
+    Converter<?> getConverter(final int index) {
+        return converters[index];
+    }
+
+    /**
+     * Gets the key with the given index.
+     *
+     * @param index The index of the key
+     * @return The key
+     */
+    String getKey(final int index) {
+        return keys[index];
+    }
+
+    /**
+     * Gets the set of all keys this plan has been created for.
+     *
+     * @return The unmodifiable set of keys
+     */
+    Set<String> getKeySet() {
+        return keySet;
+    }
+
+    /**
+     * Gets the type of the property of a key.
+     *
+     * @param index The index of the key
+     * @return The property type or {@code null} if the value is not assigned directly
+     */
+    Class<?> getType(final int index) {
+        return types[index];
+    }
+
+    /**
+     * Gets the write handle of the property of a key.
+     *
+     * @param index The index of the key
+     * @return The write handle or {@code null} if the value is not assigned directly
+     */
+    PropertyHandle getWriter(final int index) {
+        return writers[index];
+    }
+
+    /**
+     * Finds the index of a key. The key expected at the given position is checked first.
+     *
+     * @param key      The key
+     * @param expected The position at which the key is expected
+     * @return The index of the key or -1 if this plan does not contain it
+     */
+    int indexOf(final String key, final int expected) {
+        if (expected < keys.length && (keys[expected] == key || keys[expected].equals(key))) {
+            return expected;
+        }
+        final Integer index = indexes.get(key);
+        return index != null ? index.intValue() : -1;
+    }
+
+    /**
+     * Tests whether this plan can be used with the given beans.
+     *
+     * @param propertyUtils The {@code PropertyUtilsBean}
+     * @param convertUtils  The {@code ConvertUtilsBean}
+     * @return {@code true} if this plan has been created for these beans and they have not been modified since
+     */
+    boolean isValid(final PropertyUtilsBean propertyUtils, final ConvertUtilsBean convertUtils) {
+        return this.propertyUtils.get() == propertyUtils && propertyUtilsModificationCount == propertyUtils.getModificationCount()
+                && this.convertUtils.get() == convertUtils && convertUtilsModificationCount == convertUtils.getModificationCount();
+    }
+
+    /**
+     * Determines the assignment of a single key.
+     *
+     * @param propertyUtils The {@code PropertyUtilsBean}
+     * @param convertUtils  The {@code ConvertUtilsBean}
+     * @param beanClass     The bean class
+     * @param descriptors   The property descriptors of the bean class by name
+     * @param index         The index of the key
+     * @return The assignment
+     */
+    private Assignment resolve(final PropertyUtilsBean propertyUtils, final ConvertUtilsBean convertUtils, final Class<?> beanClass,
+            final Map<String, PropertyDescriptor> descriptors, final int index) {
+        final String key = keys[index];
+        final PropertyDescriptor descriptor = descriptors.get(key);
+        if (descriptor == null || descriptor instanceof MappedPropertyDescriptor || !propertyUtils.isSimpleName(key)) {
+            return Assignment.SET_PROPERTY;
+        }
+        if (!FieldPropertyDescriptor.hasWriter(descriptor)) {
+            return Assignment.SKIP;
+        }
+        final PropertyHandle writer = propertyUtils.getWriteHandle(beanClass, key);
+        final Class<?> type = descriptor.getPropertyType();
+        if (writer == null || type == null || type.isArray()) {
+            return Assignment.SET_PROPERTY;
+        }
+        writers[index] = writer;
+        types[index] = type;
+        if (!convertUtils.hasStandardLookup()) {
+            return Assignment.CONVERT;
+        }
+        if (type == String.class) {
+            return convertUtils.isStandardConverter(String.class) ? Assignment.STRING : Assignment.CONVERT;
+        }
+        final Converter<?> converter = convertUtils.lookup(type);
+        if (converter == null) {
+            return Assignment.NONE;
+        }
+        if (!ClassCache.isVisible(converter.getClass(), beanClass)) {
+            // do not keep the Converter's class loader reachable
+            return Assignment.CONVERT;
+        }
+        converters[index] = converter;
+        return Assignment.CONVERTER;
+    }
+
+    /**
+     * Gets the number of keys, not counting {@code null}.
+     *
+     * @return The number of keys
+     */
+    int size() {
+        return keys.length;
+    }
+}
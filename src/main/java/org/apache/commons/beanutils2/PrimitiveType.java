@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * <p>
+ * The primitive types supported by the primitive accessors of {@link PropertyUtilsBean} and {@link CompiledProperty}, for instance
+ * {@link PropertyUtilsBean#getIntProperty(Object, String)}. Each constant reads and writes property values of its type through a {@link PropertyHandle}
+ * without boxing, and converts boxed values if the property cannot be accessed that way.
+ * </p>
+ * <p>
+ * So that the accessors share a single implementation per direction, values are passed as {@code long}: {@code boolean} values as 0 or 1, {@code int} and
+ * {@code long} values as they are, and {@code double} values as their raw bits, see {@link Double#doubleToRawLongBits(double)}.
+ * </p>
+ */
+enum PrimitiveType {
+
+    /** The type {@code boolean}. */
+    BOOLEAN(Boolean.TYPE) {
+        @Override
+        long fromValue(final Object value, final String name) {
+            if (value instanceof Boolean) {
+                return ((Boolean) value).booleanValue() ? 1 : 0;
+            }
+            throw cannotConvert(value, name);
+        }
+
+        @Override
+        long read(final PropertyHandle handle, final Object bean) throws InvocationTargetException {
+            return handle.readBoolean(bean) ? 1 : 0;
+        }
+
+        @Override
+        Object toValue(final long bits) {
+            return Boolean.valueOf(bits != 0);
+        }
+
+        @Override
+        void write(final PropertyHandle handle, final Object bean, final long bits) throws InvocationTargetException {
+            handle.writeBoolean(bean, bits != 0);
+        }
+    },
+
+    /** The type {@code double}. */
+    DOUBLE(Double.TYPE) {
+        @Override
+        long fromValue(final Object value, final String name) {
+            return Double.doubleToRawLongBits(toNumber(value, name).doubleValue());
+        }
+
+        @Override
+        long read(final PropertyHandle handle, final Object bean) throws InvocationTargetException {
+            return Double.doubleToRawLongBits(handle.readDouble(bean));
+        }
+
+        @Override
+        Object toValue(final long bits) {
+            return Double.valueOf(Double.longBitsToDouble(bits));
+        }
+
+        @Override
+        void write(final PropertyHandle handle, final Object bean, final long bits) throws InvocationTargetException {
+            handle.writeDouble(bean, Double.longBitsToDouble(bits));
+        }
+    },
+
+    /** The type {@code int}. */
+    INT(Integer.TYPE) {
+        @Override
+        long fromValue(final Object value, final String name) {
+            return toNumber(value, name).intValue();
+        }
+
+        @Override
+        long read(final PropertyHandle handle, final Object bean) throws InvocationTargetException {
+            return handle.readInt(bean);
+        }
+
+        @Override
+        Object toValue(final long bits) {
+            return Integer.valueOf((int) bits);
+        }
+
+        @Override
+        void write(final PropertyHandle handle, final Object bean, final long bits) throws InvocationTargetException {
+            handle.writeInt(bean, (int) bits);
+        }
+    },
+
+    /** The type {@code long}. */
+    LONG(Long.TYPE) {
+        @Override
+        long fromValue(final Object value, final String name) {
+            return toNumber(value, name).longValue();
+        }
+
+        @Override
+        long read(final PropertyHandle handle, final Object bean) throws InvocationTargetException {
+            return handle.readLong(bean);
+        }
+
+        @Override
+        Object toValue(final long bits) {
+            return Long.valueOf(bits);
+        }
+
+        @Override
+        void write(final PropertyHandle handle, final Object bean, final long bits) throws InvocationTargetException {
+            handle.writeLong(bean, bits);
+        }
+    };
+
+    /** The primitive class. */
+    private final Class<?> type;
+
+    /**
+     * Creates a new constant.
+     *
+     * @param type The primitive class
+     */
+    PrimitiveType(final Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Tests whether the given handle can read the property without boxing.
+     *
+     * @param handle The handle, may be {@code null}
+     * @return {@code true} if the handle can be used with {@link #read(PropertyHandle, Object)}
+     */
+    boolean canRead(final PropertyHandle handle) {
+        return handle != null && handle.canReadAs(type);
+    }
+
+    /**
+     * Tests whether the given handle can write the property without boxing.
+     *
+     * @param handle The handle, may be {@code null}
+     * @return {@code true} if the handle can be used with {@link #write(PropertyHandle, Object, long)}
+     */
+    boolean canWrite(final PropertyHandle handle) {
+        return handle != null && handle.canWriteAs(type);
+    }
+
+    /**
+     * Creates the exception reporting that a property value cannot be converted to this type.
+     *
+     * @param value The value
+     * @param name  The property name
+     * @return The exception
+     */
+    IllegalArgumentException cannotConvert(final Object value, final String name) {
+        return new IllegalArgumentException("Cannot convert value '" + value + "' of property '" + name + "' to " + type);
+    }
+
+    /**
+     * Converts a boxed property value to this type.
+     *
+     * @param value The value
+     * @param name  The property name
+     * @return The converted value
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    abstract long fromValue(Object value, String name);
+
+    /**
+     * Reads a property value without boxing.
+     *
+     * @param handle The handle, which can read the property as this type
+     * @param bean   The bean
+     * @return The value
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    abstract long read(PropertyHandle handle, Object bean) throws InvocationTargetException;
+
+    /**
+     * Casts a property value to a {@code Number}, the boxed value which can be converted to a numeric type.
+     *
+     * @param value The value
+     * @param name  The property name
+     * @return The value as a {@code Number}
+     * @throws IllegalArgumentException if the value is not a {@code Number}
+     */
+    Number toNumber(final Object value, final String name) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        throw cannotConvert(value, name);
+    }
+
+    /**
+     * Boxes a value of this type.
+     *
+     * @param bits The value
+     * @return The boxed value
+     */
+    abstract Object toValue(long bits);
+
+    /**
+     * Writes a property value without boxing.
+     *
+     * @param handle The handle, which can write the property as this type
+     * @param bean   The bean
+     * @param bits   The value
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    abstract void write(PropertyHandle handle, Object bean, long bits) throws InvocationTargetException;
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * <p>
+ * A typed accessor for a property of beans of a specific class, created by {@link PropertyUtilsBean#accessor(Class, String, Class)}.
+ * </p>
+ * <p>
+ * An accessor is meant to be obtained once, for instance when a serializer or a rule is set up, and then to be reused for all beans: the property name
+ * expression is parsed and the accessors of the property chain are resolved when the accessor is created, so reading and writing the property performs
+ * no lookups by name. Internally, the access is delegated to a {@link CompiledProperty}; the results, including the exceptions thrown, are the same as
+ * those of {@link PropertyUtilsBean#getNestedProperty(Object, String)} and {@link PropertyUtilsBean#setNestedProperty(Object, String, Object)}.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * @param <B> The type of the beans
+ * @param <V> The type of the property values
+ * @see PropertyUtilsBean#accessor(Class, String, Class)
+ * @since 2.0.0
+ */
+public final class PropertyAccessor<B, V> {
+
+    /** The compiled property performing the access. */
+    private final CompiledProperty property;
+
+    /** The type of the property values, primitive types replaced by their wrapper types. */
+    private final Class<V> valueType;
+
+    /**
+     * Creates a new instance for the given compiled property and checks the value type against the declared type of the property if it is known.
+     *
+     * @param property  The compiled property
+     * @param valueType The type of the property values
+     * @throws IllegalArgumentException if the declared type of the property is not compatible with the value type
+     */
+    @SuppressWarnings("unchecked")
+    PropertyAccessor(final CompiledProperty property, final Class<V> valueType) {
+        this.property = property;
+        this.valueType = (Class<V>) ClassUtils.primitiveToWrapper(valueType);
+        final Class<?> propertyType = ClassUtils.primitiveToWrapper(property.getPropertyType());
+        if (propertyType != null && !this.valueType.isAssignableFrom(propertyType) && !propertyType.isAssignableFrom(this.valueType)) {
+            throw new IllegalArgumentException("Property '" + property.getPath() + "' of " + property.getBeanClass() + " has type " + propertyType.getName()
+                    + ", not " + valueType.getName());
+        }
+    }
+
+    /**
+     * Gets the value of the property from the specified bean, with no type conversions.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @return The property value
+     * @throws ClassCastException        if the value is not an instance of the value type of this accessor
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null
+     * @throws NestedNullException       if a nested reference to a property returns null and null-safe nesting is disabled
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    public V get(final B bean) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return valueType.cast(property.get(bean));
+    }
+
+    /**
+     * Gets the class of the beans this accessor has been created for.
+     *
+     * @return The bean class
+     */
+    public Class<?> getBeanClass() {
+        return property.getBeanClass();
+    }
+
+    /**
+     * Gets the property name expression this accessor has been created for.
+     *
+     * @return The property name expression
+     */
+    public String getName() {
+        return property.getPath().toString();
+    }
+
+    /**
+     * Gets the type of the property values. Primitive types are represented by their wrapper types.
+     *
+     * @return The value type
+     */
+    public Class<V> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Sets the value of the property on the specified bean, with no type conversions.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} is null or if the value cannot be assigned to the property
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    public void set(final B bean, final V value) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        property.set(bean, value);
+    }
+
+    @Override
+    public String toString() {
+        return property + ":" + valueType.getName();
+    }
+}
@@ -0,0 +1,534 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * <p>
+ * An internally used accessor for a simple property of a specific bean class.
+ * </p>
+ * <p>
+ * {@link PropertyUtilsBean} creates an instance of this class the first time a simple property of a bean class is read or written and stores it in the
+ * {@link BeanIntrospectionData} of that class. The read and write methods, as resolved for the concrete bean class, are bound to {@link MethodHandle}s which
+ * are adapted once to the generic shapes {@code (Object)Object} and {@code (Object, Object)void}. Invoking these handles avoids the varargs array, the access
+ * checks and the argument conversions performed by {@link Method#invoke(Object, Object...)} on each call.
+ * </p>
+ * <p>
+ * If no handle can be created for a method, for instance because its declaring class is not public or because a security manager denies the lookup, the
+ * corresponding handle is {@code null} and callers have to fall back to reflection using the methods returned by {@link #getReadMethod()} and
+ * {@link #getWriteMethod()}.
+ * </p>
+ * <p>
+ * For bean classes with {@link GeneratedAccessors generated accessors}, no method handles are created; the property is read and written by the generated
+ * code, which calls the accessor methods directly.
+ * </p>
+ * <p>
+ * A handle can also be bound to a field, for properties described by a {@link FieldPropertyDescriptor}. Then the read and write handles are getter and
+ * setter handles of the field, which are as cheap as direct field access once they are inlined. Such handles have no read and write methods; the field is
+ * returned by {@link #getField()}.
+ * </p>
+ */
+final class PropertyHandle {
+
+    /** The type all read handles are adapted to. */
+    private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** The type all write handles are adapted to. */
+    private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** Log instance */
+    private static final Log LOG = LogFactory.getLog(PropertyHandle.class);
+
+    /**
+     * Adapts a handle to the given type.
+     *
+     * @param handle The handle, may be {@code null}
+     * @param type   The type of the resulting handle
+     * @return The adapted handle or {@code null} if the handle is {@code null}
+     */
+    private static MethodHandle adapt(final MethodHandle handle, final MethodType type) {
+        return handle != null ? handle.asType(type) : null;
+    }
+
+    /**
+     * Tests whether primitive handles are created for properties of the given type.
+     *
+     * @param type The type of the property
+     * @return {@code true} for the types supported by the primitive read and write methods
+     */
+    private static boolean isSpecialized(final Class<?> type) {
+        return type == Integer.TYPE || type == Long.TYPE || type == Double.TYPE || type == Boolean.TYPE;
+    }
+
+    /**
+     * Adapts a handle reading a property to the shape {@code (Object)P} if the property has one of the supported primitive types {@code P}.
+     *
+     * @param handle The handle bound to the read method or field, may be {@code null}
+     * @return The adapted handle or {@code null} if the property does not have a supported primitive type
+     */
+    private static MethodHandle primitiveReader(final MethodHandle handle) {
+        if (handle == null || !isSpecialized(handle.type().returnType())) {
+            return null;
+        }
+        return handle.asType(MethodType.methodType(handle.type().returnType(), Object.class));
+    }
+
+    /**
+     * Adapts a handle writing a property to the shape {@code (Object, P)void} if the property has one of the supported primitive types {@code P}.
+     *
+     * @param handle The handle bound to the write method or field, may be {@code null}
+     * @return The adapted handle or {@code null} if the property does not have a supported primitive type
+     */
+    private static MethodHandle primitiveWriter(final MethodHandle handle) {
+        if (handle == null || !isSpecialized(handle.type().parameterType(1))) {
+            return null;
+        }
+        return handle.asType(MethodType.methodType(void.class, Object.class, handle.type().parameterType(1)));
+    }
+
+    /**
+     * Creates a getter or setter handle for the given field.
+     *
+     * @param field  The field
+     * @param setter {@code true} for a setter handle, {@code false} for a getter handle
+     * @return The method handle or {@code null} if no handle can be created
+     */
+    private static MethodHandle unreflect(final Field field, final boolean setter) {
+        try {
+            return setter ? MethodHandles.publicLookup().unreflectSetter(field) : MethodHandles.publicLookup().unreflectGetter(field);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cannot create method handle for " + field + ", falling back to reflection", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Creates a method handle for the given method.
+     *
+     * @param method The method
+     * @return The method handle or {@code null} if no handle can be created
+     */
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cannot create method handle for " + method + ", falling back to reflection", e);
+            }
+            return null;
+        }
+    }
+
+    /** The read method of the property, {@code null} if the property cannot be read. */
+    private final Method readMethod;
+
+    /** The write method of the property, {@code null} if the property cannot be written. */
+    private final Method writeMethod;
+
+    /** The field backing the property, {@code null} if the property has accessor methods. */
+    private final Field field;
+
+    /** The handle bound to the read method, {@code null} if reflection has to be used. */
+    private final MethodHandle readHandle;
+
+    /** The handle bound to the write method, {@code null} if reflection has to be used. */
+    private final MethodHandle writeHandle;
+
+    /** The handle bound to the read method with the shape {@code (Object)P} for a property of a supported primitive type, {@code null} otherwise. */
+    private final MethodHandle primitiveReadHandle;
+
+    /** The handle bound to the write method with the shape {@code (Object, P)void} for a property of a supported primitive type, {@code null} otherwise. */
+    private final MethodHandle primitiveWriteHandle;
+
+    /** The (wrapper) type of the values accepted by the write handle. */
+    private final Class<?> writeType;
+
+    /** Whether the write method expects a primitive value, so that {@code null} cannot be passed to it. */
+    private final boolean primitiveWrite;
+
+    /** The generated accessors of the bean class, {@code null} if the method handles are used. */
+    private final BeanAccessors accessors;
+
+    /** The index of the property in the generated accessors. */
+    private final int accessorIndex;
+
+    /** Whether the property is read by the generated accessors. */
+    private final boolean generatedRead;
+
+    /** Whether the property is written by the generated accessors. */
+    private final boolean generatedWrite;
+
+    /**
+     * Creates a new instance of {@code PropertyHandle} for the given accessible read and write methods.
+     *
+     * @param readMethod  The read method, may be {@code null}
+     * @param writeMethod The write method, may be {@code null}
+     */
+    PropertyHandle(final Method readMethod, final Method writeMethod) {
+        this(readMethod, writeMethod, null, -1);
+    }
+
+    /**
+     * Creates a new instance of {@code PropertyHandle} for the given accessible read and write methods which are called by generated accessors. The caller
+     * has to make sure that the accessors call exactly these methods.
+     *
+     * @param readMethod    The read method, may be {@code null}
+     * @param writeMethod   The write method, may be {@code null}
+     * @param accessors     The generated accessors, {@code null} to use method handles
+     * @param accessorIndex The index of the property in the generated accessors
+     */
+    PropertyHandle(final Method readMethod, final Method writeMethod, final BeanAccessors accessors, final int accessorIndex) {
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.field = null;
+        this.accessors = accessors;
+        this.accessorIndex = accessorIndex;
+        final boolean readable = readMethod != null && readMethod.getParameterCount() == 0;
+        final boolean writable = writeMethod != null && writeMethod.getParameterCount() == 1;
+        this.generatedRead = readable && accessors != null;
+        this.generatedWrite = writable && accessors != null;
+        final MethodHandle reader = readable && accessors == null ? unreflect(readMethod) : null;
+        final MethodHandle writer = writable && accessors == null ? unreflect(writeMethod) : null;
+        this.readHandle = adapt(reader, READ_TYPE);
+        this.writeHandle = adapt(writer, WRITE_TYPE);
+        this.primitiveReadHandle = primitiveReader(reader);
+        this.primitiveWriteHandle = primitiveWriter(writer);
+        final Class<?> parameterType = writeHandle != null || generatedWrite ? writeMethod.getParameterTypes()[0] : Object.class;
+        this.writeType = ClassUtils.primitiveToWrapper(parameterType);
+        this.primitiveWrite = parameterType.isPrimitive();
+    }
+
+    /**
+     * Creates a new instance of {@code PropertyHandle} for the given field. The field must be accessible; if it is {@code final}, the property cannot be
+     * written.
+     *
+     * @param field The field
+     */
+    PropertyHandle(final Field field) {
+        this.readMethod = null;
+        this.writeMethod = null;
+        this.field = field;
+        this.accessors = null;
+        this.accessorIndex = -1;
+        this.generatedRead = false;
+        this.generatedWrite = false;
+        final MethodHandle reader = unreflect(field, false);
+        final MethodHandle writer = Modifier.isFinal(field.getModifiers()) ? null : unreflect(field, true);
+        this.readHandle = adapt(reader, READ_TYPE);
+        this.writeHandle = adapt(writer, WRITE_TYPE);
+        this.primitiveReadHandle = primitiveReader(reader);
+        this.primitiveWriteHandle = primitiveWriter(writer);
+        this.writeType = ClassUtils.primitiveToWrapper(writeHandle != null ? field.getType() : Object.class);
+        this.primitiveWrite = writeHandle != null && field.getType().isPrimitive();
+    }
+
+    /**
+     * Tests whether the property can be read without boxing as a value of the given primitive type, using {@link #readInt(Object)},
+     * {@link #readLong(Object)}, {@link #readDouble(Object)} or {@link #readBoolean(Object)}.
+     *
+     * @param type The primitive type
+     * @return {@code true} if the property is read by a handle returning exactly this type
+     */
+    boolean canReadAs(final Class<?> type) {
+        return primitiveReadHandle != null && primitiveReadHandle.type().returnType() == type;
+    }
+
+    /**
+     * Tests whether the property can be written without boxing as a value of the given primitive type, using {@link #writeInt(Object, int)},
+     * {@link #writeLong(Object, long)}, {@link #writeDouble(Object, double)} or {@link #writeBoolean(Object, boolean)}.
+     *
+     * @param type The primitive type
+     * @return {@code true} if the property is written by a handle accepting exactly this type
+     */
+    boolean canWriteAs(final Class<?> type) {
+        return primitiveWriteHandle != null && primitiveWriteHandle.type().parameterType(1) == type;
+    }
+
+    /**
+     * Tests whether the given value can be passed to the write handle. Values which would require a conversion (for example a widening primitive conversion)
+     * or which would be rejected by the write method are left to reflection, which performs these conversions and reports errors consistently.
+     *
+     * @param value The value to be written
+     * @return {@code true} if {@link #write(Object, Object)} can be used for this value
+     */
+    boolean canWrite(final Object value) {
+        if (writeHandle == null && !generatedWrite) {
+            return false;
+        }
+        return value == null ? !primitiveWrite : writeType == value.getClass() || writeType.isInstance(value);
+    }
+
+    /**
+     * Returns the field backing the property.
+     *
+     * @return The field or {@code null} if the property has accessor methods
+     */
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the read method of the property.
+     *
+     * @return The read method or {@code null} if the property cannot be read
+     */
+    Method getReadMethod() {
+        return readMethod;
+    }
+
+    /**
+     * Returns the type of the values returned by {@link #read(Object)}.
+     *
+     * @return The return type of the read method or the type of the field, {@code null} if the property cannot be read
+     */
+    Class<?> getReadType() {
+        if (field != null) {
+            return field.getType();
+        }
+        return readMethod != null ? readMethod.getReturnType() : null;
+    }
+
+    /**
+     * Returns the write method of the property.
+     *
+     * @return The write method or {@code null} if the property cannot be written
+     */
+    Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    /**
+     * Tests whether the property can be read via {@link #read(Object)}.
+     *
+     * @return {@code true} if a read handle or generated accessors are available
+     */
+    boolean hasReadHandle() {
+        return readHandle != null || generatedRead;
+    }
+
+    /**
+     * Tests whether the property can be read, either by its read method or by its field.
+     *
+     * @return {@code true} if the property can be read
+     */
+    boolean isReadable() {
+        return readMethod != null || field != null;
+    }
+
+    /**
+     * Tests whether the property can be written, either by its write method or by its field.
+     *
+     * @return {@code true} if the property can be written
+     */
+    boolean isWritable() {
+        return writeMethod != null || field != null && !Modifier.isFinal(field.getModifiers());
+    }
+
+    /**
+     * Reads the property value from the given field using reflection. This is used if no read handle could be created for the field.
+     *
+     * @param bean The bean
+     * @return The property value
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    Object readField(final Object bean) throws IllegalAccessException {
+        return field.get(bean);
+    }
+
+    /**
+     * Reads the property value from the given bean using the read handle. The bean must be an instance of the class this handle has been created for.
+     *
+     * @param bean The bean
+     * @return The property value
+     * @throws InvocationTargetException if the read method throws an exception
+     */
+    Object read(final Object bean) throws InvocationTargetException {
+        try {
+            if (generatedRead) {
+                return accessors.read(bean, accessorIndex);
+            }
+            return readHandle.invokeExact(bean);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Reads the value of a property of type {@code boolean} from the given bean without boxing. The caller has to check {@link #canReadAs(Class)} first.
+     *
+     * @param bean The bean
+     * @return The property value
+     * @throws InvocationTargetException if the read method throws an exception
+     */
+    boolean readBoolean(final Object bean) throws InvocationTargetException {
+        try {
+            return (boolean) primitiveReadHandle.invokeExact(bean);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Reads the value of a property of type {@code double} from the given bean without boxing. The caller has to check {@link #canReadAs(Class)} first.
+     *
+     * @param bean The bean
+     * @return The property value
+     * @throws InvocationTargetException if the read method throws an exception
+     */
+    double readDouble(final Object bean) throws InvocationTargetException {
+        try {
+            return (double) primitiveReadHandle.invokeExact(bean);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Reads the value of a property of type {@code int} from the given bean without boxing. The caller has to check {@link #canReadAs(Class)} first.
+     *
+     * @param bean The bean
+     * @return The property value
+     * @throws InvocationTargetException if the read method throws an exception
+     */
+    int readInt(final Object bean) throws InvocationTargetException {
+        try {
+            return (int) primitiveReadHandle.invokeExact(bean);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Reads the value of a property of type {@code long} from the given bean without boxing. The caller has to check {@link #canReadAs(Class)} first.
+     *
+     * @param bean The bean
+     * @return The property value
+     * @throws InvocationTargetException if the read method throws an exception
+     */
+    long readLong(final Object bean) throws InvocationTargetException {
+        try {
+            return (long) primitiveReadHandle.invokeExact(bean);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Writes a property value to the given bean using the write handle. The caller has to check the value with {@link #canWrite(Object)} first.
+     *
+     * @param bean  The bean
+     * @param value The value to be written
+     * @throws InvocationTargetException if the write method throws an exception
+     */
+    void write(final Object bean, final Object value) throws InvocationTargetException {
+        try {
+            if (generatedWrite) {
+                accessors.write(bean, accessorIndex, value);
+            } else {
+                writeHandle.invokeExact(bean, value);
+            }
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Writes a value of a property of type {@code boolean} to the given bean without boxing. The caller has to check {@link #canWriteAs(Class)} first.
+     *
+     * @param bean  The bean
+     * @param value The value to be written
+     * @throws InvocationTargetException if the write method throws an exception
+     */
+    void writeBoolean(final Object bean, final boolean value) throws InvocationTargetException {
+        try {
+            primitiveWriteHandle.invokeExact(bean, value);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Writes a value of a property of type {@code double} to the given bean without boxing. The caller has to check {@link #canWriteAs(Class)} first.
+     *
+     * @param bean  The bean
+     * @param value The value to be written
+     * @throws InvocationTargetException if the write method throws an exception
+     */
+    void writeDouble(final Object bean, final double value) throws InvocationTargetException {
+        try {
+            primitiveWriteHandle.invokeExact(bean, value);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Writes a value of a property of type {@code int} to the given bean without boxing. The caller has to check {@link #canWriteAs(Class)} first.
+     *
+     * @param bean  The bean
+     * @param value The value to be written
+     * @throws InvocationTargetException if the write method throws an exception
+     */
+    void writeInt(final Object bean, final int value) throws InvocationTargetException {
+        try {
+            primitiveWriteHandle.invokeExact(bean, value);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Writes a value of a property of type {@code long} to the given bean without boxing. The caller has to check {@link #canWriteAs(Class)} first.
+     *
+     * @param bean  The bean
+     * @param value The value to be written
+     * @throws InvocationTargetException if the write method throws an exception
+     */
+    void writeLong(final Object bean, final long value) throws InvocationTargetException {
+        try {
+            primitiveWriteHandle.invokeExact(bean, value);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Writes a property value to the given field using reflection. This is used for values which cannot be passed to the write handle, so that widening
+     * conversions are performed and errors are reported like for write methods.
+     *
+     * @param bean  The bean
+     * @param value The value to be written
+     * @throws IllegalAccessException   if the field is not accessible
+     * @throws IllegalArgumentException if the value cannot be assigned to the field
+     */
+    void writeField(final Object bean, final Object value) throws IllegalAccessException {
+        field.set(bean, value);
+    }
+}
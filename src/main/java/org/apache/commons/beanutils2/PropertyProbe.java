@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+/**
+ * <p>
+ * The result of probing a property with one of the {@code try} methods of {@link PropertyUtilsBean}, for instance
+ * {@link PropertyUtilsBean#tryGetProperty(Object, String)}.
+ * </p>
+ * <p>
+ * The methods of {@code PropertyUtilsBean} which access properties report a missing property or a {@code null} value in the middle of a nested expression by
+ * throwing a {@link NoSuchMethodException} or a {@link NestedNullException}. Creating these exceptions is expensive, mainly because of their stack traces.
+ * The {@code try} methods report these expected outcomes by a {@link Status} instead and never create an exception for them. The description of a miss
+ * is only assembled when {@link #getMessage()} is called. Genuine errors, for example an exception thrown by a getter method, are still thrown.
+ * </p>
+ * <p>
+ * The throwing methods of {@code PropertyUtilsBean} are implemented by calling {@link #orElseThrow()} on the result of the corresponding probe, so both
+ * report the same outcome with the same message.
+ * </p>
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class PropertyProbe {
+
+    /**
+     * The outcome of probing a property.
+     */
+    public enum Status {
+
+        /** The property exists and could be read, or it is readable or writable respectively. */
+        AVAILABLE,
+
+        /** A reference in the middle of a nested property name expression evaluated to {@code null}. */
+        NESTED_NULL,
+
+        /** The property exists, but it cannot be read. */
+        NOT_READABLE,
+
+        /** The property exists, but it cannot be written. */
+        NOT_WRITEABLE,
+
+        /** The property does not exist. */
+        NO_SUCH_PROPERTY
+    }
+
+    /** The result of a successful probe without a value. */
+    static final PropertyProbe AVAILABLE = new PropertyProbe(Status.AVAILABLE, null, null, null, null, null, null);
+
+    /**
+     * Creates a result for a property which has been read successfully.
+     *
+     * @param value The value of the property
+     * @return The result
+     */
+    static PropertyProbe found(final Object value) {
+        return value == null ? AVAILABLE : new PropertyProbe(Status.AVAILABLE, value, null, null, null, null, null);
+    }
+
+    /**
+     * Creates a result for an unsuccessful probe. The message describing the result is composed of the given parts when it is requested:
+     * {@code prefix + name + infix + owner + "'"}.
+     *
+     * @param status The status
+     * @param prefix The text preceding the property name
+     * @param name   The property name
+     * @param infix  The text between the property name and the owner
+     * @param owner  The bean class or {@code DynaClass} the property has been probed on
+     * @return The result
+     */
+    static PropertyProbe miss(final Status status, final String prefix, final String name, final String infix, final Object owner) {
+        return new PropertyProbe(status, null, prefix, name, infix, owner, null);
+    }
+
+    /**
+     * Creates a result for a {@code null} reference in the middle of a nested property name expression.
+     *
+     * @param name      The part of the expression which evaluated to {@code null}
+     * @param beanClass The class of the bean the part has been evaluated on
+     * @return The result
+     */
+    static PropertyProbe nestedNull(final String name, final Class<?> beanClass) {
+        return miss(Status.NESTED_NULL, "Null property value for '", name, "' on bean class '", beanClass);
+    }
+
+    /**
+     * Creates a result for a missing property reported by an exception, for example by a method which may be overridden.
+     *
+     * @param exception The exception
+     * @return The result
+     */
+    static PropertyProbe of(final NoSuchMethodException exception) {
+        return new PropertyProbe(Status.NO_SUCH_PROPERTY, null, null, null, null, null, exception);
+    }
+
+    /** The status. */
+    private final Status status;
+
+    /** The property value. */
+    private final Object value;
+
+    /** The text of the message preceding the property name. */
+    private final String prefix;
+
+    /** The property name. */
+    private final String name;
+
+    /** The text of the message between the property name and the owner. */
+    private final String infix;
+
+    /** The bean class or {@code DynaClass}. */
+    private final Object owner;
+
+    /** The exception reporting the miss, if it has been reported by an exception. */
+    private final NoSuchMethodException exception;
+
+    private PropertyProbe(final Status status, final Object value, final String prefix, final String name, final String infix, final Object owner,
+            final NoSuchMethodException exception) {
+        this.status = status;
+        this.value = value;
+        this.prefix = prefix;
+        this.name = name;
+        this.infix = infix;
+        this.owner = owner;
+        this.exception = exception;
+    }
+
+    /**
+     * Gets a description of an unsuccessful probe. This is the message of the exception thrown by {@link #orElseThrow()}.
+     *
+     * @return The description or {@code null} if the probe was successful
+     */
+    public String getMessage() {
+        if (exception != null) {
+            return exception.getMessage();
+        }
+        return prefix != null ? prefix + name + infix + owner + "'" : null;
+    }
+
+    /**
+     * Gets the status.
+     *
+     * @return The status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the value of the property which has been read.
+     *
+     * @return The value or {@code null} if the probe was not successful or did not read a value
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Tests whether the probe was successful.
+     *
+     * @return {@code true} if the status is {@link Status#AVAILABLE}
+     */
+    public boolean isAvailable() {
+        return status == Status.AVAILABLE;
+    }
+
+    /**
+     * Gets the value of the property if the probe was successful, or the given value otherwise.
+     *
+     * @param other The value to be returned if the probe was not successful
+     * @return The value of the property or {@code other}
+     */
+    public Object orElse(final Object other) {
+        return isAvailable() ? value : other;
+    }
+
+    /**
+     * Gets the value of the property if the probe was successful, or throws the exception which the corresponding method of {@link PropertyUtilsBean}
+     * throws otherwise.
+     *
+     * @return The value of the property
+     * @throws NestedNullException   if the status is {@link Status#NESTED_NULL}
+     * @throws NoSuchMethodException if the property does not exist or cannot be accessed
+     */
+    public Object orElseThrow() throws NoSuchMethodException {
+        switch (status) {
+        case AVAILABLE:
+            return value;
+        case NESTED_NULL:
+            throw new NestedNullException(getMessage());
+        default:
+            throw exception != null ? exception : new NoSuchMethodException(getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isAvailable() ? "PropertyProbe[" + status + ", " + value + "]" : "PropertyProbe[" + status + ", " + getMessage() + "]";
+    }
+}
@@ -21,18 +21,35 @@ import java.beans.IndexedPropertyDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
+import org.apache.commons.beanutils2.PropertyProbe.Status;
 import org.apache.commons.beanutils2.expression.DefaultResolver;
+import org.apache.commons.beanutils2.expression.PropertyPath;
 import org.apache.commons.beanutils2.expression.Resolver;
+import org.apache.commons.collections4.map.ConcurrentReferenceHashMap;
+import org.apache.commons.collections4.map.ConcurrentReferenceHashMap.ReferenceType;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -72,6 +89,32 @@ public class PropertyUtilsBean {
     /** Log instance */
     private static final Log LOG = LogFactory.getLog(PropertyUtilsBean.class);
 
+    /** The maximum number of parsed property paths which are cached. */
+    private static final int PATH_CACHE_SIZE = 1024;
+
+    /** The maximum number of names which are remembered per class as not resolving to a property. */
+    private static final int UNRESOLVED_CACHE_SIZE = 256;
+
+    /**
+     * Runs a task for each of the given classes on an executor.
+     *
+     * @param classes  The classes
+     * @param executor The executor, {@code null} for the common {@link ForkJoinPool}
+     * @param task     The task
+     * @return A future which is completed when the task has been run for all classes; it is completed exceptionally if the task has failed for any class
+     */
+    static CompletableFuture<Void> forEachAsync(final Collection<Class<?>> classes, final Executor executor, final Consumer<Class<?>> task) {
+        final Executor actualExecutor = executor != null ? executor : ForkJoinPool.commonPool();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(classes.size());
+        for (final Class<?> type : classes) {
+            Objects.requireNonNull(type, "classes");
+        }
+        for (final Class<?> type : classes) {
+            futures.add(CompletableFuture.runAsync(() -> task.accept(type), actualExecutor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
     /**
      * Gets the PropertyUtils bean instance.
      *
@@ -109,24 +152,115 @@ public class PropertyUtilsBean {
 
     private Resolver resolver = new DefaultResolver();
 
+    /** The cache of property paths parsed with the current resolver, keyed by their expressions. */
+    private volatile Map<String, PropertyPath> pathCache = new ConcurrentHashMap<>();
+
     /**
      * The cache of PropertyDescriptor arrays for beans we have already introspected, keyed by the {@link Class} of this object.
+     * <p>
+     * The introspection data holds strong references to the accessor methods of its bean class (see {@link PropertyHandle}). The {@link ClassCache} holds
+     * the data of classes visible from this library strongly, so it is not reclaimed under memory pressure. The data of classes of other class loaders is
+     * held softly, so it keeps the bean class and its class loader reachable until it is cleared, this object becomes unreachable, or the garbage collector
+     * reclaims the data under memory pressure. In pinned mode, the data of all classes is held strongly. It introspects a class only once if multiple
+     * threads request it concurrently.
+     * </p>
+     */
+    private volatile ClassCache<BeanIntrospectionData> descriptorsCache;
+
+    /** The cache of mapped property descriptors, keyed by the bean class and then by the property name. */
+    private volatile ClassCache<Map<String, PropertyDescriptor>> mappedDescriptorsCache;
+
+    /** The cache of plans for copying properties, keyed by the destination class and then by the origin class. */
+    private final ClassCache<Map<Class<?>, CopyPlan>> copyPlansCache;
+
+    /** The {@code WrapDynaClass} instances using this object for introspection, keyed by the bean class. */
+    private final ClassCache<WrapDynaClass> dynaClassesCache;
+
+    /**
+     * The names known not to resolve to a property, neither by introspection nor as mapped property, keyed by the bean class. The set of a class is cleared
+     * when it reaches {@link #UNRESOLVED_CACHE_SIZE} names, so that arbitrary names, for instance from request parameters, cannot fill the memory.
      */
-    private final Map<Class<?>, BeanIntrospectionData> descriptorsCache;
+    private final ClassCache<Set<String>> unresolvedNamesCache = ClassCache.createPerInstance(type -> ConcurrentHashMap.newKeySet());
 
-    private final Map<Class<?>, Map> mappedDescriptorsCache;
+    /** The number of lookups answered from {@link #unresolvedNamesCache}. */
+    private final LongAdder unresolvedHits = new LongAdder();
+
+    /** The number of lookups of names which have been found not to resolve and were added to {@link #unresolvedNamesCache}. */
+    private final LongAdder unresolvedMisses = new LongAdder();
 
     /** The list with BeanIntrospector objects. */
     private final List<BeanIntrospector> introspectors;
 
+    /** The classes whose descriptors are cached, referenced weakly, so that they can be written to a snapshot. */
+    // @formatter:off
+    private final Set<Class<?>> introspectedClasses = Collections.newSetFromMap(new ConcurrentReferenceHashMap.Builder<Class<?>, Boolean>()
+            .setKeyReferenceType(ReferenceType.WEAK)
+            .setValueReferenceType(ReferenceType.STRONG)
+            .get());
+    // @formatter:on
+
+    /** The snapshot loaded by {@link #loadSnapshot(InputStream)}, {@code null} if there is none. */
+    private volatile IntrospectionSnapshot snapshot;
+
+    /** The number of times the cached descriptors have been cleared or the resolver has been replaced, used to detect stale plans of other components. */
+    private final AtomicInteger modificationCount = new AtomicInteger();
+
+    /** Whether a {@code null} value in the middle of a nested property name expression is read as {@code null} rather than reported by an exception. */
+    private volatile boolean nullSafeNesting;
+
+    /** Whether all accessor methods are stored with strong references when a class is introspected. */
+    private volatile boolean pinnedIntrospection;
+
+    /** Whether property paths are evaluated by calling the public getters, which is the case if a subclass overrides one of them. */
+    private final boolean delegatingGetters = ConversionPlan.isOverridden(getClass(), PropertyUtilsBean.class, "getSimpleProperty", Object.class, String.class)
+            || ConversionPlan.isOverridden(getClass(), PropertyUtilsBean.class, "getIndexedProperty", Object.class, String.class)
+            || ConversionPlan.isOverridden(getClass(), PropertyUtilsBean.class, "getIndexedProperty", Object.class, String.class, int.class)
+            || ConversionPlan.isOverridden(getClass(), PropertyUtilsBean.class, "getMappedProperty", Object.class, String.class)
+            || ConversionPlan.isOverridden(getClass(), PropertyUtilsBean.class, "getMappedProperty", Object.class, String.class, String.class);
+
     /** Base constructor */
     public PropertyUtilsBean() {
-        descriptorsCache = BeanUtils.createCache();
-        mappedDescriptorsCache = BeanUtils.createCache();
+        createDescriptorsCaches();
+        copyPlansCache = ClassCache.createPerInstance(type -> new ConcurrentHashMap<>());
+        dynaClassesCache = ClassCache.createPerInstance(type -> new WrapDynaClass(type, this));
         introspectors = new CopyOnWriteArrayList<>();
         resetBeanIntrospectors();
     }
 
+    /**
+     * Creates the caches of the introspection data and of the mapped property descriptors, which hold the data of all classes strongly in pinned mode.
+     */
+    private void createDescriptorsCaches() {
+        if (pinnedIntrospection) {
+            descriptorsCache = ClassCache.createStrong(this::fetchIntrospectionData);
+            mappedDescriptorsCache = ClassCache.createStrong(this::fetchMappedDescriptors);
+        } else {
+            descriptorsCache = ClassCache.createPerInstance(this::fetchIntrospectionData);
+            mappedDescriptorsCache = ClassCache.createPerInstance(this::fetchMappedDescriptors);
+        }
+    }
+
+    /**
+     * Creates a typed accessor for the specified property of beans of the given class. The accessor is based on a property compiled by
+     * {@link #compile(Class, String)}, so the property name expression is parsed and the accessors of the property chain are resolved once, when the
+     * accessor is created; it can then be stored and used to read and write the property of many beans without any lookups by name. If the type of the
+     * property can be determined from the root class, it is checked against the value type.
+     *
+     * @param <B>       The type of the beans
+     * @param <V>       The type of the property values
+     * @param beanClass The class of the beans the property is accessed on
+     * @param name      Possibly indexed and/or nested name of the property
+     * @param valueType The type of the property values; primitive types are represented by their wrapper types
+     * @return The accessor
+     * @throws IllegalArgumentException if the declared type of the property is not compatible with the value type
+     * @throws NullPointerException     if one of the arguments is {@code null}
+     * @since 2.0.0
+     */
+    public <B, V> PropertyAccessor<B, V> accessor(final Class<B> beanClass, final String name, final Class<V> valueType) {
+        Objects.requireNonNull(valueType, "valueType");
+        return new PropertyAccessor<>(compile(beanClass, name), valueType);
+    }
+
     /**
      * Adds a {@code BeanIntrospector}. This object is invoked when the property descriptors of a class need to be obtained.
      *
@@ -136,16 +270,66 @@ public class PropertyUtilsBean {
      */
     public void addBeanIntrospector(final BeanIntrospector introspector) {
         introspectors.add(Objects.requireNonNull(introspector, "introspector"));
+        unresolvedNamesCache.clear();
+    }
+
+    /**
+     * Remembers that a name does not resolve to a property of a class.
+     *
+     * @param unresolvedNames The names known not to resolve for the class
+     * @param name            The name
+     */
+    private void addUnresolvedName(final Set<String> unresolvedNames, final String name) {
+        unresolvedMisses.increment();
+        if (unresolvedNames.size() >= UNRESOLVED_CACHE_SIZE) {
+            unresolvedNames.clear();
+        }
+        unresolvedNames.add(name);
     }
 
     /**
      * Clear any cached property descriptors information for all classes loaded by any class loaders. This is useful in cases where class loaders are thrown
-     * away to implement class reloading.
+     * away to implement class reloading. A snapshot loaded by {@link #loadSnapshot(InputStream)} and the {@link WrapDynaClass} instances created with this
+     * object are discarded as well.
      */
     public void clearDescriptors() {
+        snapshot = null;
         descriptorsCache.clear();
         mappedDescriptorsCache.clear();
+        introspectedClasses.clear();
+        copyPlansCache.clear();
+        unresolvedNamesCache.clear();
+        clearDynaClasses();
         Introspector.flushCaches();
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Removes the {@code WrapDynaClass} instances which have been created with this object, see {@link WrapDynaClass#clear()}.
+     */
+    void clearDynaClasses() {
+        dynaClassesCache.clear();
+    }
+
+    /**
+     * Compiles the specified property name expression for beans of the given class. The resulting {@link CompiledProperty} resolves the accessors of the
+     * property chain once and can then be used to read and write the property of many beans efficiently. The root class is used to resolve the accessors
+     * in advance; beans of subclasses and intermediate objects of other runtime types are supported as well.
+     * <p>
+     * Errors, for instance unknown properties, are reported when the compiled property is accessed, in the same way as by
+     * {@link #getNestedProperty(Object, String)} and {@link #setNestedProperty(Object, String, Object)}. A compiled property keeps the accessors it has
+     * resolved; it is not affected by later calls of {@link #clearDescriptors()} or changes of the registered {@code BeanIntrospector}s.
+     * </p>
+     *
+     * @param beanClass The class of the beans the property is accessed on
+     * @param name      Possibly indexed and/or nested name of the property
+     * @return The compiled property
+     * @throws NullPointerException if one of the arguments is {@code null}
+     * @since 2.0.0
+     */
+    public CompiledProperty compile(final Class<?> beanClass, final String name) {
+        Objects.requireNonNull(beanClass, "beanClass");
+        return new CompiledProperty(this, beanClass, getPropertyPath(name));
     }
 
     /**
@@ -178,21 +362,27 @@ public class PropertyUtilsBean {
             NoSuchMethodException {
         Objects.requireNonNull(dest, "dest");
         Objects.requireNonNull(orig, "orig");
+        final boolean dynaDest = dest instanceof DynaBean;
         if (orig instanceof DynaBean) {
             final DynaProperty[] origDescriptors = ((DynaBean) orig).getDynaClass().getDynaProperties();
             for (final DynaProperty origDescriptor : origDescriptors) {
                 final String name = origDescriptor.getName();
-                if (isReadable(orig, name) && isWriteable(dest, name)) {
-                    try {
-                        final Object value = ((DynaBean) orig).get(name);
-                        if (dest instanceof DynaBean) {
-                            ((DynaBean) dest).set(name, value);
-                        } else {
-                            setSimpleProperty(dest, name, value);
-                        }
-                    } catch (final NoSuchMethodException e) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Error writing to '" + name + "' on class '" + dest.getClass() + "'", e);
+                if (isReadable(orig, name)) {
+                    final PropertyHandle writer = dynaDest ? null : getWriteHandle(dest.getClass(), name);
+                    if (writer != null) {
+                        writeProperty(dest, writer, name, ((DynaBean) orig).get(name));
+                    } else if (isWriteable(dest, name)) {
+                        try {
+                            final Object value = ((DynaBean) orig).get(name);
+                            if (dynaDest) {
+                                ((DynaBean) dest).set(name, value);
+                            } else {
+                                setSimpleProperty(dest, name, value);
+                            }
+                        } catch (final NoSuchMethodException e) {
+                            if (LOG.isDebugEnabled()) {
+                                LOG.debug("Error writing to '" + name + "' on class '" + dest.getClass() + "'", e);
+                            }
                         }
                     }
                 }
@@ -200,9 +390,12 @@ public class PropertyUtilsBean {
         } else if (orig instanceof Map) {
             for (final Map.Entry<?, ?> entry : ((Map<?, ?>) orig).entrySet()) {
                 final String name = (String) entry.getKey();
-                if (isWriteable(dest, name)) {
+                final PropertyHandle writer = dynaDest ? null : getWriteHandle(dest.getClass(), name);
+                if (writer != null) {
+                    writeProperty(dest, writer, name, entry.getValue());
+                } else if (isWriteable(dest, name)) {
                     try {
-                        if (dest instanceof DynaBean) {
+                        if (dynaDest) {
                             ((DynaBean) dest).set(name, entry.getValue());
                         } else {
                             setSimpleProperty(dest, name, entry.getValue());
@@ -214,18 +407,35 @@ public class PropertyUtilsBean {
                     }
                 }
             }
-        } else /* if (orig is a standard JavaBean) */ {
+        } else if (!dynaDest) {
+            final CopyPlan plan = getCopyPlan(dest.getClass(), orig.getClass());
+            for (int i = 0; i < plan.size(); i++) {
+                final String name = plan.getName(i);
+                final PropertyHandle reader = plan.getReader(i);
+                final PropertyHandle writer = plan.getWriter(i);
+                if (writer == null && !isWriteable(dest, name)) {
+                    continue;
+                }
+                try {
+                    final Object value = !delegatingGetters && reader.hasReadHandle() ? reader.read(orig) : getSimpleProperty(orig, name);
+                    if (writer != null) {
+                        writeProperty(dest, writer, name, value);
+                    } else {
+                        setSimpleProperty(dest, name, value);
+                    }
+                } catch (final NoSuchMethodException e) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Error writing to '" + name + "' on class '" + dest.getClass() + "'", e);
+                    }
+                }
+            }
+        } else /* if (orig is a standard JavaBean and dest is a DynaBean) */ {
             final PropertyDescriptor[] origDescriptors = getPropertyDescriptors(orig);
             for (final PropertyDescriptor origDescriptor : origDescriptors) {
                 final String name = origDescriptor.getName();
                 if (isReadable(orig, name) && isWriteable(dest, name)) {
                     try {
-                        final Object value = getSimpleProperty(orig, name);
-                        if (dest instanceof DynaBean) {
-                            ((DynaBean) dest).set(name, value);
-                        } else {
-                            setSimpleProperty(dest, name, value);
-                        }
+                        ((DynaBean) dest).set(name, getSimpleProperty(orig, name));
                     } catch (final NoSuchMethodException e) {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Error writing to '" + name + "' on class '" + dest.getClass() + "'", e);
@@ -234,7 +444,53 @@ public class PropertyUtilsBean {
                 }
             }
         }
+    }
+
+    /**
+     * Creates the descriptor of a mapped property, pinning its methods in pinned introspection mode.
+     *
+     * @param name      The property name
+     * @param beanClass The bean class
+     * @return The descriptor
+     * @throws IntrospectionException if the class has no such mapped property
+     */
+    private MappedPropertyDescriptor createMappedDescriptor(final String name, final Class<?> beanClass) throws IntrospectionException {
+        final MappedPropertyDescriptor descriptor = new MappedPropertyDescriptor(name, beanClass);
+        if (pinnedIntrospection) {
+            descriptor.pin();
+        }
+        return descriptor;
+    }
 
+    /**
+     * <p>
+     * Creates a record of the given class from the property values of the "origin" bean. The canonical constructor of the record is called once with the
+     * values of the properties of the origin bean which have the names of the record components. Record classes cannot be populated by
+     * {@link #copyProperties(Object, Object)} because their components have no write methods.
+     * </p>
+     * <p>
+     * The origin bean can be a standard JavaBean, a {@link DynaBean} or a {@code Map} with property names as keys. For a component without a readable
+     * property in the origin bean, {@code null} is passed to the constructor, or the default value if the component has a primitive type. No conversions are
+     * performed; the values must be assignment-compatible with the types of the components. To read the components of a record which is used as origin bean,
+     * {@link RecordBeanIntrospector} has to be registered.
+     * </p>
+     *
+     * @param <T>         The type of the record
+     * @param recordClass The record class
+     * @param orig        Origin bean whose properties are retrieved
+     * @return The new record
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method or to the canonical constructor
+     * @throws IllegalArgumentException  if the class is not a record class or a value cannot be assigned to its component
+     * @throws InstantiationException    if the record cannot be instantiated
+     * @throws InvocationTargetException if the property accessor method or the canonical constructor throws an exception
+     * @throws NullPointerException      if an argument is {@code null}
+     * @since 2.0.0
+     */
+    public <T> T copyToRecord(final Class<T> recordClass, final Object orig) throws IllegalAccessException, InstantiationException,
+            InvocationTargetException {
+        Objects.requireNonNull(orig, "orig");
+        final RecordComponents components = RecordComponents.forRecordClass(recordClass);
+        return recordClass.cast(components.newInstance(getRecordValues(components, orig)));
     }
 
     /**
@@ -267,7 +523,7 @@ public class PropertyUtilsBean {
             final PropertyDescriptor[] descriptors = getPropertyDescriptors(bean);
             for (final PropertyDescriptor descriptor : descriptors) {
                 final String name = descriptor.getName();
-                if (descriptor.getReadMethod() != null) {
+                if (FieldPropertyDescriptor.hasReader(descriptor)) {
                     description.put(name, getProperty(bean, name));
                 }
             }
@@ -276,12 +532,68 @@ public class PropertyUtilsBean {
     }
 
     /**
-     * Performs introspection on the specified class. This method invokes all {@code BeanIntrospector} objects that were added to this instance.
+     * Writes the introspection results of all classes whose property descriptors are currently cached by this bean to a snapshot. This includes the
+     * descriptors found by all {@link BeanIntrospector}s and the mapped property descriptors resolved so far. Another {@code PropertyUtilsBean} with the
+     * same introspectors can load the snapshot by {@link #loadSnapshot(InputStream)}, for example after the application has been restarted, so that it does
+     * not need to introspect these classes again.
+     * <p>
+     * The snapshot identifies classes by name. Anonymous and synthetic classes, and classes with descriptors of types other than the standard descriptors
+     * and {@link MappedPropertyDescriptor}, are not written. The stream is flushed, but not closed.
+     * </p>
+     *
+     * @param out The stream to write the snapshot to
+     * @return The number of classes written
+     * @throws IOException if the stream cannot be written
+     * @since 2.0.0
+     */
+    public int exportSnapshot(final OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        final IntrospectionSnapshot result = new IntrospectionSnapshot(IntrospectionSnapshot.fingerprint(introspectors));
+        for (final Class<?> beanClass : introspectedClasses) {
+            result.add(beanClass, getIntrospectionData(beanClass), getMappedPropertyDescriptors(beanClass).values());
+        }
+        result.write(out);
+        return result.size();
+    }
+
+    /**
+     * Creates the initial map of mapped property descriptors for the specified class. The map contains the descriptors recorded for the class by a snapshot
+     * loaded by {@link #loadSnapshot(InputStream)}, if any.
+     *
+     * @param beanClass The bean class
+     * @return The map of mapped property descriptors, keyed by property name
+     */
+    private Map<String, PropertyDescriptor> fetchMappedDescriptors(final Class<?> beanClass) {
+        final Map<String, PropertyDescriptor> descriptors = new ConcurrentHashMap<>();
+        final IntrospectionSnapshot current = snapshot;
+        if (current != null) {
+            final Map<String, PropertyDescriptor> restored = current.restoreMappedDescriptors(beanClass, IntrospectionSnapshot.fingerprint(introspectors));
+            if (restored != null) {
+                if (pinnedIntrospection) {
+                    restored.values().forEach(descriptor -> ((MappedPropertyDescriptor) descriptor).pin());
+                }
+                descriptors.putAll(restored);
+            }
+        }
+        return descriptors;
+    }
+
+    /**
+     * Performs introspection on the specified class. This method invokes all {@code BeanIntrospector} objects that were added to this instance, unless
+     * the descriptors can be restored from a snapshot loaded by {@link #loadSnapshot(InputStream)}.
      *
      * @param beanClass The class to be inspected
      * @return A data object with the results of introspection
      */
     private BeanIntrospectionData fetchIntrospectionData(final Class<?> beanClass) {
+        introspectedClasses.add(beanClass);
+        final IntrospectionSnapshot current = snapshot;
+        if (current != null) {
+            final PropertyDescriptor[] descriptors = current.restoreDescriptors(beanClass, IntrospectionSnapshot.fingerprint(introspectors));
+            if (descriptors != null) {
+                return new BeanIntrospectionData(beanClass, descriptors, pinnedIntrospection);
+            }
+        }
         final DefaultIntrospectionContext ictx = new DefaultIntrospectionContext(beanClass);
 
         for (final BeanIntrospector bi : introspectors) {
@@ -292,11 +604,121 @@ public class PropertyUtilsBean {
             }
         }
 
-        return new BeanIntrospectionData(ictx.getPropertyDescriptors());
+        return new BeanIntrospectionData(beanClass, ictx.getPropertyDescriptors(), pinnedIntrospection);
+    }
+
+    /**
+     * Gets an accessible method for an accessor method of the given bean, which is not managed by the introspection data of its class, for instance a
+     * method of a mapped property.
+     *
+     * @param bean   The bean
+     * @param method The accessor method, may be {@code null}
+     * @return The accessible method or {@code null} if there is none
+     */
+    private Method getAccessibleMethod(final Object bean, final Method method) {
+        return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(bean.getClass(), method);
+    }
+
+    /**
+     * Gets the value of the specified property of the specified bean as {@code boolean}, no matter which property reference format is used. If the name is a
+     * simple property name and the property has a read method or field of type {@code boolean}, it is read without boxing. Otherwise, the value obtained by
+     * {@link #getProperty(Object, String)} is converted.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly indexed and/or nested name of the property to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value is not a {@code Boolean}
+     * @throws NestedNullException       if a nested reference to a property returns null, even if null-safe nesting is enabled
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public boolean getBooleanProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return readPrimitive(bean, name, PrimitiveType.BOOLEAN) != 0;
+    }
+
+    /**
+     * Gets the value of the specified property of the specified bean as {@code double}, no matter which property reference format is used. If the name is a
+     * simple property name and the property has a read method or field of type {@code double}, it is read without boxing. Otherwise, the value obtained by
+     * {@link #getProperty(Object, String)} is converted by {@link Number#doubleValue()}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly indexed and/or nested name of the property to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value is not a {@code Number}
+     * @throws NestedNullException       if a nested reference to a property returns null, even if null-safe nesting is enabled
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public double getDoubleProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return Double.longBitsToDouble(readPrimitive(bean, name, PrimitiveType.DOUBLE));
+    }
+
+    /**
+     * Gets the value of the specified property of the specified bean as {@code int}, no matter which property reference format is used. If the name is a
+     * simple property name and the property has a read method or field of type {@code int}, it is read without boxing. Otherwise, the value obtained by
+     * {@link #getProperty(Object, String)} is converted by {@link Number#intValue()}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly indexed and/or nested name of the property to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value is not a {@code Number}
+     * @throws NestedNullException       if a nested reference to a property returns null, even if null-safe nesting is enabled
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public int getIntProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return (int) readPrimitive(bean, name, PrimitiveType.INT);
+    }
+
+    /**
+     * Gets the value of the specified property of the specified bean as {@code long}, no matter which property reference format is used. If the name is a
+     * simple property name and the property has a read method or field of type {@code long}, it is read without boxing. Otherwise, the value obtained by
+     * {@link #getProperty(Object, String)} is converted by {@link Number#longValue()}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly indexed and/or nested name of the property to be extracted
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value is not a {@code Number}
+     * @throws NestedNullException       if a nested reference to a property returns null, even if null-safe nesting is enabled
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public long getLongProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return readPrimitive(bean, name, PrimitiveType.LONG);
+    }
+
+    /**
+     * Gets an accessible indexed read method of the given descriptor, which has been obtained from the introspection data of the bean class, so that
+     * looking up this data does not introspect the class. In pinned introspection mode, the method stored by the data is used.
+     *
+     * @param beanClass  The bean class
+     * @param descriptor The descriptor of the indexed property
+     * @return The accessible indexed read method or {@code null} if there is none
+     */
+    private Method getIndexedReadMethod(final Class<?> beanClass, final IndexedPropertyDescriptor descriptor) {
+        final BeanIntrospectionData data = getIntrospectionData(beanClass);
+        return data.getAccessibleMethod(beanClass, descriptor, data.getIndexedReadMethod(descriptor));
     }
 
-    private Method getAccessibleMethod(final Object bean, final Method writeMethod) {
-        return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(bean.getClass(), writeMethod);
+    /**
+     * Gets an accessible indexed write method of the given descriptor, which has been obtained from the introspection data of the bean class, so that
+     * looking up this data does not introspect the class. In pinned introspection mode, the method stored by the data is used.
+     *
+     * @param beanClass  The bean class
+     * @param descriptor The descriptor of the indexed property
+     * @return The accessible indexed write method or {@code null} if there is none
+     */
+    private Method getIndexedWriteMethod(final Class<?> beanClass, final IndexedPropertyDescriptor descriptor) {
+        final BeanIntrospectionData data = getIntrospectionData(beanClass);
+        return data.getAccessibleMethod(beanClass, descriptor, data.getIndexedWriteMethod(descriptor));
     }
 
     /**
@@ -350,68 +772,39 @@ public class PropertyUtilsBean {
      */
     public Object getIndexedProperty(final Object bean, final String name, final int index)
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        Objects.requireNonNull(bean, "bean");
-        if (name == null || name.isEmpty()) {
-            if (bean.getClass().isArray()) {
-                return Array.get(bean, index);
-            }
-            if (bean instanceof List) {
-                return ((List<?>) bean).get(index);
-            }
-        }
-        Objects.requireNonNull(name, "name");
-        // Handle DynaBean instances specially
-        if (bean instanceof DynaBean) {
-            final DynaProperty descriptor = ((DynaBean) bean).getDynaClass().getDynaProperty(name);
-            if (descriptor == null) {
-                throw new NoSuchMethodException("Unknown property '" + name + "' on bean class '" + bean.getClass() + "'");
-            }
-            return ((DynaBean) bean).get(name, index);
-        }
-
-        // Retrieve the property descriptor for the specified property
-        final PropertyDescriptor descriptor = getPropertyDescriptor(bean, name);
-        if (descriptor == null) {
-            throw new NoSuchMethodException("Unknown property '" + name + "' on bean class '" + bean.getClass() + "'");
-        }
-
-        // Call the indexed getter method if there is one
-        if (descriptor instanceof IndexedPropertyDescriptor) {
-            Method readMethod = ((IndexedPropertyDescriptor) descriptor).getIndexedReadMethod();
-            readMethod = getAccessibleMethod(bean, readMethod);
-            if (readMethod != null) {
-                try {
-                    return invokeMethod(readMethod, bean, Integer.valueOf(index));
-                } catch (final InvocationTargetException e) {
-                    if (e.getTargetException() instanceof IndexOutOfBoundsException) {
-                        throw (IndexOutOfBoundsException) e.getTargetException();
-                    }
-                    throw e;
-                }
-            }
-        }
+        return probeIndexedProperty(bean, name, index).orElseThrow();
+    }
 
-        // Otherwise, the underlying property must be an array
-        final Method readMethod = getReadMethod(bean.getClass(), descriptor);
-        if (readMethod == null) {
-            throw new NoSuchMethodException("Property '" + name + "' has no getter method on bean class '" + bean.getClass() + "'");
+    /**
+     * Obtains the plan for copying properties from beans of the origin class to beans of the destination class. Plans are cached with the destination class
+     * unless this would keep the class loader of the origin class reachable.
+     *
+     * @param destClass The class of the destination bean
+     * @param origClass The class of the origin bean
+     * @return The copy plan
+     */
+    CopyPlan getCopyPlan(final Class<?> destClass, final Class<?> origClass) {
+        if (!ClassCache.isVisible(origClass, destClass)) {
+            return new CopyPlan(this, destClass, origClass);
         }
+        return copyPlansCache.get(destClass).computeIfAbsent(origClass, c -> new CopyPlan(this, destClass, c));
+    }
 
-        // Call the property getter and return the value
-        final Object value = invokeMethod(readMethod, bean, BeanUtils.EMPTY_OBJECT_ARRAY);
-        if (!value.getClass().isArray()) {
-            if (!(value instanceof List)) {
-                throw new IllegalArgumentException("Property '" + name + "' is not indexed on bean class '" + bean.getClass() + "'");
-            }
-            // get the List's value
-            return ((List<?>) value).get(index);
-        }
-        // get the array's value
-        try {
-            return Array.get(value, index);
-        } catch (final ArrayIndexOutOfBoundsException e) {
-            throw new ArrayIndexOutOfBoundsException("Index: " + index + ", Size: " + Array.getLength(value) + " for property '" + name + "'");
+    /**
+     * Obtains the handle for accessing the specified property of a bean directly, which the primitive accessors use if it supports the primitive type.
+     *
+     * @param bean The bean
+     * @param name The property name
+     * @return The handle or {@code null} if the property is not a simple property of a standard bean
+     * @throws IllegalArgumentException if {@code bean} or {@code name} is null
+     */
+    private PropertyHandle getPrimitiveHandle(final Object bean, final String name) {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(name, "name");
+        if (bean instanceof DynaBean || bean instanceof Map || !isSimpleName(name)) {
+            return null;
         }
+        return getPropertyHandle(bean.getClass(), name);
     }
 
     /**
@@ -424,13 +817,8 @@ public class PropertyUtilsBean {
      */
     private BeanIntrospectionData getIntrospectionData(final Class<?> beanClass) {
         Objects.requireNonNull(beanClass, "beanClass");
-        // Look up any cached information for this bean class
-        BeanIntrospectionData data = descriptorsCache.get(beanClass);
-        if (data == null) {
-            data = fetchIntrospectionData(beanClass);
-            descriptorsCache.put(beanClass, data);
-        }
-        return data;
+        // Look up any cached information for this bean class, introspecting it if necessary
+        return descriptorsCache.get(beanClass);
     }
 
     /**
@@ -478,48 +866,8 @@ public class PropertyUtilsBean {
      */
     public Object getMappedProperty(final Object bean, final String name, final String key)
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        Objects.requireNonNull(bean, "bean");
-        Objects.requireNonNull(name, "name");
-        Objects.requireNonNull(key, "key");
-        // Handle DynaBean instances specially
-        if (bean instanceof DynaBean) {
-            final DynaProperty descriptor = ((DynaBean) bean).getDynaClass().getDynaProperty(name);
-            if (descriptor == null) {
-                throw new NoSuchMethodException("Unknown property '" + name + "'+ on bean class '" + bean.getClass() + "'");
-            }
-            return ((DynaBean) bean).get(name, key);
-        }
-
-        Object result = null;
-
-        // Retrieve the property descriptor for the specified property
-        final PropertyDescriptor descriptor = getPropertyDescriptor(bean, name);
-        if (descriptor == null) {
-            throw new NoSuchMethodException("Unknown property '" + name + "'+ on bean class '" + bean.getClass() + "'");
-        }
-
-        if (descriptor instanceof MappedPropertyDescriptor) {
-            // Call the keyed getter method if there is one
-            Method readMethod = ((MappedPropertyDescriptor) descriptor).getMappedReadMethod();
-            readMethod = getAccessibleMethod(bean, readMethod);
-            if (readMethod == null) {
-                throw new NoSuchMethodException("Property '" + name + "' has no mapped getter method on bean class '" + bean.getClass() + "'");
-            }
-            result = invokeMethod(readMethod, bean, key);
-        } else {
-            /* means that the result has to be retrieved from a map */
-            final Method readMethod = getReadMethod(bean.getClass(), descriptor);
-            if (readMethod == null) {
-                throw new NoSuchMethodException("Property '" + name + "' has no mapped getter method on bean class '" + bean.getClass() + "'");
-            }
-            final Object invokeResult = invokeMethod(readMethod, bean, BeanUtils.EMPTY_OBJECT_ARRAY);
-            /* test and fetch from the map */
-            if (invokeResult instanceof Map) {
-                result = ((Map<?, ?>) invokeResult).get(key);
-            }
-        }
-        return result;
-    }
+        return probeMappedProperty(bean, name, key).orElseThrow();
+    }
 
     /**
      * <p>
@@ -538,7 +886,7 @@ public class PropertyUtilsBean {
             return null;
         }
         // Look up any cached descriptors for this bean class
-        return mappedDescriptorsCache.get(beanClass);
+        return (Map) mappedDescriptorsCache.get(beanClass);
     }
 
     /**
@@ -561,50 +909,119 @@ public class PropertyUtilsBean {
     }
 
     /**
-     * Gets the value of the (possibly nested) property of the specified name, for the specified bean, with no type conversions.
+     * Gets the number of modifications of this bean which invalidate data derived from its descriptors. The number changes whenever
+     * {@link #clearDescriptors()} is called or the resolver is replaced.
+     *
+     * @return The modification count
+     */
+    int getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Gets the value of the (possibly nested) property of the specified name, for the specified bean, with no type conversions. If
+     * {@link #setNullSafeNesting(boolean) null-safe nesting} is enabled, this method behaves like {@link #getNullSafeProperty(Object, String)}.
      *
      * @param bean Bean whose property is to be extracted
      * @param name Possibly nested name of the property to be extracted
      * @return The nested property value
      * @throws IllegalAccessException    if the caller does not have access to the property accessor method
      * @throws IllegalArgumentException  if {@code bean} or {@code name} is null
-     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws NestedNullException       if a nested reference to a property returns null and null-safe nesting is disabled
      * @throws InvocationTargetException if the property accessor method throws an exception
      * @throws NoSuchMethodException     if an accessor method for this property cannot be found
      */
-    public Object getNestedProperty(Object bean, String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+    public Object getNestedProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
         Objects.requireNonNull(bean, "bean");
         Objects.requireNonNull(name, "name");
-        // Resolve nested references
-        while (resolver.hasNested(name)) {
-            final String next = resolver.next(name);
-            Object nestedBean = null;
-            if (bean instanceof Map) {
-                nestedBean = getPropertyOfMapBean((Map<?, ?>) bean, next);
-            } else if (resolver.isMapped(next)) {
-                nestedBean = getMappedProperty(bean, next);
-            } else if (resolver.isIndexed(next)) {
-                nestedBean = getIndexedProperty(bean, next);
-            } else {
-                nestedBean = getSimpleProperty(bean, next);
-            }
-            if (nestedBean == null) {
-                throw new NestedNullException("Null property value for '" + name + "' on bean class '" + bean.getClass() + "'");
-            }
-            bean = nestedBean;
-            name = resolver.remove(name);
+        return getNestedProperty(bean, getPropertyPath(name));
+    }
+
+    /**
+     * Gets the value of the property referenced by the specified {@link PropertyPath} of the specified bean, with no type conversions. This method behaves
+     * like {@link #getNestedProperty(Object, String)}, but does not have to parse the property name expression.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param path The parsed property name expression
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code path} is null
+     * @throws NestedNullException       if a nested reference to a property returns null and null-safe nesting is disabled
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @see #getPropertyPath(String)
+     * @since 2.0.0
+     */
+    public Object getNestedProperty(final Object bean, final PropertyPath path)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        if (nullSafeNesting) {
+            return getNullSafeProperty(bean, path);
         }
+        return tryGetProperty(bean, path).orElseThrow();
+    }
 
-        if (bean instanceof Map) {
-            bean = getPropertyOfMapBean((Map<?, ?>) bean, name);
-        } else if (resolver.isMapped(name)) {
-            bean = getMappedProperty(bean, name);
-        } else if (resolver.isIndexed(name)) {
-            bean = getIndexedProperty(bean, name);
-        } else {
-            bean = getSimpleProperty(bean, name);
+    /**
+     * Gets the value of the (possibly nested) property of the specified name, for the specified bean, with no type conversions. Unlike
+     * {@link #getNestedProperty(Object, String)}, this method returns {@code null} as soon as a nested reference evaluates to {@code null}, without
+     * evaluating the rest of the expression. This is useful when reading paths through object graphs in which any link may legitimately be {@code null}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly nested name of the property to be extracted
+     * @return The nested property value or {@code null} if a nested reference returns null
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @see #setNullSafeNesting(boolean)
+     * @since 2.0.0
+     */
+    public Object getNullSafeProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(name, "name");
+        return getNullSafeProperty(bean, getPropertyPath(name));
+    }
+
+    /**
+     * Gets the value of the property referenced by the specified {@link PropertyPath} of the specified bean, with no type conversions. This method behaves
+     * like {@link #getNullSafeProperty(Object, String)}, but does not have to parse the property name expression.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param path The parsed property name expression
+     * @return The property value or {@code null} if a nested reference returns null
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code path} is null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public Object getNullSafeProperty(Object bean, final PropertyPath path) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(path, "path");
+        // Resolve nested references, stopping at the first null
+        final int last = path.size() - 1;
+        for (int i = 0; i < last; i++) {
+            bean = probePathSegment(bean, path.getSegment(i)).orElseThrow();
+            if (bean == null) {
+                return null;
+            }
         }
-        return bean;
+        return probePathSegment(bean, path.getSegment(last)).orElseThrow();
+    }
+
+    /**
+     * Gets the value of a single segment of a property path of the specified bean. This corresponds to a call of {@link #getNestedProperty(Object, String)}
+     * with the expression of the segment.
+     *
+     * @param bean    The bean
+     * @param segment The segment to be evaluated
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    Object getPathSegment(final Object bean, final PropertyPath.Segment segment)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return probePathSegment(bean, segment).orElseThrow();
     }
 
     /**
@@ -622,6 +1039,22 @@ public class PropertyUtilsBean {
         return getNestedProperty(bean, name);
     }
 
+    /**
+     * Gets the value of the property referenced by the specified {@link PropertyPath} of the specified bean, with no type conversions.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param path The parsed property name expression
+     * @return The property value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code path} is null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public Object getProperty(final Object bean, final PropertyPath path) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        return getNestedProperty(bean, path);
+    }
+
     /**
      * <p>
      * Retrieve the property descriptor for the specified property of the specified bean, or return {@code null} if there is no such descriptor. This method
@@ -674,24 +1107,26 @@ public class PropertyUtilsBean {
         if (result != null) {
             return result;
         }
+        final Set<String> unresolvedNames = unresolvedNamesCache.get(bean.getClass());
+        if (unresolvedNames.contains(name)) {
+            unresolvedHits.increment();
+            return null;
+        }
 
         // A name removed by a SuppressPropertiesBeanIntrospector is absent from data above, but the
         // mapped-descriptor fallback below rebuilds descriptors straight from the class methods and never
         // consults the introspectors, so a suppressed mapped property would still be resolved. Keep it hidden.
         if (isPropertySuppressed(name)) {
+            addUnresolvedName(unresolvedNames, name);
             return null;
         }
 
-        Map mappedDescriptors = getMappedPropertyDescriptors(bean);
-        if (mappedDescriptors == null) {
-            mappedDescriptors = new ConcurrentHashMap<Class<?>, Map>();
-            mappedDescriptorsCache.put(bean.getClass(), mappedDescriptors);
-        }
+        final Map mappedDescriptors = getMappedPropertyDescriptors(bean);
         result = (PropertyDescriptor) mappedDescriptors.get(name);
-        if (result == null) {
+        if (result == null && MappedPropertyDescriptor.hasMappedMethods(bean.getClass(), name)) {
             // not found, try to create it
             try {
-                result = new MappedPropertyDescriptor(name, bean.getClass());
+                result = createMappedDescriptor(name, bean.getClass());
             } catch (final IntrospectionException ie) {
                 /*
                  * Swallow IntrospectionException TODO: Why?
@@ -701,6 +1136,9 @@ public class PropertyUtilsBean {
                 mappedDescriptors.put(name, result);
             }
         }
+        if (result == null) {
+            addUnresolvedName(unresolvedNames, name);
+        }
 
         return result;
     }
@@ -776,6 +1214,55 @@ public class PropertyUtilsBean {
         return null;
     }
 
+    /**
+     * Obtains the {@code PropertyHandle} for the specified simple property of the given bean. Handles are created on first access from the property
+     * descriptor and the accessible read and write methods of the bean class and are then cached in the introspection data of this class.
+     *
+     * @param bean The bean
+     * @param name The name of the simple property
+     * @return The handle for this property or {@code null} if the property is unknown
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private PropertyHandle getPropertyHandle(final Object bean, final String name)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final Class<?> beanClass = bean.getClass();
+        final PropertyHandle handle = getPropertyHandle(beanClass, name);
+        if (handle != null) {
+            return handle;
+        }
+        // not obtained by introspection, for instance a mapped property; such descriptors have no simple accessors and are not cached
+        final PropertyDescriptor descriptor = getPropertyDescriptor(bean, name);
+        return descriptor != null ? new PropertyHandle(getReadMethod(beanClass, descriptor), getWriteMethod(beanClass, descriptor)) : null;
+    }
+
+    /**
+     * Obtains the {@code PropertyHandle} for the specified simple property of the given bean class. Only properties found by introspection are taken into
+     * account.
+     *
+     * @param beanClass The bean class
+     * @param name      The name of the simple property
+     * @return The handle for this property or {@code null} if the introspection data of the class does not contain this property
+     */
+    PropertyHandle getPropertyHandle(final Class<?> beanClass, final String name) {
+        final BeanIntrospectionData data = getIntrospectionData(beanClass);
+        final PropertyHandle handle = data.getHandle(name);
+        if (handle != null) {
+            return handle;
+        }
+        final PropertyDescriptor descriptor = data.getDescriptor(name);
+        if (descriptor == null) {
+            return null;
+        }
+        if (descriptor instanceof FieldPropertyDescriptor) {
+            return data.putHandle(name, new PropertyHandle(((FieldPropertyDescriptor) descriptor).getField()));
+        }
+        final Method readMethod = getReadMethod(beanClass, descriptor);
+        final Method writeMethod = getWriteMethod(beanClass, descriptor);
+        return data.putHandle(name, AccessorRegistry.createHandle(beanClass, name, readMethod, writeMethod));
+    }
+
     /**
      * This method is called by getNestedProperty and setNestedProperty to define what it means to get a property from an object which implements Map. See
      * setPropertyOfMapBean for more information.
@@ -809,6 +1296,29 @@ public class PropertyUtilsBean {
         return bean.get(propertyName);
     }
 
+    /**
+     * Gets the {@link PropertyPath} for the specified property name expression as parsed by the configured {@link Resolver}. Parsed paths are cached, so
+     * that repeated calls for the same expression do not need to parse it again. The cache is bounded and cleared when the resolver is changed.
+     *
+     * @param name The property name expression
+     * @return The parsed path
+     * @throws IllegalArgumentException if {@code name} is null
+     * @since 2.0.0
+     */
+    public PropertyPath getPropertyPath(final String name) {
+        Objects.requireNonNull(name, "name");
+        final Map<String, PropertyPath> cache = pathCache;
+        PropertyPath path = cache.get(name);
+        if (path == null) {
+            path = PropertyPath.parse(name, resolver);
+            if (cache.size() >= PATH_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(name, path);
+        }
+        return path;
+    }
+
     /**
      * Gets the Java Class representing the property type of the specified property, or {@code null} if there is no such property for the specified bean. This
      * method follows the same name resolution rules used by {@code getPropertyDescriptor()}, so if the last element of a name reference is indexed, the type of
@@ -895,7 +1405,8 @@ public class PropertyUtilsBean {
      * @since 2.0.0
      */
     public Method getReadMethod(final Class<?> clazz, final PropertyDescriptor descriptor) {
-        return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(clazz, descriptor.getReadMethod());
+        final BeanIntrospectionData data = getIntrospectionData(clazz);
+        return data.getAccessibleMethod(clazz, descriptor, data.getReadMethod(descriptor));
     }
 
     /**
@@ -914,6 +1425,44 @@ public class PropertyUtilsBean {
         return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(descriptor.getReadMethod());
     }
 
+    /**
+     * Reads the values for the components of a record from the properties with the same names of the origin bean, as described for
+     * {@link #copyToRecord(Class, Object)}.
+     *
+     * @param components The components of the record class
+     * @param orig       Origin bean whose properties are retrieved
+     * @return The values of the components, {@code null} for components without a readable property
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    Object[] getRecordValues(final RecordComponents components, final Object orig) throws IllegalAccessException, InvocationTargetException {
+        final Object[] values = new Object[components.size()];
+        for (int i = 0; i < values.length; i++) {
+            final String name = components.getName(i);
+            if (orig instanceof DynaBean) {
+                if (((DynaBean) orig).getDynaClass().getDynaProperty(name) != null && isReadable(orig, name)) {
+                    values[i] = ((DynaBean) orig).get(name);
+                }
+            } else if (orig instanceof Map) {
+                values[i] = ((Map<?, ?>) orig).get(name);
+            } else {
+                final PropertyHandle reader = getPropertyHandle(orig.getClass(), name);
+                if (reader != null && reader.hasReadHandle()) {
+                    values[i] = reader.read(orig);
+                } else if (isReadable(orig, name)) {
+                    try {
+                        values[i] = getSimpleProperty(orig, name);
+                    } catch (final NoSuchMethodException e) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Error reading '" + name + "' on class '" + orig.getClass() + "'", e);
+                        }
+                    }
+                }
+            }
+        }
+        return values;
+    }
+
     /**
      * Gets the configured {@link Resolver} implementation used by BeanUtils.
      * <p>
@@ -942,40 +1491,32 @@ public class PropertyUtilsBean {
      * @throws NoSuchMethodException     if an accessor method for this property cannot be found
      */
     public Object getSimpleProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        Objects.requireNonNull(bean, "bean");
-        Objects.requireNonNull(name, "name");
-        // Validate the syntax of the property name
-        if (resolver.hasNested(name)) {
-            throw new IllegalArgumentException("Nested property names are not allowed: Property '" + name + "' on bean class '" + bean.getClass() + "'");
-        }
-        if (resolver.isIndexed(name)) {
-            throw new IllegalArgumentException("Indexed property names are not allowed: Property '" + name + "' on bean class '" + bean.getClass() + "'");
-        }
-        if (resolver.isMapped(name)) {
-            throw new IllegalArgumentException("Mapped property names are not allowed: Property '" + name + "' on bean class '" + bean.getClass() + "'");
-        }
-
-        // Handle DynaBean instances specially
-        if (bean instanceof DynaBean) {
-            final DynaProperty descriptor = ((DynaBean) bean).getDynaClass().getDynaProperty(name);
-            if (descriptor == null) {
-                throw new NoSuchMethodException("Unknown property '" + name + "' on dynaclass '" + ((DynaBean) bean).getDynaClass() + "'");
-            }
-            return ((DynaBean) bean).get(name);
-        }
+        return probeSimpleProperty(bean, name).orElseThrow();
+    }
 
-        // Retrieve the property getter method for the specified property
-        final PropertyDescriptor descriptor = getPropertyDescriptor(bean, name);
-        if (descriptor == null) {
-            throw new NoSuchMethodException("Unknown property '" + name + "' on class '" + bean.getClass() + "'");
-        }
-        final Method readMethod = getReadMethod(bean.getClass(), descriptor);
-        if (readMethod == null) {
-            throw new NoSuchMethodException("Property '" + name + "' has no getter method in class '" + bean.getClass() + "'");
-        }
+    /**
+     * Gets the number of lookups of property descriptors which have been answered from the cache of names known not to resolve to a property, without
+     * attempting to create a mapped property descriptor. The statistics are not reset when the cache is cleared.
+     *
+     * @return The number of cached failed lookups
+     * @see #getUnresolvedNameMissCount()
+     * @since 2.0.0
+     */
+    public long getUnresolvedNameHitCount() {
+        return unresolvedHits.sum();
+    }
 
-        // Call the property getter and return the value
-        return invokeMethod(readMethod, bean, BeanUtils.EMPTY_OBJECT_ARRAY);
+    /**
+     * Gets the number of lookups of property descriptors which have failed and whose names have been added to the cache of names known not to resolve to a
+     * property. This cache is cleared when the {@code BeanIntrospector}s are changed or {@link #clearDescriptors()} is called, and its size per class is
+     * limited, so this number also grows if many different names are looked up.
+     *
+     * @return The number of failed lookups which had to be computed
+     * @see #getUnresolvedNameHitCount()
+     * @since 2.0.0
+     */
+    public long getUnresolvedNameMissCount() {
+        return unresolvedMisses.sum();
     }
 
     /**
@@ -1000,7 +1541,7 @@ public class PropertyUtilsBean {
      */
     public Method getWriteMethod(final Class<?> clazz, final PropertyDescriptor descriptor) {
         final BeanIntrospectionData data = getIntrospectionData(clazz);
-        return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(clazz, data.getWriteMethod(clazz, descriptor));
+        return data.getAccessibleMethod(clazz, descriptor, data.getWriteMethod(clazz, descriptor));
     }
 
     /**
@@ -1023,6 +1564,33 @@ public class PropertyUtilsBean {
         return org.apache.commons.lang3.reflect.MethodUtils.getAccessibleMethod(descriptor.getWriteMethod());
     }
 
+    /**
+     * Gets the {@code WrapDynaClass} for the given bean class which uses this object for introspection, creating it if necessary.
+     *
+     * @param beanClass The bean class
+     * @return The {@code WrapDynaClass}
+     */
+    WrapDynaClass getWrapDynaClass(final Class<?> beanClass) {
+        return dynaClassesCache.get(beanClass);
+    }
+
+    /**
+     * Obtains the handle for writing the specified simple property of beans of the given class if the property has a write method which can be invoked
+     * directly. If this method returns {@code null}, {@link #isWriteable(Object, String)} and {@link #setSimpleProperty(Object, String, Object)} have to be
+     * used to find out whether and how the property can be written.
+     *
+     * @param beanClass The bean class, must not be a {@code DynaBean} class
+     * @param name      The property name
+     * @return The handle or {@code null}
+     */
+    PropertyHandle getWriteHandle(final Class<?> beanClass, final String name) {
+        if (!isSimpleName(name)) {
+            return null;
+        }
+        final PropertyHandle handle = getPropertyHandle(beanClass, name);
+        return handle != null && handle.isWritable() ? handle : null;
+    }
+
     /**
      * Delegates to {@link Method#invoke(Object, Object...)} and handles some unchecked exceptions.
      *
@@ -1065,6 +1633,28 @@ public class PropertyUtilsBean {
         }
     }
 
+    /**
+     * Tests whether property values are read by calling the public getters rather than through the accessors of the introspection data, which is the case if
+     * a subclass overrides {@link #getSimpleProperty(Object, String)}, {@link #getIndexedProperty(Object, String, int)},
+     * {@link #getMappedProperty(Object, String, String)} or their variants parsing the expression.
+     *
+     * @return {@code true} if the public getters have to be called
+     */
+    boolean isDelegatingGetters() {
+        return delegatingGetters;
+    }
+
+    /**
+     * Tests whether a {@code null} value in the middle of a nested property name expression is read as {@code null}.
+     *
+     * @return {@code true} if null-safe nesting is enabled
+     * @see #setNullSafeNesting(boolean)
+     * @since 2.0.0
+     */
+    public boolean isNullSafeNesting() {
+        return nullSafeNesting;
+    }
+
     /**
      * Tests whether a property name has been removed by a registered {@link SuppressPropertiesBeanIntrospector}. The mapped-descriptor fallback in
      * {@link #getPropertyDescriptor(Object, String)} bypasses the introspection pipeline, so suppressed mapped property names must be filtered explicitly.
@@ -1088,6 +1678,17 @@ public class PropertyUtilsBean {
         return false;
     }
 
+    /**
+     * Tests whether pinned introspection mode is enabled.
+     *
+     * @return {@code true} if the accessor methods of introspected classes are stored with strong references
+     * @see #setPinnedIntrospection(boolean)
+     * @since 2.0.0
+     */
+    public boolean isPinnedIntrospection() {
+        return pinnedIntrospection;
+    }
+
     /**
      * Return {@code true} if the specified property name identifies a readable property on the specified bean; otherwise, return {@code false}.
      *
@@ -1097,30 +1698,167 @@ public class PropertyUtilsBean {
      * @throws IllegalArgumentException if {@code bean} or {@code name</code> is <code>null}
      * @since 1.6
      */
-    public boolean isReadable(Object bean, String name) {
+    public boolean isReadable(final Object bean, final String name) {
+        final PropertyProbe probe = tryIsReadable(bean, name);
+        if (probe.getStatus() == Status.NESTED_NULL) {
+            throw new NestedNullException(probe.getMessage());
+        }
+        return probe.isAvailable();
+    }
+
+    /**
+     * Tests whether the given name refers to a simple property according to the current resolver, that is whether it is neither nested, nor indexed, nor
+     * mapped.
+     *
+     * @param name The property name
+     * @return {@code true} if the name is a simple property name
+     */
+    boolean isSimpleName(final String name) {
+        return !resolver.hasNested(name) && !resolver.isIndexed(name) && !resolver.isMapped(name);
+    }
+
+    /**
+     * Return {@code true} if the specified property name identifies a writable property on the specified bean; otherwise, return {@code false}.
+     *
+     * @param bean Bean to be examined (may be a {@link DynaBean}
+     * @param name Property name to be evaluated
+     * @return {@code true} if the property is writable, otherwise {@code false}
+     * @throws IllegalArgumentException if {@code bean} or {@code name</code> is <code>null}
+     * @since 1.6
+     */
+    public boolean isWriteable(final Object bean, final String name) {
+        final PropertyProbe probe = tryIsWriteable(bean, name);
+        if (probe.getStatus() == Status.NESTED_NULL) {
+            throw new NestedNullException(probe.getMessage());
+        }
+        return probe.isAvailable();
+    }
+
+    /**
+     * Loads a snapshot written by {@link #exportSnapshot(OutputStream)}, replacing a snapshot loaded before. When the property descriptors of a class
+     * recorded in the snapshot are needed for the first time, they are created from the recorded accessor methods instead of being introspected. The
+     * recorded data is validated against the live class first: the class must have the same public methods as when the snapshot was written, and the
+     * {@link BeanIntrospector}s of this bean must be configured in the same way as those of the bean which has written it. Otherwise, the class is
+     * introspected as usual.
+     * <p>
+     * The configuration of the introspectors is compared by their class names and, for the introspectors of this library, their settings. Custom
+     * introspectors whose results depend on their state, and explicit {@code BeanInfo} classes, are identified only by class name or not at all, so changes
+     * to them are not detected. A snapshot should therefore only be loaded by the same version of the application which has written it, and only from a
+     * trusted source.
+     * </p>
+     * <p>
+     * Classes whose descriptors are already cached are not affected. The stream is not closed.
+     * </p>
+     *
+     * @param in The stream to read the snapshot from
+     * @return The number of classes recorded in the snapshot
+     * @throws IOException if the stream cannot be read or does not contain a valid snapshot
+     * @since 2.0.0
+     */
+    public int loadSnapshot(final InputStream in) throws IOException {
+        final IntrospectionSnapshot loaded = IntrospectionSnapshot.read(Objects.requireNonNull(in, "in"));
+        snapshot = loaded;
+        return loaded.size();
+    }
+
+    /**
+     * Performs the lookups which this bean would otherwise perform lazily when the properties of the given classes are accessed for the first time. For each
+     * class, in parallel on the given executor,
+     * <ul>
+     * <li>the class is introspected and the handles for invoking the accessor methods of its properties are created,</li>
+     * <li>the descriptors of its mapped properties are resolved, and</li>
+     * <li>the {@link WrapDynaClass} for this bean is created.</li>
+     * </ul>
+     * <p>
+     * This method returns immediately. The returned future can be used to wait for the warm-up, for example before an application reports that it is
+     * ready. Plans for copying properties between classes can be created by {@link #prewarmCopy(Class, Collection, Executor)}.
+     * </p>
+     *
+     * @param classes  The bean classes
+     * @param executor The executor performing the warm-up, {@code null} for the common {@link ForkJoinPool}
+     * @return A future which is completed when all classes have been processed; it is completed exceptionally if any class could not be processed
+     * @throws NullPointerException if the collection or one of its elements is {@code null}
+     * @since 2.0.0
+     */
+    public CompletableFuture<Void> prewarm(final Collection<Class<?>> classes, final Executor executor) {
+        return forEachAsync(Objects.requireNonNull(classes, "classes"), executor, this::prewarm);
+    }
+
+    /**
+     * Performs the lookups of {@link #prewarm(Collection, Executor)} for a single class.
+     *
+     * @param beanClass The bean class
+     */
+    private void prewarm(final Class<?> beanClass) {
+        final BeanIntrospectionData data = getIntrospectionData(beanClass);
+        for (final PropertyDescriptor descriptor : data.getDescriptors()) {
+            getPropertyHandle(beanClass, descriptor.getName());
+        }
+        final Map<String, PropertyDescriptor> mappedDescriptors = mappedDescriptorsCache.get(beanClass);
+        for (final String name : MappedPropertyDescriptor.getMappedPropertyNames(beanClass)) {
+            if (data.getDescriptor(name) == null && !isPropertySuppressed(name) && !mappedDescriptors.containsKey(name)) {
+                try {
+                    mappedDescriptors.putIfAbsent(name, createMappedDescriptor(name, beanClass));
+                } catch (final IntrospectionException e) {
+                    // not a mapped property
+                }
+            }
+        }
+        WrapDynaClass.createDynaClass(beanClass, this);
+    }
+
+    /**
+     * Creates the plans which {@link #copyProperties(Object, Object)} uses for copying the properties of beans of the given origin classes to beans of the
+     * destination class, in parallel on the given executor. The classes are introspected if necessary.
+     *
+     * @param destClass   The class of the destination beans
+     * @param origClasses The classes of the origin beans
+     * @param executor    The executor performing the warm-up, {@code null} for the common {@link ForkJoinPool}
+     * @return A future which is completed when all plans have been created; it is completed exceptionally if any plan could not be created
+     * @throws NullPointerException if an argument is {@code null} or the collection contains {@code null}
+     * @since 2.0.0
+     */
+    public CompletableFuture<Void> prewarmCopy(final Class<?> destClass, final Collection<Class<?>> origClasses, final Executor executor) {
+        Objects.requireNonNull(destClass, "destClass");
+        return forEachAsync(Objects.requireNonNull(origClasses, "origClasses"), executor, origClass -> getCopyPlan(destClass, origClass));
+    }
+
+    /**
+     * Probes whether the specified property can be read or written. This is the implementation of {@link #tryIsReadable(Object, String)} and
+     * {@link #tryIsWriteable(Object, String)}.
+     *
+     * @param bean Bean to be examined
+     * @param name Property name to be evaluated
+     * @param read {@code true} to look for a read method, {@code false} to look for a write method
+     * @return The result of the probe
+     */
+    private PropertyProbe probeAccessor(Object bean, String name, final boolean read) {
         // Validate method parameters
         Objects.requireNonNull(bean, "bean");
         Objects.requireNonNull(name, "name");
         // Resolve nested references
         while (resolver.hasNested(name)) {
             final String next = resolver.next(name);
-            Object nestedBean = null;
+            final PropertyProbe nested;
             try {
-                nestedBean = getProperty(bean, next);
-            } catch (final IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-                return false;
+                nested = tryGetProperty(bean, next);
+            } catch (final IllegalAccessException | InvocationTargetException e) {
+                return PropertyProbe.miss(Status.NOT_READABLE, "Property '", next, "' cannot be read on bean class '", bean.getClass());
             }
-            if (nestedBean == null) {
-                throw new NestedNullException("Null property value for '" + next + "' on bean class '" + bean.getClass() + "'");
+            if (!nested.isAvailable()) {
+                return nested;
             }
-            bean = nestedBean;
+            if (nested.getValue() == null) {
+                return PropertyProbe.nestedNull(next, bean.getClass());
+            }
+            bean = nested.getValue();
             name = resolver.remove(name);
         }
 
         // Remove any subscript from the final name value
         name = resolver.getProperty(name);
 
-        // Treat WrapDynaBean as special case - may be a write-only property
+        // Treat WrapDynaBean as special case - may be a write-only or read-only property
         // (see Jira issue# BEANUTILS-61)
         if (bean instanceof WrapDynaBean) {
             bean = ((WrapDynaBean) bean).getInstance();
@@ -1128,90 +1866,307 @@ public class PropertyUtilsBean {
 
         // Return the requested result
         if (bean instanceof DynaBean) {
-            // All DynaBean properties are readable
-            return ((DynaBean) bean).getDynaClass().getDynaProperty(name) != null;
+            // All DynaBean properties are readable and writable
+            final DynaClass dynaClass = ((DynaBean) bean).getDynaClass();
+            return dynaClass.getDynaProperty(name) != null ? PropertyProbe.AVAILABLE
+                    : PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "' on dynaclass '", dynaClass);
         }
+        final Status missing = read ? Status.NOT_READABLE : Status.NOT_WRITEABLE;
         try {
             final PropertyDescriptor desc = getPropertyDescriptor(bean, name);
-            if (desc != null) {
-                Method readMethod = getReadMethod(bean.getClass(), desc);
-                if (readMethod == null) {
-                    if (desc instanceof IndexedPropertyDescriptor) {
-                        readMethod = ((IndexedPropertyDescriptor) desc).getIndexedReadMethod();
-                    } else if (desc instanceof MappedPropertyDescriptor) {
-                        readMethod = ((MappedPropertyDescriptor) desc).getMappedReadMethod();
+            if (desc == null) {
+                return PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "' on class '", bean.getClass());
+            }
+            if (desc instanceof FieldPropertyDescriptor) {
+                return read || FieldPropertyDescriptor.hasWriter(desc) ? PropertyProbe.AVAILABLE
+                        : PropertyProbe.miss(missing, "Property '", name, "' is a final field in class '", bean.getClass());
+            }
+            Method method = read ? getReadMethod(bean.getClass(), desc) : getWriteMethod(bean.getClass(), desc);
+            if (method == null) {
+                if (desc instanceof IndexedPropertyDescriptor) {
+                    method = read ? getIndexedReadMethod(bean.getClass(), (IndexedPropertyDescriptor) desc)
+                            : getIndexedWriteMethod(bean.getClass(), (IndexedPropertyDescriptor) desc);
+                } else if (desc instanceof MappedPropertyDescriptor) {
+                    method = getAccessibleMethod(bean,
+                            read ? ((MappedPropertyDescriptor) desc).getMappedReadMethod() : ((MappedPropertyDescriptor) desc).getMappedWriteMethod());
+                }
+            }
+            if (method == null) {
+                return PropertyProbe.miss(missing, "Property '", name, read ? "' has no getter method in class '" : "' has no setter method in class '",
+                        bean.getClass());
+            }
+            return PropertyProbe.AVAILABLE;
+        } catch (final NoSuchMethodException e) {
+            return PropertyProbe.of(e);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            return PropertyProbe.miss(missing, "Property '", name, "' cannot be accessed on bean class '", bean.getClass());
+        }
+    }
+
+    /**
+     * Probes the value of the specified indexed property of the specified bean. This is the implementation of
+     * {@link #getIndexedProperty(Object, String, int)}.
+     *
+     * @param bean  Bean whose property is to be extracted
+     * @param name  Simple property name of the property value to be extracted
+     * @param index Index of the property value to be extracted
+     * @return The result of the probe
+     * @throws IndexOutOfBoundsException if the specified index is outside the valid range for the underlying property
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    private PropertyProbe probeIndexedProperty(final Object bean, final String name, final int index)
+            throws IllegalAccessException, InvocationTargetException {
+        Objects.requireNonNull(bean, "bean");
+        if (name == null || name.isEmpty()) {
+            if (bean.getClass().isArray()) {
+                return PropertyProbe.found(Array.get(bean, index));
+            }
+            if (bean instanceof List) {
+                return PropertyProbe.found(((List<?>) bean).get(index));
+            }
+        }
+        Objects.requireNonNull(name, "name");
+        // Handle DynaBean instances specially
+        if (bean instanceof DynaBean) {
+            final DynaProperty descriptor = ((DynaBean) bean).getDynaClass().getDynaProperty(name);
+            if (descriptor == null) {
+                return PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "' on bean class '", bean.getClass());
+            }
+            return PropertyProbe.found(((DynaBean) bean).get(name, index));
+        }
+
+        // Retrieve the property descriptor for the specified property
+        final PropertyDescriptor descriptor;
+        try {
+            descriptor = getPropertyDescriptor(bean, name);
+        } catch (final NoSuchMethodException e) {
+            return PropertyProbe.of(e);
+        }
+        if (descriptor == null) {
+            return PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "' on bean class '", bean.getClass());
+        }
+
+        // Call the indexed getter method if there is one
+        if (descriptor instanceof IndexedPropertyDescriptor) {
+            final Method readMethod = getIndexedReadMethod(bean.getClass(), (IndexedPropertyDescriptor) descriptor);
+            if (readMethod != null) {
+                try {
+                    return PropertyProbe.found(invokeMethod(readMethod, bean, Integer.valueOf(index)));
+                } catch (final InvocationTargetException e) {
+                    if (e.getTargetException() instanceof IndexOutOfBoundsException) {
+                        throw (IndexOutOfBoundsException) e.getTargetException();
                     }
-                    readMethod = getAccessibleMethod(bean, readMethod);
+                    throw e;
+                }
+            }
+        }
+
+        // Otherwise, the underlying property must be an array
+        final Method readMethod = getReadMethod(bean.getClass(), descriptor);
+        if (readMethod == null) {
+            return PropertyProbe.miss(Status.NOT_READABLE, "Property '", name, "' has no getter method on bean class '", bean.getClass());
+        }
+
+        // Call the property getter and return the value
+        final Object value = invokeMethod(readMethod, bean, BeanUtils.EMPTY_OBJECT_ARRAY);
+        if (!value.getClass().isArray()) {
+            if (!(value instanceof List)) {
+                throw new IllegalArgumentException("Property '" + name + "' is not indexed on bean class '" + bean.getClass() + "'");
+            }
+            // get the List's value
+            return PropertyProbe.found(((List<?>) value).get(index));
+        }
+        // get the array's value
+        try {
+            return PropertyProbe.found(Array.get(value, index));
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            throw new ArrayIndexOutOfBoundsException("Index: " + index + ", Size: " + Array.getLength(value) + " for property '" + name + "'");
+        }
+    }
+
+    /**
+     * Probes the value of the specified mapped property of the specified bean. This is the implementation of
+     * {@link #getMappedProperty(Object, String, String)}.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Mapped property name of the property value to be extracted
+     * @param key  Key of the property value to be extracted
+     * @return The result of the probe
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    private PropertyProbe probeMappedProperty(final Object bean, final String name, final String key)
+            throws IllegalAccessException, InvocationTargetException {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(key, "key");
+        // Handle DynaBean instances specially
+        if (bean instanceof DynaBean) {
+            final DynaProperty descriptor = ((DynaBean) bean).getDynaClass().getDynaProperty(name);
+            if (descriptor == null) {
+                return PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "'+ on bean class '", bean.getClass());
+            }
+            return PropertyProbe.found(((DynaBean) bean).get(name, key));
+        }
+
+        Object result = null;
+
+        // Retrieve the property descriptor for the specified property
+        final PropertyDescriptor descriptor;
+        try {
+            descriptor = getPropertyDescriptor(bean, name);
+        } catch (final NoSuchMethodException e) {
+            return PropertyProbe.of(e);
+        }
+        if (descriptor == null) {
+            return PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "'+ on bean class '", bean.getClass());
+        }
+
+        if (descriptor instanceof MappedPropertyDescriptor) {
+            // Call the keyed getter method if there is one
+            Method readMethod = ((MappedPropertyDescriptor) descriptor).getMappedReadMethod();
+            readMethod = getAccessibleMethod(bean, readMethod);
+            if (readMethod == null) {
+                return PropertyProbe.miss(Status.NOT_READABLE, "Property '", name, "' has no mapped getter method on bean class '", bean.getClass());
+            }
+            result = invokeMethod(readMethod, bean, key);
+        } else {
+            /* means that the result has to be retrieved from a map */
+            final Method readMethod = getReadMethod(bean.getClass(), descriptor);
+            if (readMethod == null) {
+                return PropertyProbe.miss(Status.NOT_READABLE, "Property '", name, "' has no mapped getter method on bean class '", bean.getClass());
+            }
+            final Object invokeResult = invokeMethod(readMethod, bean, BeanUtils.EMPTY_OBJECT_ARRAY);
+            /* test and fetch from the map */
+            if (invokeResult instanceof Map) {
+                result = ((Map<?, ?>) invokeResult).get(key);
+            }
+        }
+        return PropertyProbe.found(result);
+    }
+
+    /**
+     * Probes the value of a single segment of a property path of the specified bean. This corresponds to a call of
+     * {@link #tryGetProperty(Object, String)} with the expression of the segment. If a subclass overrides {@link #getSimpleProperty(Object, String)},
+     * {@link #getIndexedProperty(Object, String, int)}, {@link #getMappedProperty(Object, String, String)} or their variants parsing the expression, the
+     * segment is evaluated by calling these methods.
+     *
+     * @param bean    The bean
+     * @param segment The segment to be evaluated
+     * @return The result of the probe
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    PropertyProbe probePathSegment(final Object bean, final PropertyPath.Segment segment) throws IllegalAccessException, InvocationTargetException {
+        try {
+            if (bean instanceof Map) {
+                return PropertyProbe.found(getPropertyOfMapBean((Map<?, ?>) bean, segment.getExpression()));
+            }
+            if (delegatingGetters) {
+                if (segment.isMapped()) {
+                    return PropertyProbe.found(getMappedProperty(bean, segment.getExpression()));
+                }
+                if (segment.isIndexed()) {
+                    return PropertyProbe.found(getIndexedProperty(bean, segment.getExpression()));
                 }
-                return readMethod != null;
+                return PropertyProbe.found(getSimpleProperty(bean, segment.getExpression()));
+            }
+            if (segment.isMapped()) {
+                return segment.getKey() != null ? probeMappedProperty(bean, segment.getName(), segment.getKey())
+                        : PropertyProbe.found(getMappedProperty(bean, segment.getExpression()));
+            }
+            if (segment.isIndexed()) {
+                return segment.getIndex() >= 0 ? probeIndexedProperty(bean, segment.getName(), segment.getIndex())
+                        : PropertyProbe.found(getIndexedProperty(bean, segment.getExpression()));
             }
-            return false;
-        } catch (final IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            return false;
+        } catch (final NoSuchMethodException e) {
+            // reported by a method which may be overridden
+            return PropertyProbe.of(e);
         }
+        return probeSimpleProperty(bean, segment.getExpression());
     }
 
     /**
-     * Return {@code true} if the specified property name identifies a writable property on the specified bean; otherwise, return {@code false}.
+     * Probes the value of the specified simple property of the specified bean. This is the implementation of {@link #getSimpleProperty(Object, String)}.
      *
-     * @param bean Bean to be examined (may be a {@link DynaBean}
-     * @param name Property name to be evaluated
-     * @return {@code true} if the property is writable, otherwise {@code false}
-     * @throws IllegalArgumentException if {@code bean} or {@code name</code> is <code>null}
-     * @since 1.6
+     * @param bean Bean whose property is to be extracted
+     * @param name Name of the property to be extracted
+     * @return The result of the probe
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if the property name is nested or indexed
+     * @throws InvocationTargetException if the property accessor method throws an exception
      */
-    public boolean isWriteable(Object bean, String name) {
-        // Validate method parameters
+    private PropertyProbe probeSimpleProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException {
         Objects.requireNonNull(bean, "bean");
         Objects.requireNonNull(name, "name");
-        // Resolve nested references
-        while (resolver.hasNested(name)) {
-            final String next = resolver.next(name);
-            Object nestedBean = null;
-            try {
-                nestedBean = getProperty(bean, next);
-            } catch (final IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-                return false;
-            }
-            if (nestedBean == null) {
-                throw new NestedNullException("Null property value for '" + next + "' on bean class '" + bean.getClass() + "'");
-            }
-            bean = nestedBean;
-            name = resolver.remove(name);
+        // Validate the syntax of the property name
+        if (resolver.hasNested(name)) {
+            throw new IllegalArgumentException("Nested property names are not allowed: Property '" + name + "' on bean class '" + bean.getClass() + "'");
         }
-
-        // Remove any subscript from the final name value
-        name = resolver.getProperty(name);
-
-        // Treat WrapDynaBean as special case - may be a read-only property
-        // (see Jira issue# BEANUTILS-61)
-        if (bean instanceof WrapDynaBean) {
-            bean = ((WrapDynaBean) bean).getInstance();
+        if (resolver.isIndexed(name)) {
+            throw new IllegalArgumentException("Indexed property names are not allowed: Property '" + name + "' on bean class '" + bean.getClass() + "'");
+        }
+        if (resolver.isMapped(name)) {
+            throw new IllegalArgumentException("Mapped property names are not allowed: Property '" + name + "' on bean class '" + bean.getClass() + "'");
         }
 
-        // Return the requested result
+        // Handle DynaBean instances specially
         if (bean instanceof DynaBean) {
-            // All DynaBean properties are writable
-            return ((DynaBean) bean).getDynaClass().getDynaProperty(name) != null;
+            final DynaClass dynaClass = ((DynaBean) bean).getDynaClass();
+            if (dynaClass.getDynaProperty(name) == null) {
+                return PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "' on dynaclass '", dynaClass);
+            }
+            return PropertyProbe.found(((DynaBean) bean).get(name));
         }
+
+        // Retrieve the property getter for the specified property
+        final PropertyHandle handle;
         try {
-            final PropertyDescriptor desc = getPropertyDescriptor(bean, name);
-            if (desc != null) {
-                Method writeMethod = getWriteMethod(bean.getClass(), desc);
-                if (writeMethod == null) {
-                    if (desc instanceof IndexedPropertyDescriptor) {
-                        writeMethod = ((IndexedPropertyDescriptor) desc).getIndexedWriteMethod();
-                    } else if (desc instanceof MappedPropertyDescriptor) {
-                        writeMethod = ((MappedPropertyDescriptor) desc).getMappedWriteMethod();
-                    }
-                    writeMethod = getAccessibleMethod(bean, writeMethod);
-                }
-                return writeMethod != null;
-            }
-            return false;
-        } catch (final IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            return false;
+            handle = getPropertyHandle(bean, name);
+        } catch (final NoSuchMethodException e) {
+            return PropertyProbe.of(e);
+        }
+        if (handle == null) {
+            return PropertyProbe.miss(Status.NO_SUCH_PROPERTY, "Unknown property '", name, "' on class '", bean.getClass());
+        }
+        if (handle.hasReadHandle()) {
+            return PropertyProbe.found(handle.read(bean));
+        }
+        if (handle.getField() != null) {
+            return PropertyProbe.found(handle.readField(bean));
+        }
+        final Method readMethod = handle.getReadMethod();
+        if (readMethod == null) {
+            return PropertyProbe.miss(Status.NOT_READABLE, "Property '", name, "' has no getter method in class '", bean.getClass());
+        }
+
+        // Call the property getter and return the value
+        return PropertyProbe.found(invokeMethod(readMethod, bean, BeanUtils.EMPTY_OBJECT_ARRAY));
+    }
+
+    /**
+     * Reads the specified property as a value of the given primitive type. This is the implementation of the primitive accessors, for instance
+     * {@link #getIntProperty(Object, String)}. A {@code null} value in the middle of a nested property name expression always causes an exception, as it
+     * cannot be represented by a primitive value.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly indexed and/or nested name of the property to be extracted
+     * @param type The primitive type
+     * @return The property value, see {@link PrimitiveType}
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value cannot be converted
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private long readPrimitive(final Object bean, final String name, final PrimitiveType type)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final PropertyHandle handle = getPrimitiveHandle(bean, name);
+        if (!delegatingGetters && type.canRead(handle)) {
+            return type.read(handle, bean);
         }
+        return type.fromValue(tryGetProperty(bean, getPropertyPath(name)).orElseThrow(), name);
     }
 
     /**
@@ -1222,7 +2177,11 @@ public class PropertyUtilsBean {
      * @since 1.9
      */
     public boolean removeBeanIntrospector(final BeanIntrospector introspector) {
-        return introspectors.remove(introspector);
+        final boolean removed = introspectors.remove(introspector);
+        if (removed) {
+            unresolvedNamesCache.clear();
+        }
+        return removed;
     }
 
     /**
@@ -1232,10 +2191,102 @@ public class PropertyUtilsBean {
      * @since 1.9
      */
     public final void resetBeanIntrospectors() {
+        resetBeanIntrospectors(DefaultBeanIntrospector.INSTANCE);
+    }
+
+    /**
+     * Resets the {@link BeanIntrospector} objects registered at this instance, using the given {@code BeanIntrospector} instead of the default one. After
+     * this method was called, the given {@code BeanIntrospector} is registered, followed by the {@code BeanIntrospector}s suppressing the {@code class}
+     * and {@code declaringClass} properties, like in the initial state. For instance, {@link ReflectionBeanIntrospector#INSTANCE} can be passed to
+     * introspect classes without {@link java.beans.Introspector}.
+     *
+     * @param introspector The {@code BeanIntrospector} to be used instead of {@link DefaultBeanIntrospector}
+     * @throws NullPointerException if the argument is {@code null}
+     * @since 2.0.0
+     */
+    public final void resetBeanIntrospectors(final BeanIntrospector introspector) {
+        Objects.requireNonNull(introspector, "introspector");
         introspectors.clear();
-        introspectors.add(DefaultBeanIntrospector.INSTANCE);
+        introspectors.add(introspector);
         introspectors.add(SuppressPropertiesBeanIntrospector.SUPPRESS_CLASS);
         introspectors.add(SuppressPropertiesBeanIntrospector.SUPPRESS_DECLARING_CLASS);
+        unresolvedNamesCache.clear();
+    }
+
+    /**
+     * Sets the value of the specified property of the specified bean to a {@code boolean} value, no matter which property reference format is used. If the
+     * name is a simple property name and the property has a write method or field of type {@code boolean}, the value is written without boxing. Otherwise,
+     * the boxed value is passed to {@link #setProperty(Object, String, Object)}, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param name  Possibly indexed and/or nested name of the property to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value cannot be assigned to the property
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setBooleanProperty(final Object bean, final String name, final boolean value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, name, PrimitiveType.BOOLEAN, value ? 1 : 0);
+    }
+
+    /**
+     * Sets the value of the specified property of the specified bean to a {@code double} value, no matter which property reference format is used. If the
+     * name is a simple property name and the property has a write method or field of type {@code double}, the value is written without boxing. Otherwise,
+     * the boxed value is passed to {@link #setProperty(Object, String, Object)}, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param name  Possibly indexed and/or nested name of the property to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value cannot be assigned to the property
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setDoubleProperty(final Object bean, final String name, final double value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, name, PrimitiveType.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Sets the value of the specified property of the specified bean to a {@code int} value, no matter which property reference format is used. If the
+     * name is a simple property name and the property has a write method or field of type {@code int}, the value is written without boxing. Otherwise,
+     * the boxed value is passed to {@link #setProperty(Object, String, Object)}, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param name  Possibly indexed and/or nested name of the property to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value cannot be assigned to the property
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setIntProperty(final Object bean, final String name, final int value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, name, PrimitiveType.INT, value);
+    }
+
+    /**
+     * Sets the value of the specified property of the specified bean to a {@code long} value, no matter which property reference format is used. If the
+     * name is a simple property name and the property has a write method or field of type {@code long}, the value is written without boxing. Otherwise,
+     * the boxed value is passed to {@link #setProperty(Object, String, Object)}, which performs widening conversions to the declared type.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param name  Possibly indexed and/or nested name of the property to be modified
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value cannot be assigned to the property
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setLongProperty(final Object bean, final String name, final long value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        writePrimitive(bean, name, PrimitiveType.LONG, value);
     }
 
     /**
@@ -1285,8 +2336,7 @@ public class PropertyUtilsBean {
 
         // Call the indexed setter method if there is one
         if (descriptor instanceof IndexedPropertyDescriptor) {
-            Method writeMethod = ((IndexedPropertyDescriptor) descriptor).getIndexedWriteMethod();
-            writeMethod = getAccessibleMethod(bean, writeMethod);
+            final Method writeMethod = getIndexedWriteMethod(bean.getClass(), (IndexedPropertyDescriptor) descriptor);
             if (writeMethod != null) {
                 try {
                     if (LOG.isTraceEnabled()) {
@@ -1475,38 +2525,111 @@ public class PropertyUtilsBean {
      * @throws InvocationTargetException if the property accessor method throws an exception
      * @throws NoSuchMethodException     if an accessor method for this property cannot be found
      */
-    public void setNestedProperty(Object bean, String name, final Object value)
+    public void setNestedProperty(final Object bean, final String name, final Object value)
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
         Objects.requireNonNull(bean, "bean");
         Objects.requireNonNull(name, "name");
+        setNestedProperty(bean, getPropertyPath(name), value);
+    }
+
+    /**
+     * Sets the value of the property referenced by the specified {@link PropertyPath} of the specified bean, with no type conversions. This method behaves
+     * like {@link #setNestedProperty(Object, String, Object)}, but does not have to parse the property name expression.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param path  The parsed property name expression
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code path} is null
+     * @throws NestedNullException       if a nested reference to a property returns null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @see #getPropertyPath(String)
+     * @since 2.0.0
+     */
+    public void setNestedProperty(Object bean, final PropertyPath path, final Object value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(path, "path");
         // Resolve nested references
-        while (resolver.hasNested(name)) {
-            final String next = resolver.next(name);
-            Object nestedBean = null;
-            if (bean instanceof Map) {
-                nestedBean = getPropertyOfMapBean((Map<?, ?>) bean, next);
-            } else if (resolver.isMapped(next)) {
-                nestedBean = getMappedProperty(bean, next);
-            } else if (resolver.isIndexed(next)) {
-                nestedBean = getIndexedProperty(bean, next);
-            } else {
-                nestedBean = getSimpleProperty(bean, next);
-            }
+        final int last = path.size() - 1;
+        for (int i = 0; i < last; i++) {
+            final PropertyPath.Segment segment = path.getSegment(i);
+            final Object nestedBean = getPathSegment(bean, segment);
             if (nestedBean == null) {
-                throw new NestedNullException("Null property value for '" + name + "' on bean class '" + bean.getClass() + "'");
+                throw new NestedNullException("Null property value for '" + segment.getRemainder() + "' on bean class '" + bean.getClass() + "'");
             }
             bean = nestedBean;
-            name = resolver.remove(name);
         }
 
+        setPathSegment(bean, path.getSegment(last), value);
+    }
+
+    /**
+     * Sets the value of a single segment of a property path of the specified bean. This corresponds to a call of
+     * {@link #setNestedProperty(Object, String, Object)} with the expression of the segment.
+     *
+     * @param bean    The bean
+     * @param segment The segment to be evaluated
+     * @param value   The value to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    void setPathSegment(final Object bean, final PropertyPath.Segment segment, final Object value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
         if (bean instanceof Map) {
-            setPropertyOfMapBean(toPropertyMap(bean), name, value);
-        } else if (resolver.isMapped(name)) {
-            setMappedProperty(bean, name, value);
-        } else if (resolver.isIndexed(name)) {
-            setIndexedProperty(bean, name, value);
+            setPropertyOfMapBean(toPropertyMap(bean), segment.getExpression(), value);
+        } else if (segment.isMapped()) {
+            if (segment.getKey() != null) {
+                setMappedProperty(bean, segment.getName(), segment.getKey(), value);
+            } else {
+                setMappedProperty(bean, segment.getExpression(), value);
+            }
+        } else if (segment.isIndexed()) {
+            if (segment.getIndex() >= 0) {
+                setIndexedProperty(bean, segment.getName(), segment.getIndex(), value);
+            } else {
+                setIndexedProperty(bean, segment.getExpression(), value);
+            }
         } else {
-            setSimpleProperty(bean, name, value);
+            setSimpleProperty(bean, segment.getExpression(), value);
+        }
+    }
+
+    /**
+     * Sets whether a {@code null} value in the middle of a nested property name expression is read as {@code null}. If enabled,
+     * {@link #getNestedProperty(Object, String)}, {@link #getProperty(Object, String)} and the corresponding methods of {@link CompiledProperty} and
+     * {@link BeanUtilsBean} return {@code null} at the first nested reference which evaluates to {@code null}, instead of throwing a
+     * {@link NestedNullException}. Methods which write properties or test whether they are readable or writable are not affected, nor are the accessors for
+     * primitive values such as {@link #getIntProperty(Object, String)}, which cannot return {@code null}. The default is {@code false}.
+     *
+     * @param nullSafeNesting {@code true} to enable null-safe nesting, {@code false} to disable it
+     * @see #getNullSafeProperty(Object, String)
+     * @since 2.0.0
+     */
+    public void setNullSafeNesting(final boolean nullSafeNesting) {
+        this.nullSafeNesting = nullSafeNesting;
+    }
+
+    /**
+     * Sets whether pinned introspection mode is enabled. The {@code PropertyDescriptor}s of the JDK reference their accessor methods only softly; when
+     * these references are cleared under memory pressure, the methods are looked up again on the next access. This class already keeps the read methods,
+     * and the write methods once they have been used, with strong references. In pinned mode, all accessor methods of a class are resolved and stored with
+     * strong references when the class is introspected: the write methods, the indexed read and write methods of indexed properties, and the methods of
+     * mapped properties when their descriptors are created. The introspection data of all classes is then held strongly, even for classes of class loaders
+     * other than the one of this library, which are otherwise held softly. The descriptors thus remain stable until they are cleared by
+     * {@link #clearDescriptors()}, at the cost of keeping all these methods, and the classes and class loaders they belong to, in memory. Changing the mode
+     * clears the cached descriptors. The default is {@code false}.
+     *
+     * @param pinnedIntrospection {@code true} to enable pinned introspection mode, {@code false} to disable it
+     * @since 2.0.0
+     */
+    public void setPinnedIntrospection(final boolean pinnedIntrospection) {
+        if (this.pinnedIntrospection != pinnedIntrospection) {
+            this.pinnedIntrospection = pinnedIntrospection;
+            createDescriptorsCaches();
+            clearDescriptors();
         }
     }
 
@@ -1526,6 +2649,23 @@ public class PropertyUtilsBean {
         setNestedProperty(bean, name, value);
     }
 
+    /**
+     * Sets the value of the property referenced by the specified {@link PropertyPath} of the specified bean, with no type conversions.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param path  The parsed property name expression
+     * @param value Value to which this property is to be set
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code path} is null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     * @since 2.0.0
+     */
+    public void setProperty(final Object bean, final PropertyPath path, final Object value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        setNestedProperty(bean, path, value);
+    }
+
     /**
      * This method is called by method setNestedProperty when the current bean is found to be a Map object, and defines how to deal with setting a property on a
      * Map.
@@ -1594,6 +2734,10 @@ public class PropertyUtilsBean {
         } else {
             this.resolver = resolver;
         }
+        pathCache = new ConcurrentHashMap<>();
+        // copy plans depend on which names the resolver regards as simple
+        copyPlansCache.clear();
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -1634,21 +2778,152 @@ public class PropertyUtilsBean {
             return;
         }
 
-        // Retrieve the property setter method for the specified property
-        final PropertyDescriptor descriptor = getPropertyDescriptor(bean, name);
-        if (descriptor == null) {
+        // Retrieve the property setter for the specified property
+        final PropertyHandle handle = getPropertyHandle(bean, name);
+        if (handle == null) {
             throw new NoSuchMethodException("Unknown property '" + name + "' on class '" + beanClass + "'");
         }
-        final Method writeMethod = getWriteMethod(beanClass, descriptor);
-        if (writeMethod == null) {
+        if (!handle.isWritable()) {
             throw new NoSuchMethodException("Property '" + name + "' has no setter method in class '" + beanClass + "'");
         }
 
         // Call the property setter method
         if (LOG.isTraceEnabled()) {
             final String valueClassName = value == null ? "<null>" : value.getClass().getName();
-            LOG.trace("setSimpleProperty: Invoking method " + writeMethod + " with value " + value + " (class " + valueClassName + ")");
+            final Object target = handle.getWriteMethod() != null ? handle.getWriteMethod() : handle.getField();
+            LOG.trace("setSimpleProperty: Writing " + target + " with value " + value + " (class " + valueClassName + ")");
+        }
+        writeProperty(bean, handle, name, value);
+    }
+
+    /**
+     * Probes the value of the specified property of the specified bean, no matter which property reference format is used, with no type conversions. This
+     * method behaves like {@link #getProperty(Object, String)}, but reports a missing property, a property without getter method, or a {@code null} value
+     * in the middle of a nested expression by the status of the returned {@link PropertyProbe} rather than by an exception.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param name Possibly indexed and/or nested name of the property to be extracted
+     * @return The result of the probe, containing the property value if it could be read
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @since 2.0.0
+     */
+    public PropertyProbe tryGetProperty(final Object bean, final String name) throws IllegalAccessException, InvocationTargetException {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(name, "name");
+        return tryGetProperty(bean, getPropertyPath(name));
+    }
+
+    /**
+     * Probes the value of the property referenced by the specified {@link PropertyPath} of the specified bean, with no type conversions. This method behaves
+     * like {@link #tryGetProperty(Object, String)}, but does not have to parse the property name expression.
+     *
+     * @param bean Bean whose property is to be extracted
+     * @param path The parsed property name expression
+     * @return The result of the probe, containing the property value if it could be read
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code path} is null
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @since 2.0.0
+     */
+    public PropertyProbe tryGetProperty(Object bean, final PropertyPath path) throws IllegalAccessException, InvocationTargetException {
+        Objects.requireNonNull(bean, "bean");
+        Objects.requireNonNull(path, "path");
+        // Resolve nested references
+        final int last = path.size() - 1;
+        for (int i = 0; i < last; i++) {
+            final PropertyPath.Segment segment = path.getSegment(i);
+            final PropertyProbe nested = probePathSegment(bean, segment);
+            if (!nested.isAvailable()) {
+                return nested;
+            }
+            if (nested.getValue() == null) {
+                return PropertyProbe.nestedNull(segment.getRemainder(), bean.getClass());
+            }
+            bean = nested.getValue();
+        }
+        return probePathSegment(bean, path.getSegment(last));
+    }
+
+    /**
+     * Probes whether the specified property name identifies a readable property on the specified bean. This method behaves like
+     * {@link #isReadable(Object, String)}, but also reports why a property is not readable: the status of the returned {@link PropertyProbe} is
+     * {@link Status#NO_SUCH_PROPERTY} for an unknown property, {@link Status#NOT_READABLE} for a property without getter method, and
+     * {@link Status#NESTED_NULL} if a nested reference evaluates to {@code null}. The probe does not contain a value.
+     *
+     * @param bean Bean to be examined (may be a {@link DynaBean}
+     * @param name Property name to be evaluated
+     * @return The result of the probe
+     * @throws IllegalArgumentException if {@code bean} or {@code name} is null
+     * @since 2.0.0
+     */
+    public PropertyProbe tryIsReadable(final Object bean, final String name) {
+        return probeAccessor(bean, name, true);
+    }
+
+    /**
+     * Probes whether the specified property name identifies a writable property on the specified bean. This method behaves like
+     * {@link #isWriteable(Object, String)}, but also reports why a property is not writable: the status of the returned {@link PropertyProbe} is
+     * {@link Status#NO_SUCH_PROPERTY} for an unknown property, {@link Status#NOT_WRITEABLE} for a property without setter method, and
+     * {@link Status#NESTED_NULL} if a nested reference evaluates to {@code null}. The probe does not contain a value.
+     *
+     * @param bean Bean to be examined (may be a {@link DynaBean}
+     * @param name Property name to be evaluated
+     * @return The result of the probe
+     * @throws IllegalArgumentException if {@code bean} or {@code name} is null
+     * @since 2.0.0
+     */
+    public PropertyProbe tryIsWriteable(final Object bean, final String name) {
+        return probeAccessor(bean, name, false);
+    }
+
+    /**
+     * Writes a property using its write handle, or using reflection if the handle cannot accept the value.
+     *
+     * @param bean   The bean
+     * @param writer The write handle
+     * @param name   The property name
+     * @param value  The value
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     */
+    void writeProperty(final Object bean, final PropertyHandle writer, final String name, final Object value)
+            throws IllegalAccessException, InvocationTargetException {
+        if (writer.canWrite(value)) {
+            writer.write(bean, value);
+        } else if (writer.getField() != null) {
+            try {
+                writer.writeField(bean, value);
+            } catch (final IllegalArgumentException cause) {
+                throw new IllegalArgumentException("Cannot set field " + writer.getField().getDeclaringClass().getName() + "." + name + " on bean class '"
+                        + bean.getClass() + "' - " + cause.getMessage(), cause);
+            }
+        } else {
+            invokeMethod(writer.getWriteMethod(), bean, value);
+        }
+    }
+
+    /**
+     * Writes the specified property as a value of the given primitive type. This is the implementation of the primitive accessors, for instance
+     * {@link #setIntProperty(Object, String, int)}.
+     *
+     * @param bean  Bean whose property is to be modified
+     * @param name  Possibly indexed and/or nested name of the property to be modified
+     * @param type  The primitive type
+     * @param value Value to which this property is to be set, see {@link PrimitiveType}
+     * @throws IllegalAccessException    if the caller does not have access to the property accessor method
+     * @throws IllegalArgumentException  if {@code bean} or {@code name} is null or if the value cannot be assigned to the property
+     * @throws InvocationTargetException if the property accessor method throws an exception
+     * @throws NoSuchMethodException     if an accessor method for this property cannot be found
+     */
+    private void writePrimitive(final Object bean, final String name, final PrimitiveType type, final long value)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        final PropertyHandle handle = getPrimitiveHandle(bean, name);
+        if (type.canWrite(handle)) {
+            type.write(handle, bean, value);
+        } else {
+            setProperty(bean, name, type.toValue(value));
         }
-        invokeMethod(writeMethod, bean, value);
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * <p>
+ * A {@link BeanIntrospector} implementation which detects the components of record classes.
+ * </p>
+ * <p>
+ * The accessor method of a record component has the name of the component, for instance {@code name()}, rather than {@code getName()}, so
+ * {@link DefaultBeanIntrospector} does not find it. This class creates a read-only property for each component of a record class, with the accessor method
+ * as read method. Like other simple properties, these properties are read through cached method handles. Classes which are not records are ignored; if
+ * a record class has a property found by an introspector registered before, the component overrides it.
+ * </p>
+ * <p>
+ * This library targets Java 8, so records are detected by reflection; on a Java runtime without records, this class does nothing. To use it, register it
+ * in addition to the default introspector, for instance by calling {@link PropertyUtilsBean#addBeanIntrospector(BeanIntrospector)}. Records can be created
+ * from the properties of other beans by {@link PropertyUtilsBean#copyToRecord(Class, Object)} and {@link BeanUtilsBean#copyToRecord(Class, Object)}.
+ * </p>
+ * <p>
+ * This class is a singleton without state; the single instance can be obtained using the {@code INSTANCE} field.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class RecordBeanIntrospector implements BeanIntrospector {
+
+    /** The singleton instance of this class. */
+    public static final BeanIntrospector INSTANCE = new RecordBeanIntrospector();
+
+    /** For logging. Each subclass gets its own log instance. */
+    private final Log log = LogFactory.getLog(getClass());
+
+    /**
+     * Private constructor so that no instances can be created.
+     */
+    private RecordBeanIntrospector() {
+    }
+
+    /**
+     * Performs introspection of a specific Java class. This implementation adds a read-only property descriptor for each component if the class is a record
+     * class.
+     *
+     * @param icontext The introspection context
+     */
+    @Override
+    public void introspect(final IntrospectionContext icontext) {
+        final RecordComponents components = RecordComponents.of(icontext.getTargetClass());
+        if (components == null) {
+            return;
+        }
+        for (int i = 0; i < components.size(); i++) {
+            try {
+                icontext.addPropertyDescriptor(new PropertyDescriptor(components.getName(i), components.getAccessor(i), null));
+            } catch (final IntrospectionException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Ignoring component " + components.getName(i) + " of " + icontext.getTargetClass(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * <p>
+ * The components of a record class and its canonical constructor, as used by {@link RecordBeanIntrospector} and by the methods creating records, for
+ * instance {@link PropertyUtilsBean#copyToRecord(Class, Object)}.
+ * </p>
+ * <p>
+ * This library targets Java 8, which has no records. The methods of the reflection API describing records ({@code Class.isRecord()},
+ * {@code Class.getRecordComponents()} and the methods of {@code java.lang.reflect.RecordComponent}) are therefore looked up reflectively once. On a Java
+ * runtime without records, they are not available, and no class is regarded as a record.
+ * </p>
+ * <p>
+ * The components of a record class are determined once and cached. The canonical constructor is bound to a {@link MethodHandle} accepting the component
+ * values as an array, so a record is created by a single invocation without the overhead of {@link Constructor#newInstance(Object...)}.
+ * </p>
+ */
+final class RecordComponents {
+
+    /** Log instance */
+    private static final Log LOG = LogFactory.getLog(RecordComponents.class);
+
+    /** The method {@code Class.isRecord()}, {@code null} if records are not supported. */
+    private static final Method IS_RECORD = method(Class.class, "isRecord");
+
+    /** The method {@code Class.getRecordComponents()}, {@code null} if records are not supported. */
+    private static final Method GET_RECORD_COMPONENTS = method(Class.class, "getRecordComponents");
+
+    /** The method {@code RecordComponent.getName()}, {@code null} if records are not supported. */
+    private static final Method GET_NAME = method(recordComponentClass(), "getName");
+
+    /** The method {@code RecordComponent.getType()}, {@code null} if records are not supported. */
+    private static final Method GET_TYPE = method(recordComponentClass(), "getType");
+
+    /** The method {@code RecordComponent.getAccessor()}, {@code null} if records are not supported. */
+    private static final Method GET_ACCESSOR = method(recordComponentClass(), "getAccessor");
+
+    /** The type the constructor handles are adapted to. */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /** The cache for the components of record classes. */
+    private static final ClassCache<RecordComponents> CACHE = ClassCache.create(RecordComponents::new);
+
+    /**
+     * Gets the components of the given record class.
+     *
+     * @param recordClass The record class
+     * @return The components
+     * @throws IllegalArgumentException if the class is not a record class
+     * @throws NullPointerException     if the class is {@code null}
+     */
+    static RecordComponents forRecordClass(final Class<?> recordClass) {
+        Objects.requireNonNull(recordClass, "recordClass");
+        final RecordComponents components = of(recordClass);
+        if (components == null) {
+            throw new IllegalArgumentException("Class '" + recordClass.getName() + "' is not a record class");
+        }
+        return components;
+    }
+
+    /**
+     * Invokes a method of the reflection API describing records.
+     *
+     * @param method The method
+     * @param target The object to invoke the method on
+     * @return The result of the method
+     */
+    private static Object invoke(final Method method, final Object target) {
+        try {
+            return method.invoke(target);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot invoke " + method, e);
+        }
+    }
+
+    /**
+     * Tests whether the given class is a record class.
+     *
+     * @param type The class
+     * @return {@code true} if the class is a record class; always {@code false} on a Java runtime without records
+     */
+    static boolean isRecord(final Class<?> type) {
+        return IS_RECORD != null && (Boolean) invoke(IS_RECORD, type);
+    }
+
+    /**
+     * Looks up a public method without parameters.
+     *
+     * @param type The class declaring the method, may be {@code null}
+     * @param name The name of the method
+     * @return The method or {@code null} if it does not exist
+     */
+    private static Method method(final Class<?> type, final String name) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return type.getMethod(name);
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the components of the given class.
+     *
+     * @param type The class
+     * @return The components or {@code null} if the class is not a record class
+     */
+    static RecordComponents of(final Class<?> type) {
+        return isRecord(type) ? CACHE.get(type) : null;
+    }
+
+    /**
+     * Loads the class {@code java.lang.reflect.RecordComponent}.
+     *
+     * @return The class or {@code null} if records are not supported
+     */
+    private static Class<?> recordComponentClass() {
+        try {
+            return Class.forName("java.lang.reflect.RecordComponent");
+        } catch (final ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /** The record class. */
+    private final Class<?> recordClass;
+
+    /** The names of the components. */
+    private final String[] names;
+
+    /** The types of the components. */
+    private final Class<?>[] types;
+
+    /** The accessor methods of the components. */
+    private final Method[] accessors;
+
+    /** The values passed to the canonical constructor for components without a value. */
+    private final Object[] defaults;
+
+    /** The canonical constructor. */
+    private final Constructor<?> constructor;
+
+    /** The handle bound to the canonical constructor, {@code null} if reflection has to be used. */
+    private final MethodHandle constructorHandle;
+
+    /**
+     * Creates a new instance for the given record class.
+     *
+     * @param recordClass The record class
+     */
+    private RecordComponents(final Class<?> recordClass) {
+        this.recordClass = recordClass;
+        final Object[] components = (Object[]) invoke(GET_RECORD_COMPONENTS, recordClass);
+        names = new String[components.length];
+        types = new Class<?>[components.length];
+        accessors = new Method[components.length];
+        defaults = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names[i] = (String) invoke(GET_NAME, components[i]);
+            types[i] = (Class<?>) invoke(GET_TYPE, components[i]);
+            accessors[i] = (Method) invoke(GET_ACCESSOR, components[i]);
+            defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+        }
+        try {
+            constructor = recordClass.getDeclaredConstructor(types);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException("No canonical constructor for " + recordClass.getName(), e);
+        }
+        MethodHandle handle = null;
+        try {
+            handle = MethodHandles.publicLookup().unreflectConstructor(constructor).asSpreader(Object[].class, types.length).asType(CONSTRUCTOR_TYPE);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cannot create method handle for " + constructor + ", falling back to reflection", e);
+            }
+        }
+        constructorHandle = handle;
+    }
+
+    /**
+     * Gets the accessor method of a component.
+     *
+     * @param index The index of the component
+     * @return The accessor method
+     */
+    Method getAccessor(final int index) {
+        return accessors[index];
+    }
+
+    /**
+     * Gets the name of a component.
+     *
+     * @param index The index of the component
+     * @return The name
+     */
+    String getName(final int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the type of a component.
+     *
+     * @param index The index of the component
+     * @return The type
+     */
+    Class<?> getType(final int index) {
+        return types[index];
+    }
+
+    /**
+     * Creates a new record by calling the canonical constructor. The given array holds the values of the components in the order of their declaration;
+     * {@code null} values of primitive components are replaced by the default value of the component type. The array is modified by this method.
+     *
+     * @param values The values of the components
+     * @return The new record
+     * @throws IllegalArgumentException  if a value cannot be assigned to its component
+     * @throws IllegalAccessException    if the canonical constructor is not accessible
+     * @throws InstantiationException    if the record cannot be instantiated
+     * @throws InvocationTargetException if the canonical constructor throws an exception
+     */
+    Object newInstance(final Object[] values) throws IllegalAccessException, InstantiationException, InvocationTargetException {
+        boolean exact = constructorHandle != null;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                values[i] = defaults[i];
+            } else if (!ClassUtils.primitiveToWrapper(types[i]).isInstance(values[i])) {
+                // leave widening conversions and the reporting of mismatches to reflection
+                exact = false;
+            }
+        }
+        if (!exact) {
+            try {
+                return constructor.newInstance(values);
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Cannot create record " + recordClass.getName() + " from values " + Arrays.toString(values), e);
+            }
+        }
+        try {
+            return constructorHandle.invokeExact(values);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Gets the number of components.
+     *
+     * @return The number of components
+     */
+    int size() {
+        return names.length;
+    }
+}
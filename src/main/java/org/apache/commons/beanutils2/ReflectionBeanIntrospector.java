@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * <p>
+ * A {@link BeanIntrospector} implementation which derives the properties of a class directly from its public methods.
+ * </p>
+ * <p>
+ * {@link DefaultBeanIntrospector} relies on {@link Introspector#getBeanInfo(Class)}, which searches for {@code BeanInfo} classes, introspects the whole
+ * class hierarchy and caches its results in a global structure. This class only inspects the methods returned by {@link Class#getMethods()} and applies the
+ * naming rules of the Java Beans specification:
+ * </p>
+ * <ul>
+ * <li>A public non-static method {@code getXxx()} with a result, or {@code isXxx()} returning {@code boolean}, is the read method of property {@code xxx}.
+ * If both exist, {@code isXxx()} is used.</li>
+ * <li>A method {@code void setXxx(T)} is the write method of property {@code xxx} if its parameter type matches the type of the read method. Without a read
+ * method, the setter with the most specific parameter type is used.</li>
+ * <li>Methods {@code getXxx(int)} and {@code void setXxx(int, T)} are the indexed read and write methods of property {@code xxx}. An indexed property is
+ * described by an {@link IndexedPropertyDescriptor}, unless the non-indexed read method does not return an array of the indexed type; then the indexed
+ * methods are ignored.</li>
+ * </ul>
+ * <p>
+ * The property names are derived by {@link Introspector#decapitalize(String)}, and the properties are ordered by name, so that for common bean classes the
+ * result is the same as with {@code DefaultBeanIntrospector}. Differences are possible for classes with explicit {@code BeanInfo} classes, which are
+ * ignored, and for properties declared with type parameters, whose types are not resolved, but erased.
+ * </p>
+ * <p>
+ * To use this class instead of {@code DefaultBeanIntrospector}, pass it to {@link PropertyUtilsBean#resetBeanIntrospectors(BeanIntrospector)}. This class
+ * is a singleton without state; the single instance can be obtained using the {@code INSTANCE} field.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ReflectionBeanIntrospector implements BeanIntrospector {
+
+    /**
+     * The accessor methods found for a single property.
+     */
+    private static final class Accessors {
+
+        /** The method {@code getXxx()}. */
+        private Method getter;
+
+        /** The method {@code isXxx()}. */
+        private Method booleanGetter;
+
+        /** The methods {@code setXxx(T)}. */
+        private final List<Method> setters = new ArrayList<>(1);
+
+        /** The method {@code getXxx(int)}. */
+        private Method indexedGetter;
+
+        /** The methods {@code setXxx(int, T)}. */
+        private final List<Method> indexedSetters = new ArrayList<>(1);
+    }
+
+    /** The singleton instance of this class. */
+    public static final BeanIntrospector INSTANCE = new ReflectionBeanIntrospector();
+
+    /** The prefix of a read method. */
+    private static final String GET_PREFIX = "get";
+
+    /** The prefix of a read method of a boolean property. */
+    private static final String IS_PREFIX = "is";
+
+    /** The prefix of a write method. */
+    private static final String SET_PREFIX = "set";
+
+    /**
+     * Selects the more specific of two methods with the same name and parameter types, as they may be inherited from different interfaces.
+     *
+     * @param current   The method selected so far, may be {@code null}
+     * @param candidate The other method
+     * @return The method whose return type is more specific
+     */
+    private static Method mostSpecific(final Method current, final Method candidate) {
+        return current == null || current.getReturnType().isAssignableFrom(candidate.getReturnType()) ? candidate : current;
+    }
+
+    /**
+     * Selects the write method of a property. If the property has a read method, the parameter type of the write method must match its type. Otherwise, the
+     * setter with the most specific parameter type is selected; if the types are unrelated, the first type in alphabetical order of the type names wins.
+     *
+     * @param setters The candidates
+     * @param type    The required parameter type, {@code null} if the property has no read method
+     * @param index   The index of the parameter holding the value
+     * @return The write method or {@code null} if there is none
+     */
+    private static Method selectSetter(final List<Method> setters, final Class<?> type, final int index) {
+        Method selected = null;
+        for (final Method setter : setters) {
+            final Class<?> parameterType = setter.getParameterTypes()[index];
+            if (type != null) {
+                if (parameterType == type) {
+                    return setter;
+                }
+            } else if (selected == null) {
+                selected = setter;
+            } else {
+                final Class<?> selectedType = selected.getParameterTypes()[index];
+                if (selectedType.isAssignableFrom(parameterType)
+                        || !parameterType.isAssignableFrom(selectedType) && parameterType.getName().compareTo(selectedType.getName()) < 0) {
+                    selected = setter;
+                }
+            }
+        }
+        return selected;
+    }
+
+    /** For logging. Each subclass gets its own log instance. */
+    private final Log log = LogFactory.getLog(getClass());
+
+    /**
+     * Private constructor so that no instances can be created.
+     */
+    private ReflectionBeanIntrospector() {
+    }
+
+    /**
+     * Creates the descriptor of a property from its accessor methods.
+     *
+     * @param name      The name of the property
+     * @param accessors The accessor methods
+     * @return The descriptor or {@code null} if the methods do not describe a property
+     * @throws IntrospectionException if the descriptor cannot be created
+     */
+    private PropertyDescriptor createDescriptor(final String name, final Accessors accessors) throws IntrospectionException {
+        final Method readMethod = accessors.booleanGetter != null ? accessors.booleanGetter : accessors.getter;
+        final Method writeMethod = selectSetter(accessors.setters, readMethod != null ? readMethod.getReturnType() : null, 0);
+        final Class<?> indexedType = accessors.indexedGetter != null ? accessors.indexedGetter.getReturnType() : null;
+        final Method indexedWriteMethod = selectSetter(accessors.indexedSetters, indexedType, 1);
+        if (accessors.indexedGetter == null && indexedWriteMethod == null) {
+            return readMethod != null || writeMethod != null ? new PropertyDescriptor(name, readMethod, writeMethod) : null;
+        }
+        final Class<?> elementType = indexedType != null ? indexedType : indexedWriteMethod.getParameterTypes()[1];
+        final Class<?> type = readMethod != null ? readMethod.getReturnType() : writeMethod != null ? writeMethod.getParameterTypes()[0] : null;
+        if (type != null && type.getComponentType() != elementType) {
+            return new PropertyDescriptor(name, readMethod, writeMethod);
+        }
+        return new IndexedPropertyDescriptor(name, readMethod, writeMethod, accessors.indexedGetter, indexedWriteMethod);
+    }
+
+    /**
+     * Performs introspection of a specific Java class. This implementation collects the accessor methods of the properties from the public methods of the
+     * class and adds a descriptor for each property to the passed in introspection context.
+     *
+     * @param icontext The introspection context
+     */
+    @Override
+    public void introspect(final IntrospectionContext icontext) {
+        final Map<String, Accessors> properties = new TreeMap<>();
+        for (final Method method : icontext.getTargetClass().getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()) {
+                continue;
+            }
+            final String methodName = method.getName();
+            final int parameterCount = method.getParameterCount();
+            final Class<?> returnType = method.getReturnType();
+            if (methodName.startsWith(GET_PREFIX) && methodName.length() > GET_PREFIX.length() && returnType != Void.TYPE) {
+                if (parameterCount == 0) {
+                    final Accessors accessors = properties.computeIfAbsent(propertyName(methodName, GET_PREFIX), k -> new Accessors());
+                    accessors.getter = mostSpecific(accessors.getter, method);
+                } else if (parameterCount == 1 && method.getParameterTypes()[0] == Integer.TYPE) {
+                    final Accessors accessors = properties.computeIfAbsent(propertyName(methodName, GET_PREFIX), k -> new Accessors());
+                    accessors.indexedGetter = mostSpecific(accessors.indexedGetter, method);
+                }
+            } else if (methodName.startsWith(IS_PREFIX) && methodName.length() > IS_PREFIX.length() && returnType == Boolean.TYPE && parameterCount == 0) {
+                properties.computeIfAbsent(propertyName(methodName, IS_PREFIX), k -> new Accessors()).booleanGetter = method;
+            } else if (methodName.startsWith(SET_PREFIX) && methodName.length() > SET_PREFIX.length() && returnType == Void.TYPE) {
+                if (parameterCount == 1) {
+                    properties.computeIfAbsent(propertyName(methodName, SET_PREFIX), k -> new Accessors()).setters.add(method);
+                } else if (parameterCount == 2 && method.getParameterTypes()[0] == Integer.TYPE) {
+                    properties.computeIfAbsent(propertyName(methodName, SET_PREFIX), k -> new Accessors()).indexedSetters.add(method);
+                }
+            }
+        }
+        for (final Map.Entry<String, Accessors> entry : properties.entrySet()) {
+            try {
+                final PropertyDescriptor descriptor = createDescriptor(entry.getKey(), entry.getValue());
+                if (descriptor != null) {
+                    icontext.addPropertyDescriptor(descriptor);
+                }
+            } catch (final IntrospectionException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Ignoring property " + entry.getKey() + " of " + icontext.getTargetClass(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Derives the name of a property from the name of an accessor method.
+     *
+     * @param methodName The name of the method
+     * @param prefix     The prefix of the method name
+     * @return The name of the property
+     */
+    private String propertyName(final String methodName, final String prefix) {
+        return Introspector.decapitalize(methodName.substring(prefix.length()));
+    }
+}
@@ -39,63 +39,12 @@ import java.util.Objects;
 public class WrapDynaClass implements DynaClass {
 
     /**
-     * A class representing the combined key for the cache of {@code WrapDynaClass} instances. A single key consists of a bean class and an instance of
-     * {@code PropertyUtilsBean}. Instances are immutable.
-     */
-    private static final class CacheKey {
-
-        /** The bean class. */
-        private final Class<?> beanClass;
-
-        /** The instance of PropertyUtilsBean. */
-        private final PropertyUtilsBean propUtils;
-
-        /**
-         * Creates a new instance of {@code CacheKey}.
-         *
-         * @param beanCls The bean class
-         * @param pu      The instance of {@code PropertyUtilsBean}
-         */
-        public CacheKey(final Class<?> beanCls, final PropertyUtilsBean pu) {
-            beanClass = beanCls;
-            propUtils = pu;
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (!(obj instanceof CacheKey)) {
-                return false;
-            }
-
-            final CacheKey c = (CacheKey) obj;
-            return beanClass.equals(c.beanClass) && propUtils.equals(c.propUtils);
-        }
-
-        @Override
-        public int hashCode() {
-            final int factor = 31;
-            int result = 17;
-            result = factor * beanClass.hashCode() + result;
-            result = factor * propUtils.hashCode() + result;
-            return result;
-        }
-    }
-
-    private static final ContextClassLoaderLocal<Map<CacheKey, WrapDynaClass>> CLASSLOADER_CACHE = new ContextClassLoaderLocal<Map<CacheKey, WrapDynaClass>>() {
-        @Override
-        protected Map<CacheKey, WrapDynaClass> initialValue() {
-            return BeanUtils.createCache();
-        }
-    };
-
-    /**
-     * Clear our cache of WrapDynaClass instances.
+     * Clear our cache of WrapDynaClass instances. The instances are cached by the {@code PropertyUtilsBean} used for introspection; this method clears the
+     * instances of the default {@code PropertyUtilsBean} of the current context class loader (see {@link PropertyUtilsBean#getInstance()}). Instances created
+     * with another {@code PropertyUtilsBean} are cleared by its {@link PropertyUtilsBean#clearDescriptors()} method and released together with it.
      */
     public static void clear() {
-        getClassesCache().clear();
+        PropertyUtilsBean.getInstance().clearDynaClasses();
     }
 
     /**
@@ -120,18 +69,7 @@ public class WrapDynaClass implements DynaClass {
      */
     public static WrapDynaClass createDynaClass(final Class<?> beanClass, final PropertyUtilsBean pu) {
         final PropertyUtilsBean propUtils = pu != null ? pu : PropertyUtilsBean.getInstance();
-        final CacheKey key = new CacheKey(beanClass, propUtils);
-        return getClassesCache().computeIfAbsent(key, k -> new WrapDynaClass(beanClass, propUtils));
-    }
-
-    /**
-     * Returns the cache for the already created class instances. For each combination of bean class and {@code PropertyUtilsBean} instance an entry is created
-     * in the cache.
-     *
-     * @return The cache for already created {@code WrapDynaClass} instances
-     */
-    private static Map<CacheKey, WrapDynaClass> getClassesCache() {
-        return CLASSLOADER_CACHE.get();
+        return propUtils.getWrapDynaClass(beanClass);
     }
 
     /**
@@ -165,13 +103,13 @@ public class WrapDynaClass implements DynaClass {
     protected HashMap<String, DynaProperty> propertiesMap = new HashMap<>();
 
     /**
-     * Constructs a new WrapDynaClass for the specified JavaBean class. This constructor is private; WrapDynaClass instances will be created as needed via calls
-     * to the {@code createDynaClass(Class)} method.
+     * Constructs a new WrapDynaClass for the specified JavaBean class. This constructor is package-private; WrapDynaClass instances will be created as needed
+     * via calls to the {@code createDynaClass(Class)} method.
      *
      * @param beanClass JavaBean class to be introspected around
      * @param propUtils The {@code PropertyUtilsBean} associated with this class
      */
-    private WrapDynaClass(final Class<?> beanClass, final PropertyUtilsBean propUtils) {
+    WrapDynaClass(final Class<?> beanClass, final PropertyUtilsBean propUtils) {
         this.beanClassRef = new SoftReference<>(beanClass);
         this.beanClassName = beanClass.getName();
         this.propertyUtilsBean = propUtils;
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A property name expression which has been parsed by a {@link Resolver}.
+ * <p>
+ * A {@code PropertyPath} stores the result of splitting an expression like {@code order.lines[3].sku} into its segments (here {@code order},
+ * {@code lines[3]} and {@code sku}) together with the property names, indexes and keys of these segments. It is immutable and can therefore be reused to
+ * access the same property on many beans without parsing the expression again.
+ * </p>
+ * <p>
+ * Parsing an expression never fails. If the {@link Resolver} rejects the index or the key of a segment, this segment is marked as not {@link Segment#isValid()
+ * valid}; the error is reported when the segment is actually evaluated, exactly as if the expression was passed as a string.
+ * </p>
+ *
+ * @see Resolver
+ * @since 2.0.0
+ */
+public final class PropertyPath {
+
+    /**
+     * A single segment of a {@link PropertyPath}, that is a simple, indexed or mapped property reference without nesting.
+     */
+    public static final class Segment {
+
+        /** The expression of this segment. */
+        private final String expression;
+
+        /** The expression starting with this segment up to the end of the path. */
+        private final String remainder;
+
+        /** The property name. */
+        private final String name;
+
+        /** The index or -1. */
+        private final int index;
+
+        /** The key or {@code null}. */
+        private final String key;
+
+        /** Whether the segment is indexed. */
+        private final boolean indexed;
+
+        /** Whether the segment is mapped. */
+        private final boolean mapped;
+
+        /** Whether the index and the key could be parsed. */
+        private final boolean valid;
+
+        /**
+         * Creates a new segment by parsing the given expression.
+         *
+         * @param resolver   The resolver
+         * @param expression The expression of the segment
+         * @param remainder  The expression starting with this segment
+         */
+        private Segment(final Resolver resolver, final String expression, final String remainder) {
+            this.expression = expression;
+            this.remainder = remainder;
+            this.name = resolver.getProperty(expression);
+            this.indexed = resolver.isIndexed(expression);
+            this.mapped = resolver.isMapped(expression);
+            int idx = -1;
+            String k = null;
+            boolean ok = true;
+            try {
+                idx = resolver.getIndex(expression);
+                k = resolver.getKey(expression);
+            } catch (final IllegalArgumentException e) {
+                idx = -1;
+                k = null;
+                ok = false;
+            }
+            this.index = idx;
+            this.key = k;
+            this.valid = ok;
+        }
+
+        /**
+         * Gets the expression of this segment, for instance {@code lines[3]}.
+         *
+         * @return The expression of this segment
+         */
+        public String getExpression() {
+            return expression;
+        }
+
+        /**
+         * Gets the index of this segment.
+         *
+         * @return The index or -1 if the segment is not indexed or not valid
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the key of this segment.
+         *
+         * @return The key or {@code null} if the segment is not mapped or not valid
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the name of the property referenced by this segment, for instance {@code lines} for {@code lines[3]}.
+         *
+         * @return The property name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the part of the path expression which starts with this segment, for instance {@code lines[3].sku} for the second segment of
+         * {@code order.lines[3].sku}.
+         *
+         * @return The expression starting with this segment
+         */
+        public String getRemainder() {
+            return remainder;
+        }
+
+        /**
+         * Tests whether this segment is an indexed property reference.
+         *
+         * @return {@code true} if this segment is indexed
+         */
+        public boolean isIndexed() {
+            return indexed;
+        }
+
+        /**
+         * Tests whether this segment is a mapped property reference.
+         *
+         * @return {@code true} if this segment is mapped
+         */
+        public boolean isMapped() {
+            return mapped;
+        }
+
+        /**
+         * Tests whether the index and the key of this segment could be parsed.
+         *
+         * @return {@code false} if the resolver rejected the index or the key of this segment
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+    }
+
+    /**
+     * Parses the given expression using the given {@link Resolver}.
+     *
+     * @param expression The property name expression
+     * @param resolver   The resolver which defines the syntax of the expression
+     * @return The parsed path
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public static PropertyPath parse(final String expression, final Resolver resolver) {
+        Objects.requireNonNull(expression, "expression");
+        Objects.requireNonNull(resolver, "resolver");
+        final List<Segment> segments = new ArrayList<>();
+        String rest = expression;
+        while (resolver.hasNested(rest)) {
+            segments.add(new Segment(resolver, resolver.next(rest), rest));
+            rest = resolver.remove(rest);
+        }
+        segments.add(new Segment(resolver, rest, rest));
+        return new PropertyPath(expression, segments.toArray(new Segment[0]));
+    }
+
+    /** The original expression. */
+    private final String expression;
+
+    /** The segments of this path. */
+    private final Segment[] segments;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param expression The original expression
+     * @param segments   The segments
+     */
+    private PropertyPath(final String expression, final Segment[] segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * Gets the expression this path has been parsed from.
+     *
+     * @return The expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Gets the last segment of this path, that is the one referencing the property to be accessed.
+     *
+     * @return The last segment
+     */
+    public Segment getLastSegment() {
+        return segments[segments.length - 1];
+    }
+
+    /**
+     * Gets the segment at the given position.
+     *
+     * @param index The index of the segment
+     * @return The segment
+     * @throws ArrayIndexOutOfBoundsException if the index is invalid
+     */
+    public Segment getSegment(final int index) {
+        return segments[index];
+    }
+
+    /**
+     * Gets the number of segments of this path. This is always at least one.
+     *
+     * @return The number of segments
+     */
+    public int size() {
+        return segments.length;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
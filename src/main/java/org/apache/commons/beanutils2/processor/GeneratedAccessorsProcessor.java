@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2.processor;
+
+import java.beans.Introspector;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.apache.commons.beanutils2.BeanAccessors;
+import org.apache.commons.beanutils2.GeneratedAccessors;
+
+/**
+ * <p>
+ * An annotation processor which generates {@link BeanAccessors} for the classes annotated with {@link GeneratedAccessors}.
+ * </p>
+ * <p>
+ * For each annotated class, a class named {@code <BeanClass>_BeanAccessors} is generated in the same package; for nested classes, the names of the
+ * enclosing classes are prepended, separated by underscores. The generated classes are listed in
+ * {@code META-INF/services/org.apache.commons.beanutils2.BeanAccessors}, so that they are found at runtime.
+ * </p>
+ * <p>
+ * The properties are determined like {@link Introspector} determines them for a class without {@code BeanInfo}: public non-static methods named
+ * {@code getXxx()} or {@code isXxx()} (returning {@code boolean}) read a property, public non-static methods named {@code setXxx()} with a single parameter
+ * write it. Classes for which the outcome of {@code Introspector} cannot be predicted reliably are reported by a warning, and no accessors are generated for
+ * them. This is the case for classes which are not public, which have indexed accessor methods, setter methods whose parameter type differs from the type of
+ * the getter method, overloaded setter methods, or accessor methods only declared by interfaces.
+ * </p>
+ * <p>
+ * This processor is not registered for automatic discovery. It has to be enabled explicitly, for instance with the {@code javac} option
+ * {@code -processor org.apache.commons.beanutils2.processor.GeneratedAccessorsProcessor}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@SupportedAnnotationTypes("org.apache.commons.beanutils2.GeneratedAccessors")
+public class GeneratedAccessorsProcessor extends AbstractProcessor {
+
+    /**
+     * The accessor methods of a single property.
+     */
+    private static final class Property {
+
+        /** The read method, {@code null} if there is none. */
+        private ExecutableElement readMethod;
+
+        /** The write methods. */
+        private final List<ExecutableElement> writeMethods = new ArrayList<>();
+    }
+
+    /** The suffix of the names of the generated classes. */
+    static final String SUFFIX = "_BeanAccessors";
+
+    /** The name of the service provider configuration file. */
+    private static final String SERVICE_FILE = "META-INF/services/" + BeanAccessors.class.getName();
+
+    /**
+     * Quotes a string as a Java string literal.
+     *
+     * @param value The string, may be {@code null}
+     * @return The literal
+     */
+    private static String literal(final String value) {
+        return value != null ? "\"" + value + "\"" : "null";
+    }
+
+    /** The binary names of the classes generated so far. */
+    private final Set<String> providers = new TreeSet<>();
+
+    /**
+     * Determines the properties of a bean class.
+     *
+     * @param type The bean class
+     * @return The properties by name or {@code null} if accessors cannot be generated for this class
+     */
+    private Map<String, Property> collectProperties(final TypeElement type) {
+        final Map<String, Property> properties = new TreeMap<>();
+        for (final Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+            if (member.getKind() != ElementKind.METHOD || !member.getModifiers().contains(Modifier.PUBLIC) || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            final ExecutableElement method = (ExecutableElement) member;
+            final String name = method.getSimpleName().toString();
+            final int parameters = method.getParameters().size();
+            final TypeMirror returnType = method.getReturnType();
+            final String prefix;
+            if (parameters == 0 && name.startsWith("get") && returnType.getKind() != TypeKind.VOID) {
+                prefix = "get";
+            } else if (parameters == 0 && name.startsWith("is") && returnType.getKind() == TypeKind.BOOLEAN) {
+                prefix = "is";
+            } else if (parameters == 1 && name.startsWith("set") && returnType.getKind() == TypeKind.VOID) {
+                prefix = "set";
+            } else if (isIndexedAccessor(method, name)) {
+                return unsupported(type, "it has the indexed accessor method " + method);
+            } else {
+                continue;
+            }
+            if (name.length() == prefix.length()) {
+                continue;
+            }
+            if (method.getEnclosingElement().getKind() == ElementKind.INTERFACE) {
+                return unsupported(type, "the accessor method " + method + " is declared by an interface");
+            }
+            final Property property = properties.computeIfAbsent(Introspector.decapitalize(name.substring(prefix.length())), k -> new Property());
+            if ("set".equals(prefix)) {
+                property.writeMethods.add(method);
+            } else if (property.readMethod == null || "is".equals(prefix)) {
+                // isXxx() takes precedence over getXxx()
+                property.readMethod = method;
+            }
+        }
+        for (final Property property : properties.values()) {
+            if (property.writeMethods.size() > 1) {
+                return unsupported(type, "it has the overloaded setter methods " + property.writeMethods);
+            }
+            if (property.readMethod != null && !property.writeMethods.isEmpty()
+                    && !isSameType(property.readMethod.getReturnType(), property.writeMethods.get(0).getParameters().get(0).asType())) {
+                return unsupported(type, "the types of " + property.readMethod + " and " + property.writeMethods.get(0) + " differ");
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Generates the source file of the accessors of a bean class.
+     *
+     * @param type       The bean class
+     * @param properties The properties of the bean class
+     * @throws IOException if the file cannot be written
+     */
+    private void generate(final TypeElement type, final Map<String, Property> properties) throws IOException {
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + SUFFIX;
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        final String beanType = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+        final List<String> names = new ArrayList<>(properties.keySet());
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * The accessors of {@link ").append(beanType).append("}, generated by {@code ").append(getClass().getName()).append("}.\n */\n");
+        source.append("@java.lang.SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(BeanAccessors.class.getName()).append(" {\n\n");
+        final StringBuilder namesArray = new StringBuilder();
+        final StringBuilder typesArray = new StringBuilder();
+        final StringBuilder readArray = new StringBuilder();
+        final StringBuilder writeArray = new StringBuilder();
+        final StringBuilder reads = new StringBuilder();
+        final StringBuilder writes = new StringBuilder();
+        for (int i = 0; i < names.size(); i++) {
+            final Property property = properties.get(names.get(i));
+            final ExecutableElement writeMethod = property.writeMethods.isEmpty() ? null : property.writeMethods.get(0);
+            final TypeMirror propertyType = processingEnv.getTypeUtils()
+                    .erasure(property.readMethod != null ? property.readMethod.getReturnType() : writeMethod.getParameters().get(0).asType());
+            final String separator = i > 0 ? ", " : "";
+            namesArray.append(separator).append(literal(names.get(i)));
+            typesArray.append(separator).append(propertyType).append(".class");
+            readArray.append(separator).append(literal(property.readMethod != null ? property.readMethod.getSimpleName().toString() : null));
+            writeArray.append(separator).append(literal(writeMethod != null ? writeMethod.getSimpleName().toString() : null));
+            if (property.readMethod != null) {
+                reads.append("        case ").append(i).append(":\n            return b.").append(property.readMethod.getSimpleName()).append("();\n");
+            }
+            if (writeMethod != null) {
+                final String valueType = propertyType.getKind().isPrimitive()
+                        ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) propertyType).getQualifiedName().toString()
+                        : propertyType.toString();
+                writes.append("        case ").append(i).append(":\n            b.").append(writeMethod.getSimpleName()).append("((").append(valueType)
+                        .append(") value);\n            return;\n");
+            }
+        }
+        source.append("    private static final java.lang.String[] NAMES = { ").append(namesArray).append(" };\n\n");
+        source.append("    private static final java.lang.Class<?>[] TYPES = { ").append(typesArray).append(" };\n\n");
+        source.append("    private static final java.lang.String[] READ_METHODS = { ").append(readArray).append(" };\n\n");
+        source.append("    private static final java.lang.String[] WRITE_METHODS = { ").append(writeArray).append(" };\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public java.lang.Class<?> getBeanClass() {\n        return ").append(beanType).append(".class;\n    }\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public int getPropertyCount() {\n        return NAMES.length;\n    }\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public java.lang.String getPropertyName(final int index) {\n        return NAMES[index];\n    }\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public java.lang.Class<?> getPropertyType(final int index) {\n        return TYPES[index];\n    }\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public java.lang.String getReadMethodName(final int index) {\n        return READ_METHODS[index];\n    }\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public java.lang.String getWriteMethodName(final int index) {\n        return WRITE_METHODS[index];\n    }\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public java.lang.Object read(final java.lang.Object bean, final int index) throws java.lang.Exception {\n");
+        source.append("        final ").append(beanType).append(" b = (").append(beanType).append(") bean;\n        switch (index) {\n").append(reads);
+        source.append("        default:\n            throw new java.lang.IllegalArgumentException(\"Property \" + index + \" cannot be read\");\n");
+        source.append("        }\n    }\n\n");
+        source.append("    @java.lang.Override\n");
+        source.append("    public void write(final java.lang.Object bean, final int index, final java.lang.Object value) throws java.lang.Exception {\n");
+        source.append("        final ").append(beanType).append(" b = (").append(beanType).append(") bean;\n        switch (index) {\n").append(writes);
+        source.append("        default:\n            throw new java.lang.IllegalArgumentException(\"Property \" + index + \" cannot be written\");\n");
+        source.append("        }\n    }\n}\n");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+        providers.add(qualifiedName);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Tests whether a class and the classes enclosing it are public, so that the generated accessors and {@code PropertyUtilsBean} can access it.
+     *
+     * @param type The class
+     * @return {@code true} if the class is accessible
+     */
+    private boolean isAccessible(final TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final TypeElement typeElement = (TypeElement) element;
+            if (!typeElement.getModifiers().contains(Modifier.PUBLIC)
+                    || typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)
+                            && typeElement != type) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether a method is an indexed getter or setter method.
+     *
+     * @param method The method
+     * @param name   The name of the method
+     * @return {@code true} if the method reads or writes an indexed property
+     */
+    private boolean isIndexedAccessor(final ExecutableElement method, final String name) {
+        final int parameters = method.getParameters().size();
+        if (parameters == 0 || method.getParameters().get(0).asType().getKind() != TypeKind.INT) {
+            return false;
+        }
+        return parameters == 1 && name.startsWith("get") && method.getReturnType().getKind() != TypeKind.VOID
+                || parameters == 2 && name.startsWith("set") && method.getReturnType().getKind() == TypeKind.VOID;
+    }
+
+    /**
+     * Tests whether two types have the same erasure.
+     *
+     * @param type1 The first type
+     * @param type2 The second type
+     * @return {@code true} if the erasures of the types are the same
+     */
+    private boolean isSameType(final TypeMirror type1, final TypeMirror type2) {
+        return processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(type1), processingEnv.getTypeUtils().erasure(type2));
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(GeneratedAccessors.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@GeneratedAccessors can only be applied to classes", element);
+                continue;
+            }
+            final TypeElement type = (TypeElement) element;
+            if (!isAccessible(type)) {
+                unsupported(type, "it is not public");
+                continue;
+            }
+            final Map<String, Property> properties = collectProperties(type);
+            if (properties != null) {
+                try {
+                    generate(type, properties);
+                } catch (final IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate the accessors of " + type + ": " + e, type);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !providers.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    /**
+     * Reports a class for which no accessors can be generated.
+     *
+     * @param type   The class
+     * @param reason The reason
+     * @return {@code null}
+     */
+    private Map<String, Property> unsupported(final TypeElement type, final String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "No accessors are generated for " + type + " because " + reason + ", it is introspected at runtime", type);
+        return null;
+    }
+
+    /**
+     * Writes the service provider configuration file listing the generated classes, keeping the entries of an existing file.
+     */
+    private void writeServiceFile() {
+        final Set<String> entries = new TreeSet<>(providers);
+        try {
+            final FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (!line.trim().isEmpty() && !line.trim().startsWith("#")) {
+                        entries.add(line.trim());
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            // no existing file
+        }
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (final String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + SERVICE_FILE + ": " + e);
+        }
+    }
+}
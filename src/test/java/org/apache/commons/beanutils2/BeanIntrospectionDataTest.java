@@ -19,7 +19,9 @@ package org.apache.commons.beanutils2;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.beans.IndexedPropertyDescriptor;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.util.HashMap;
@@ -69,6 +71,116 @@ class BeanIntrospectionDataTest {
         return new BeanIntrospectionData(fetchDescriptors());
     }
 
+    /**
+     * Tests whether accessible methods are resolved once and then served from the cache.
+     */
+    @Test
+    void testGetAccessibleMethodCached() throws Exception {
+        final BeanIntrospectionData data = setUpData();
+        final PropertyDescriptor pd = fetchTestDescriptor(data);
+        final Method accessible = data.getAccessibleMethod(BEAN_CLASS, pd, data.getReadMethod(pd));
+        assertNotNull(accessible, "No accessible method");
+        assertSame(accessible, data.getAccessibleMethod(BEAN_CLASS, pd, data.getReadMethod(pd)), "Method not cached");
+        assertNull(data.getAccessibleMethod(BEAN_CLASS, pd, null), "Got a method for null");
+    }
+
+    /**
+     * Tests that accessible methods are resolved for descriptors not managed by the data object as well.
+     */
+    @Test
+    void testGetAccessibleMethodForeignDescriptor() throws Exception {
+        final BeanIntrospectionData data = setUpData();
+        final PropertyDescriptor pd = new PropertyDescriptor(TEST_PROP, BEAN_CLASS, "getFluentGetProperty", null);
+        assertEquals(pd.getReadMethod(), data.getAccessibleMethod(BEAN_CLASS, pd, pd.getReadMethod()));
+    }
+
+    /**
+     * Tests whether descriptors can be found by name if there are many of them.
+     */
+    @Test
+    void testGetDescriptorMany() throws Exception {
+        final PropertyDescriptor[] descs = new PropertyDescriptor[150];
+        for (int i = 0; i < descs.length; i++) {
+            descs[i] = new PropertyDescriptor("property" + i, null, null);
+        }
+        final BeanIntrospectionData data = new BeanIntrospectionData(descs);
+        for (final PropertyDescriptor pd : descs) {
+            assertSame(pd, data.getDescriptor(pd.getName()));
+        }
+        assertNull(data.getDescriptor("property150"));
+        assertNull(data.getDescriptor(""));
+        assertNull(new BeanIntrospectionData(new PropertyDescriptor[0]).getDescriptor("property0"));
+    }
+
+    /**
+     * Tests whether the first descriptor is returned if there are multiple ones with the same name.
+     */
+    @Test
+    void testGetDescriptorDuplicateName() throws Exception {
+        final PropertyDescriptor pd1 = new PropertyDescriptor(TEST_PROP, null, null);
+        final PropertyDescriptor pd2 = new PropertyDescriptor(TEST_PROP, null, null);
+        final BeanIntrospectionData data = new BeanIntrospectionData(new PropertyDescriptor[] { pd1, pd2 });
+        assertSame(pd1, data.getDescriptor(TEST_PROP));
+    }
+
+    /**
+     * Tests that in pinned mode all accessor methods are kept even if the references in the descriptors are freed before they have been used.
+     */
+    @Test
+    void testPinnedMethods() throws Exception {
+        final PropertyDescriptor simple = new PropertyDescriptor("stringProperty", TestBean.class);
+        final IndexedPropertyDescriptor indexed = new IndexedPropertyDescriptor("intIndexed", TestBean.class, null, null, "getIntIndexed", "setIntIndexed");
+        final Method writeMethod = simple.getWriteMethod();
+        final Method indexedReadMethod = indexed.getIndexedReadMethod();
+        final Method indexedWriteMethod = indexed.getIndexedWriteMethod();
+        final BeanIntrospectionData pinned = new BeanIntrospectionData(TestBean.class, new PropertyDescriptor[] { simple, indexed }, true);
+        final BeanIntrospectionData unpinned = new BeanIntrospectionData(TestBean.class, new PropertyDescriptor[] { simple, indexed }, false);
+        simple.setWriteMethod(null);
+        indexed.setIndexedWriteMethod(null);
+        indexed.setIndexedReadMethod(null);
+        assertSame(writeMethod, pinned.getWriteMethod(TestBean.class, simple));
+        assertSame(indexedReadMethod, pinned.getIndexedReadMethod(indexed));
+        assertSame(indexedWriteMethod, pinned.getIndexedWriteMethod(indexed));
+        assertNull(unpinned.getIndexedReadMethod(indexed));
+        assertNull(unpinned.getIndexedWriteMethod(indexed));
+        final IndexedPropertyDescriptor foreign = new IndexedPropertyDescriptor("intIndexed", TestBean.class, null, null, "getIntIndexed", "setIntIndexed");
+        assertEquals(indexedReadMethod, pinned.getIndexedReadMethod(foreign));
+    }
+
+    /**
+     * Tests whether the read method is still available if the reference in the descriptor has been freed.
+     */
+    @Test
+    void testGetReadMethodStrong() throws Exception {
+        final BeanIntrospectionData data = setUpData();
+        final PropertyDescriptor pd = fetchTestDescriptor(data);
+        final Method readMethod = pd.getReadMethod();
+        pd.setReadMethod(null);
+        assertEquals(readMethod, data.getReadMethod(pd), "Wrong read method");
+    }
+
+    /**
+     * Tests whether the read method of a descriptor not managed by the data object is obtained from the descriptor.
+     */
+    @Test
+    void testGetReadMethodForeignDescriptor() throws Exception {
+        final BeanIntrospectionData data = setUpData();
+        final PropertyDescriptor pd = new PropertyDescriptor(TEST_PROP, BEAN_CLASS.getMethod("getFluentGetProperty"), null);
+        assertEquals(pd.getReadMethod(), data.getReadMethod(pd));
+    }
+
+    /**
+     * Tests whether a write method that has been resolved once is kept even if the reference in the descriptor is freed again.
+     */
+    @Test
+    void testGetWriteMethodStrong() throws Exception {
+        final BeanIntrospectionData data = setUpData();
+        final PropertyDescriptor pd = fetchTestDescriptor(data);
+        final Method writeMethod = data.getWriteMethod(BEAN_CLASS, pd);
+        pd.setWriteMethod(null);
+        assertSame(writeMethod, data.getWriteMethod(BEAN_CLASS, pd), "Wrong write method");
+    }
+
     /**
      * Tests whether a write method can be queried if it is defined in the descriptor.
      */
@@ -17,15 +17,23 @@
 
 package org.apache.commons.beanutils2;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -59,6 +67,80 @@ import org.junit.jupiter.api.Test;
  */
 class BeanUtilsBeanTest {
 
+    /**
+     * A bean whose properties are copied to a {@link ConversionTarget}.
+     */
+    public static class ConversionSource {
+
+        private final int count = 3;
+        private String name = "source";
+        private final String number = "5";
+        private final Integer boxed = Integer.valueOf(7);
+
+        public Integer getBoxed() {
+            return boxed;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * A bean whose properties have different types than the ones of {@link ConversionSource}.
+     */
+    public static class ConversionTarget {
+
+        private long count;
+        private String name;
+        private int number;
+        private int boxed;
+
+        public int getBoxed() {
+            return boxed;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setBoxed(final int boxed) {
+            this.boxed = boxed;
+        }
+
+        public void setCount(final long count) {
+            this.count = count;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public void setNumber(final int number) {
+            this.number = number;
+        }
+    }
+
     /**
      * The test bean for each test.
      */
@@ -174,6 +256,81 @@ class BeanUtilsBeanTest {
         }
     }
 
+    /**
+     * Tests the conversions determined for copying properties between beans of different classes.
+     */
+    @Test
+    void testCopyPropertiesConversionPlan() throws Exception {
+        final BeanUtilsBean beanUtils = new BeanUtilsBean();
+        final ConversionTarget dest = new ConversionTarget();
+        beanUtils.copyProperties(dest, new ConversionSource());
+        assertEquals(3L, dest.getCount());
+        assertEquals("source", dest.getName());
+        assertEquals(5, dest.getNumber());
+        assertEquals(7, dest.getBoxed());
+
+        final ConversionPlan plan = beanUtils.getPropertyUtils().getCopyPlan(ConversionTarget.class, ConversionSource.class).getConversionPlan();
+        assertNotNull(plan);
+        final Map<String, ConversionPlan.Conversion> conversions = new HashMap<>();
+        for (int i = 0; i < plan.size(); i++) {
+            conversions.put(plan.getCopyPlan().getName(i), plan.getConversion(i));
+        }
+        assertEquals(ConversionPlan.Conversion.WIDENING, conversions.get("count"));
+        assertEquals(ConversionPlan.Conversion.NONE, conversions.get("name"));
+        assertEquals(ConversionPlan.Conversion.CONVERTER, conversions.get("number"));
+        assertEquals(ConversionPlan.Conversion.NONE, conversions.get("boxed"));
+
+        final ConversionSource orig = new ConversionSource();
+        orig.setName(null);
+        beanUtils.copyProperties(dest, orig);
+        assertNull(dest.getName());
+        assertSame(plan, beanUtils.getPropertyUtils().getCopyPlan(ConversionTarget.class, ConversionSource.class).getConversionPlan());
+    }
+
+    /**
+     * Tests creating conversion plans in advance.
+     */
+    @Test
+    void testCopyPropertiesPrewarm() throws Exception {
+        final BeanUtilsBean beanUtils = new BeanUtilsBean();
+        beanUtils.prewarm(Arrays.asList(ConversionSource.class, ConversionTarget.class), null).get();
+        beanUtils.prewarmCopy(ConversionTarget.class, Collections.singletonList(ConversionSource.class), null).get();
+        final ConversionPlan plan = beanUtils.getPropertyUtils().getCopyPlan(ConversionTarget.class, ConversionSource.class).getConversionPlan();
+        assertNotNull(plan);
+        final ConversionTarget dest = new ConversionTarget();
+        beanUtils.copyProperties(dest, new ConversionSource());
+        assertEquals(5, dest.getNumber());
+        assertSame(plan, beanUtils.getPropertyUtils().getCopyPlan(ConversionTarget.class, ConversionSource.class).getConversionPlan());
+    }
+
+    /**
+     * Tests that conversion plans take converters into account which are registered or deregistered after they have been created.
+     */
+    @Test
+    void testCopyPropertiesConverterChanged() throws Exception {
+        final BeanUtilsBean beanUtils = new BeanUtilsBean();
+        final ConversionTarget dest = new ConversionTarget();
+        beanUtils.copyProperties(dest, new ConversionSource());
+        assertEquals(5, dest.getNumber());
+
+        beanUtils.getConvertUtils().register(new Converter<Integer>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <R> R convert(final Class<R> type, final Object value) {
+                return (R) Integer.valueOf(42);
+            }
+        }, Integer.TYPE);
+        beanUtils.copyProperties(dest, new ConversionSource());
+        assertEquals(42, dest.getNumber());
+        assertEquals(42, dest.getBoxed());
+        assertEquals(3L, dest.getCount());
+
+        beanUtils.getConvertUtils().deregister();
+        beanUtils.copyProperties(dest, new ConversionSource());
+        assertEquals(5, dest.getNumber());
+        assertEquals(7, dest.getBoxed());
+    }
+
     /**
      * Test the copyProperties() method from a DynaBean.
      */
@@ -903,6 +1060,61 @@ class BeanUtilsBeanTest {
         assertEquals("New writeOnlyProperty value", bean.getNested().getWriteOnlyPropertyValue(), "writeOnlyProperty is \"New writeOnlyProperty value\"");
     }
 
+    /**
+     * Tests populating beans using cached populate plans.
+     */
+    @Test
+    void testPopulatePlans() throws Exception {
+        final BeanUtilsBean beanUtils = new BeanUtilsBean();
+        assertFalse(beanUtils.isCachePopulatePlans());
+        beanUtils.setCachePopulatePlans(true);
+        assertTrue(beanUtils.isCachePopulatePlans());
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("booleanProperty", "false");
+        map.put("intProperty", new String[] { "543" });
+        map.put("longProperty", "");
+        map.put("nullProperty", null);
+        map.put("stringProperty", "populated");
+        map.put("readOnlyProperty", "ignored");
+        map.put("nested.stringProperty", "nested");
+        map.put("stringArray", "single");
+        map.put("unknown", "ignored");
+        map.put(null, "ignored");
+        final List<Map.Entry<String, Object>> entries = new ArrayList<>(map.entrySet());
+        Collections.reverse(entries);
+        final Map<String, Object> reversed = new LinkedHashMap<>();
+        entries.forEach(e -> reversed.put(e.getKey(), e.getValue()));
+
+        for (final Map<String, Object> properties : Arrays.asList(map, map, reversed)) {
+            final TestBean target = new TestBean();
+            target.setNullProperty("Non-null value");
+            beanUtils.populate(target, properties);
+            assertFalse(target.getBooleanProperty());
+            assertEquals(543, target.getIntProperty());
+            assertEquals(0, target.getLongProperty());
+            assertNull(target.getNullProperty());
+            assertEquals("populated", target.getStringProperty());
+            assertEquals("Read Only String Property", target.getReadOnlyProperty());
+            assertEquals("nested", target.getNested().getStringProperty());
+            assertArrayEquals(new String[] { "single" }, target.getStringArray());
+        }
+
+        beanUtils.getConvertUtils().register(new Converter<Integer>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <R> R convert(final Class<R> type, final Object value) {
+                return (R) Integer.valueOf(42);
+            }
+        }, Integer.TYPE);
+        final TestBean target = new TestBean();
+        beanUtils.populate(target, map);
+        assertEquals(42, target.getIntProperty());
+
+        beanUtils.setCachePopulatePlans(false);
+        assertFalse(beanUtils.isCachePopulatePlans());
+    }
+
     /**
      * Test populate() method on scalar properties.
      */
@@ -22,11 +22,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.AfterEach;
@@ -272,6 +279,59 @@ class BeanificationTest {
         assertEquals(new Integer(1789), signal.getMarkerObject(), "Second thread gets value it set");
     }
 
+    /**
+     * Tests that the initial value is created only once if many threads access a ContextClassLoaderLocal concurrently.
+     */
+    @Test
+    void testContextClassLoaderLocalConcurrentInitialization() throws Exception {
+        final AtomicInteger initializations = new AtomicInteger();
+        final ContextClassLoaderLocal<Object> ccll = new ContextClassLoaderLocal<Object>() {
+            @Override
+            protected Object initialValue() {
+                initializations.incrementAndGet();
+                return new Object();
+            }
+        };
+        final int threads = 8;
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = pool.submit(() -> {
+                    barrier.await();
+                    return ccll.get();
+                });
+            }
+            final Object value = futures[0].get();
+            for (final Future<?> future : futures) {
+                assertSame(value, future.get());
+            }
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertEquals(1, initializations.get());
+    }
+
+    /**
+     * Tests that a null initial value is not computed again on each access.
+     */
+    @Test
+    void testContextClassLoaderLocalNullInitialValue() {
+        final AtomicInteger initializations = new AtomicInteger();
+        final ContextClassLoaderLocal<Object> ccll = new ContextClassLoaderLocal<Object>() {
+            @Override
+            protected Object initialValue() {
+                initializations.incrementAndGet();
+                return null;
+            }
+        };
+        assertNull(ccll.get());
+        assertNull(ccll.get());
+        assertEquals(1, initializations.get());
+    }
+
     /** Tests whether the unset method works */
     @Test
     void testContextClassLoaderUnset() throws Exception {
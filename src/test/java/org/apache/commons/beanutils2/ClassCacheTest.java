@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.apache.commons.collections4.map.ConcurrentReferenceHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ClassCache}.
+ */
+class ClassCacheTest {
+
+    /**
+     * Loads this library in a new class loader and looks up a method of {@code String}, a class of an ancestor class loader, with it.
+     *
+     * @return a weak reference to the new class loader
+     * @throws Exception if the lookup fails
+     */
+    private static WeakReference<ClassLoader> lookUpInChildLoader() throws Exception {
+        final URL[] urls = Stream.of(ClassCache.class, StringUtils.class, ConcurrentReferenceHashMap.class, LogFactory.class)
+                .map(type -> type.getProtectionDomain().getCodeSource().getLocation()).toArray(URL[]::new);
+        try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+            final Class<?> methodUtils = loader.loadClass(MethodUtils.class.getName());
+            assertNotSame(MethodUtils.class, methodUtils);
+            assertNotNull(methodUtils.getMethod("getMatchingAccessibleMethod", Class.class, String.class, Class[].class).invoke(null, String.class, "length",
+                    new Class<?>[0]));
+            return new WeakReference<>(loader);
+        }
+    }
+
+    @Test
+    void testAttachable() {
+        assertTrue(ClassCache.isAttachable(ClassCache.class));
+        assertTrue(ClassCache.isAttachable(ClassCacheTest.class));
+        assertFalse(ClassCache.isAttachable(String.class));
+    }
+
+    @Test
+    void testBackends() {
+        for (final ClassCache.Backend backend : ClassCache.Backend.values()) {
+            assertSame(backend, ClassCache.create(backend, Class::getName).getBackend());
+        }
+        if (System.getProperty(ClassCache.BACKEND_PROPERTY) == null) {
+            assertSame(ClassCache.Backend.CLASS_VALUE, ClassCache.DEFAULT_BACKEND);
+        }
+        assertSame(ClassCache.Backend.REFERENCE_MAP, ClassCache.createPerInstance(Class::getName).getBackend());
+    }
+
+    @Test
+    void testCachedAndCleared() {
+        for (final ClassCache.Backend backend : ClassCache.Backend.values()) {
+            final AtomicInteger loads = new AtomicInteger();
+            final ClassCache<Object> cache = ClassCache.create(backend, type -> {
+                loads.incrementAndGet();
+                return new Object();
+            });
+            final Object value = cache.get(String.class);
+            assertSame(value, cache.get(String.class), backend.name());
+            assertEquals(1, loads.get(), backend.name());
+            cache.clear();
+            assertNotSame(value, cache.get(String.class), backend.name());
+            assertEquals(2, loads.get(), backend.name());
+        }
+    }
+
+    @Test
+    void testClearSoftValues() {
+        final ClassCache<Object> strong = ClassCache.createStrong(type -> new Object());
+        final ClassCache<Object> perInstance = ClassCache.createPerInstance(type -> new Object());
+        final ClassCache<Object> referenceMap = ClassCache.create(ClassCache.Backend.REFERENCE_MAP, type -> new Object());
+        final Object strongValue = strong.get(String.class);
+        final Object perInstanceValue = perInstance.get(String.class);
+        final Object referenceMapValue = referenceMap.get(String.class);
+        strong.clearSoftValues();
+        perInstance.clearSoftValues();
+        referenceMap.clearSoftValues();
+        assertSame(strongValue, strong.get(String.class));
+        assertSame(perInstanceValue, perInstance.get(String.class));
+        assertNotSame(referenceMapValue, referenceMap.get(String.class));
+    }
+
+    @Test
+    void testLibraryLoaderCollectable() throws Exception {
+        final WeakReference<ClassLoader> loader = lookUpInChildLoader();
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get(), "a class of an ancestor class loader keeps this library reachable");
+    }
+
+    @Test
+    void testLoaderException() {
+        for (final ClassCache.Backend backend : ClassCache.Backend.values()) {
+            final AtomicInteger loads = new AtomicInteger();
+            final ClassCache<Object> cache = ClassCache.create(backend, type -> {
+                if (loads.incrementAndGet() == 1) {
+                    throw new IllegalStateException("test");
+                }
+                return type.getName();
+            });
+            assertEquals("test", assertThrows(IllegalStateException.class, () -> cache.get(Integer.class)).getMessage());
+            assertEquals(Integer.class.getName(), cache.get(Integer.class), backend.name());
+        }
+    }
+
+    @Test
+    void testNullClass() {
+        for (final ClassCache.Backend backend : ClassCache.Backend.values()) {
+            assertThrows(NullPointerException.class, () -> ClassCache.create(backend, Class::getName).get(null), backend.name());
+        }
+    }
+
+    @Test
+    void testNullValue() {
+        for (final ClassCache.Backend backend : ClassCache.Backend.values()) {
+            assertNull(ClassCache.create(backend, type -> null).get(Long.class), backend.name());
+        }
+    }
+
+    @Test
+    void testReentrantLoader() {
+        for (final ClassCache.Backend backend : ClassCache.Backend.values()) {
+            final AtomicReference<ClassCache<String>> ref = new AtomicReference<>();
+            final AtomicInteger depth = new AtomicInteger();
+            ref.set(ClassCache.create(backend, type -> depth.getAndIncrement() == 0 ? "outer " + ref.get().get(type) : "inner"));
+            // a ClassValue keeps the value of the nested call which has been installed first
+            final String value = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> ref.get().get(Double.class));
+            assertTrue(value.endsWith("inner"), backend.name());
+            assertSame(value, ref.get().get(Double.class), backend.name());
+        }
+    }
+}
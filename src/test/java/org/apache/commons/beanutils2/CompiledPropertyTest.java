@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CompiledProperty}.
+ */
+class CompiledPropertyTest {
+
+    /**
+     * A bean with a property of a general type.
+     */
+    public static class Holder {
+
+        private Object value;
+
+        public Object getValue() {
+            return value;
+        }
+
+        public void setValue(final Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Another bean class with a string property.
+     */
+    public static class StringBean {
+
+        private String stringProperty;
+
+        public String getStringProperty() {
+            return stringProperty;
+        }
+
+        public void setStringProperty(final String stringProperty) {
+            this.stringProperty = stringProperty;
+        }
+    }
+
+    private PropertyUtilsBean propertyUtils;
+
+    @BeforeEach
+    void setUp() {
+        propertyUtils = new PropertyUtilsBean();
+    }
+
+    @Test
+    void testDynaBeanSegment() throws Exception {
+        final DynaClass dynaClass = new BasicDynaClass("test", null, new DynaProperty[] { new DynaProperty("name", String.class) });
+        final DynaBean dynaBean = dynaClass.newInstance();
+        dynaBean.set("name", "dyna");
+        final Holder holder = new Holder();
+        holder.setValue(dynaBean);
+        final CompiledProperty property = propertyUtils.compile(Holder.class, "value.name");
+        assertEquals("dyna", property.get(holder));
+        property.set(holder, "changed");
+        assertEquals("changed", dynaBean.get("name"));
+    }
+
+    @Test
+    void testGetSetNested() throws Exception {
+        final TestBean bean = new TestBean();
+        final CompiledProperty property = propertyUtils.compile(TestBean.class, "nested.stringProperty");
+        assertSame(TestBean.class, property.getBeanClass());
+        assertEquals("nested.stringProperty", property.getPath().getExpression());
+        assertEquals(bean.getNested().getStringProperty(), property.get(bean));
+        property.set(bean, "new value");
+        assertEquals("new value", bean.getNested().getStringProperty());
+        assertEquals("new value", property.get(bean));
+    }
+
+    @Test
+    void testIndexedAndMappedSegments() throws Exception {
+        final TestBean bean = new TestBean();
+        final CompiledProperty indexed = propertyUtils.compile(TestBean.class, "nested.intArray[2]");
+        indexed.set(bean, Integer.valueOf(17));
+        assertEquals(Integer.valueOf(17), indexed.get(bean));
+        final CompiledProperty mapped = propertyUtils.compile(TestBean.class, "nested.mappedProperty(First Key)");
+        assertEquals("First Value", mapped.get(bean));
+    }
+
+    @Test
+    void testMapSegment() throws Exception {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("name", "value");
+        final Holder holder = new Holder();
+        holder.setValue(map);
+        final CompiledProperty property = propertyUtils.compile(Holder.class, "value.name");
+        assertEquals("value", property.get(holder));
+        property.set(holder, "other");
+        assertEquals("other", map.get("name"));
+    }
+
+    @Test
+    void testNestedNull() {
+        final CompiledProperty property = propertyUtils.compile(Holder.class, "value.stringProperty");
+        final NestedNullException e = assertThrows(NestedNullException.class, () -> property.get(new Holder()));
+        assertEquals("Null property value for 'value.stringProperty' on bean class '" + Holder.class + "'", e.getMessage());
+    }
+
+    @Test
+    void testNullBean() {
+        final CompiledProperty property = propertyUtils.compile(TestBean.class, "stringProperty");
+        assertThrows(NullPointerException.class, () -> property.get(null));
+    }
+
+    @Test
+    void testPolymorphicSegment() throws Exception {
+        final CompiledProperty property = propertyUtils.compile(Holder.class, "value.stringProperty");
+        final Object[] values = { new TestBean(), new TestBeanPublicSubclass(), new TestBeanPackageSubclass(), new BenchBean(), new StringBean(),
+                new TestBean() };
+        for (final Object value : values) {
+            final Holder holder = new Holder();
+            holder.setValue(value);
+            property.set(holder, "test");
+            assertEquals("test", property.get(holder), value.getClass().getName());
+            assertEquals("test", propertyUtils.getNestedProperty(holder, "value.stringProperty"));
+        }
+    }
+
+    @Test
+    void testPrimitiveConversions() throws Exception {
+        final TestBean bean = new TestBean();
+        final CompiledProperty property = propertyUtils.compile(TestBean.class, "intProperty");
+        property.set(bean, Short.valueOf((short) 5));
+        assertEquals(Integer.valueOf(5), property.get(bean));
+        assertThrows(IllegalArgumentException.class, () -> property.set(bean, null));
+    }
+
+    @Test
+    void testPrimitiveAccessors() throws Exception {
+        final TestBean bean = new TestBean();
+        final CompiledProperty intProperty = propertyUtils.compile(TestBean.class, "nested.intProperty");
+        intProperty.setInt(bean, 42);
+        assertEquals(42, intProperty.getInt(bean));
+        assertEquals(42L, intProperty.getLong(bean));
+        assertEquals(42.0, intProperty.getDouble(bean));
+        final CompiledProperty booleanProperty = propertyUtils.compile(TestBean.class, "booleanProperty");
+        booleanProperty.setBoolean(bean, false);
+        assertEquals(Boolean.FALSE, booleanProperty.get(bean));
+        assertThrows(IllegalArgumentException.class, () -> booleanProperty.getInt(bean));
+        final CompiledProperty longProperty = propertyUtils.compile(TestBean.class, "longProperty");
+        longProperty.setInt(bean, 7);
+        assertEquals(7L, longProperty.getLong(bean));
+        assertThrows(IllegalArgumentException.class, () -> intProperty.setLong(bean, 1L));
+        assertThrows(NestedNullException.class, () -> propertyUtils.compile(Holder.class, "value.intProperty").getInt(new Holder()));
+    }
+
+    @Test
+    void testUnknownProperty() {
+        final CompiledProperty property = propertyUtils.compile(TestBean.class, "nested.unknown");
+        assertThrows(NoSuchMethodException.class, () -> property.get(new TestBean()));
+        assertThrows(NoSuchMethodException.class, () -> property.set(new TestBean(), "value"));
+    }
+
+    @Test
+    void testWriteOnlyProperty() throws Exception {
+        final TestBean bean = new TestBean();
+        final CompiledProperty property = propertyUtils.compile(TestBean.class, "writeOnlyProperty");
+        property.set(bean, "write only");
+        assertEquals("write only", bean.getWriteOnlyPropertyValue());
+        assertThrows(NoSuchMethodException.class, () -> property.get(bean));
+        assertNull(propertyUtils.compile(TestBean.class, "nullProperty").get(bean));
+    }
+}
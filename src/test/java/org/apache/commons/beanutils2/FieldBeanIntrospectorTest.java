@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code FieldBeanIntrospector} and the access to field properties.
+ */
+class FieldBeanIntrospectorTest {
+
+    /**
+     * A bean class exposing its state in fields.
+     */
+    public static class FieldBean {
+
+        public String name;
+
+        public int count;
+
+        public final long id = 7;
+
+        public String withGetter;
+
+        String hidden;
+
+        private double secret;
+
+        public static String constant = "static";
+
+        public String getWithGetter() {
+            return "getter";
+        }
+    }
+
+    /**
+     * A subclass of the bean class with fields.
+     */
+    public static class SubFieldBean extends FieldBean {
+
+        public boolean extra;
+    }
+
+    private PropertyUtilsBean propertyUtils;
+
+    private PropertyDescriptor descriptor(final Class<?> beanClass, final String name) {
+        return Arrays.stream(propertyUtils.getPropertyDescriptors(beanClass)).filter(d -> name.equals(d.getName())).findFirst().orElse(null);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        propertyUtils = new PropertyUtilsBean();
+        propertyUtils.addBeanIntrospector(FieldBeanIntrospector.PUBLIC_FIELDS);
+    }
+
+    /**
+     * Tests that accessor methods take precedence over fields.
+     */
+    @Test
+    void testAccessorMethodsTakePrecedence() throws Exception {
+        final PropertyDescriptor descriptor = descriptor(FieldBean.class, "withGetter");
+        assertFalse(descriptor instanceof FieldPropertyDescriptor);
+        assertEquals(FieldBean.class.getMethod("getWithGetter"), descriptor.getReadMethod());
+        assertEquals("getter", propertyUtils.getProperty(new FieldBean(), "withGetter"));
+    }
+
+    /**
+     * Tests configured non-public fields.
+     */
+    @Test
+    void testConfiguredFields() throws Exception {
+        propertyUtils = new PropertyUtilsBean();
+        propertyUtils.addBeanIntrospector(new FieldBeanIntrospector(Arrays.asList("hidden", "secret")));
+        final FieldBean bean = new FieldBean();
+        propertyUtils.setProperty(bean, "hidden", "visible");
+        propertyUtils.setProperty(bean, "secret", Double.valueOf(1.5));
+        assertEquals("visible", bean.hidden);
+        assertEquals(Double.valueOf(1.5), propertyUtils.getProperty(bean, "secret"));
+        assertTrue(propertyUtils.isReadable(bean, "name"));
+    }
+
+    /**
+     * Tests copying field properties.
+     */
+    @Test
+    void testCopyProperties() throws Exception {
+        final FieldBean orig = new FieldBean();
+        orig.name = "copied";
+        orig.count = 3;
+        final SubFieldBean dest = new SubFieldBean();
+        propertyUtils.copyProperties(dest, orig);
+        assertEquals("copied", dest.name);
+        assertEquals(3, dest.count);
+
+        final BeanUtilsBean beanUtils = new BeanUtilsBean(new ConvertUtilsBean(), propertyUtils);
+        final Map<String, Object> map = new HashMap<>();
+        map.put("count", "12");
+        map.put("extra", "true");
+        beanUtils.copyProperties(dest, map);
+        assertEquals(12, dest.count);
+        assertTrue(dest.extra);
+        final FieldBean other = new FieldBean();
+        beanUtils.copyProperties(other, dest);
+        assertEquals(12, other.count);
+        assertEquals("copied", other.name);
+    }
+
+    /**
+     * Tests the descriptors created for fields.
+     */
+    @Test
+    void testDescriptors() throws Exception {
+        final PropertyDescriptor count = descriptor(SubFieldBean.class, "count");
+        assertInstanceOf(FieldPropertyDescriptor.class, count);
+        assertEquals(int.class, count.getPropertyType());
+        assertNull(count.getReadMethod());
+        assertNull(count.getWriteMethod());
+        assertEquals(FieldBean.class.getField("count"), ((FieldPropertyDescriptor) count).getField());
+        assertInstanceOf(FieldPropertyDescriptor.class, descriptor(SubFieldBean.class, "extra"));
+        assertNull(descriptor(FieldBean.class, "hidden"));
+        assertNull(descriptor(FieldBean.class, "secret"));
+        assertNull(descriptor(FieldBean.class, "constant"));
+        assertEquals(1, new PropertyUtilsBean().getPropertyDescriptors(FieldBean.class).length);
+    }
+
+    /**
+     * Tests {@code describe()} with field properties.
+     */
+    @Test
+    void testDescribe() throws Exception {
+        final FieldBean bean = new FieldBean();
+        bean.name = "described";
+        final Map<String, Object> description = propertyUtils.describe(bean);
+        assertEquals("described", description.get("name"));
+        assertEquals(Long.valueOf(7), description.get("id"));
+        assertEquals("0", new BeanUtilsBean(new ConvertUtilsBean(), propertyUtils).describe(bean).get("count"));
+    }
+
+    /**
+     * Tests that final fields are read-only.
+     */
+    @Test
+    void testFinalField() throws Exception {
+        final FieldBean bean = new FieldBean();
+        assertEquals(Long.valueOf(7), propertyUtils.getProperty(bean, "id"));
+        assertTrue(propertyUtils.isReadable(bean, "id"));
+        assertFalse(propertyUtils.isWriteable(bean, "id"));
+        assertThrows(NoSuchMethodException.class, () -> propertyUtils.setProperty(bean, "id", Long.valueOf(8)));
+    }
+
+    /**
+     * Tests reading and writing field properties.
+     */
+    @Test
+    void testGetSetProperty() throws Exception {
+        final FieldBean bean = new FieldBean();
+        propertyUtils.setProperty(bean, "name", "field");
+        propertyUtils.setProperty(bean, "count", Integer.valueOf(5));
+        assertEquals("field", bean.name);
+        assertEquals(5, bean.count);
+        assertEquals("field", propertyUtils.getProperty(bean, "name"));
+        assertEquals(Integer.valueOf(5), propertyUtils.getSimpleProperty(bean, "count"));
+        assertTrue(propertyUtils.isWriteable(bean, "count"));
+        assertEquals(int.class, propertyUtils.getPropertyType(bean, "count"));
+
+        // widening conversions and errors are handled by reflection
+        propertyUtils.setProperty(bean, "count", Short.valueOf((short) 6));
+        assertEquals(6, bean.count);
+        assertThrows(IllegalArgumentException.class, () -> propertyUtils.setProperty(bean, "count", null));
+        assertThrows(IllegalArgumentException.class, () -> propertyUtils.setProperty(bean, "count", "7"));
+    }
+
+    /**
+     * Tests field properties in nested expressions and compiled properties.
+     */
+    @Test
+    void testNestedProperty() throws Exception {
+        final Map<String, Object> map = new HashMap<>();
+        final FieldBean bean = new FieldBean();
+        bean.name = "nested";
+        map.put("bean", bean);
+        assertEquals("nested", propertyUtils.getProperty(map, "bean.name"));
+        assertEquals("nested", propertyUtils.compile(FieldBean.class, "name").get(bean));
+    }
+}
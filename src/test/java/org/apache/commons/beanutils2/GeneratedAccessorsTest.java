@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.beanutils2.processor.GeneratedAccessorsProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link GeneratedAccessors} with accessors generated by {@link GeneratedAccessorsProcessor}.
+ */
+class GeneratedAccessorsTest {
+
+    // @formatter:off
+    private static final String CUSTOMER = "package test.beans;\n"
+            + "import java.util.List;\n"
+            + "import org.apache.commons.beanutils2.GeneratedAccessors;\n"
+            + "@GeneratedAccessors\n"
+            + "public class Customer {\n"
+            + "    @GeneratedAccessors\n"
+            + "    public static class Address {\n"
+            + "        private String city;\n"
+            + "        public String getCity() { return city; }\n"
+            + "        public void setCity(String city) { this.city = city; }\n"
+            + "    }\n"
+            + "    private String name;\n"
+            + "    private int age;\n"
+            + "    private boolean active;\n"
+            + "    private List<String> tags;\n"
+            + "    private final Address address = new Address();\n"
+            + "    public Address getAddress() { return address; }\n"
+            + "    public int getAge() { return age; }\n"
+            + "    public void setAge(int age) { this.age = age; }\n"
+            + "    public String getCaller() { return new Throwable().getStackTrace()[1].getClassName(); }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    public List<String> getTags() { return tags; }\n"
+            + "    public void setTags(List<String> tags) { this.tags = tags; }\n"
+            + "    public boolean isActive() { return active; }\n"
+            + "    public void setActive(boolean active) { this.active = active; }\n"
+            + "    public void setWriteOnly(long value) { }\n"
+            + "    public static String getStatic() { return null; }\n"
+            + "}\n";
+
+    private static final String CUSTOMIZED = "package test.beans;\n"
+            + "import org.apache.commons.beanutils2.GeneratedAccessors;\n"
+            + "@GeneratedAccessors\n"
+            + "public class Customized {\n"
+            + "    public int getAge() { return 0; }\n"
+            + "    public void setAge(int age) { }\n"
+            + "    public String getName() { return null; }\n"
+            + "    public void setName(String name) { }\n"
+            + "}\n";
+
+    private static final String CUSTOMIZED_BEAN_INFO = "package test.beans;\n"
+            + "import java.beans.*;\n"
+            + "public class CustomizedBeanInfo extends SimpleBeanInfo {\n"
+            + "    @Override\n"
+            + "    public PropertyDescriptor[] getPropertyDescriptors() {\n"
+            + "        try {\n"
+            + "            return new PropertyDescriptor[] { new PropertyDescriptor(\"name\", Customized.class) };\n"
+            + "        } catch (IntrospectionException e) {\n"
+            + "            throw new IllegalStateException(e);\n"
+            + "        }\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String INDEXED = "package test.beans;\n"
+            + "import org.apache.commons.beanutils2.GeneratedAccessors;\n"
+            + "@GeneratedAccessors\n"
+            + "public class Indexed {\n"
+            + "    public String getItem(int index) { return null; }\n"
+            + "}\n";
+    // @formatter:on
+
+    @TempDir
+    Path tempDir;
+
+    private List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+    private ClassLoader loader;
+
+    private Class<?> customerClass;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        final Path sources = Files.createDirectories(tempDir.resolve("src/test/beans"));
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Files.write(sources.resolve("Customer.java"), CUSTOMER.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Customized.java"), CUSTOMIZED.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("CustomizedBeanInfo.java"), CUSTOMIZED_BEAN_INFO.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Indexed.java"), INDEXED.getBytes(StandardCharsets.UTF_8));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(collector, Locale.ROOT, StandardCharsets.UTF_8)) {
+            final File libraryClasses = new File(GeneratedAccessors.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            final List<String> options = Arrays.asList("-d", classes.toString(), "-classpath", libraryClasses.toString(), "-processor",
+                    GeneratedAccessorsProcessor.class.getName());
+            final Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sources.resolve("Customer.java").toFile(),
+                    sources.resolve("Customized.java").toFile(), sources.resolve("CustomizedBeanInfo.java").toFile(), sources.resolve("Indexed.java").toFile());
+            assertTrue(compiler.getTask(null, fileManager, collector, options, null, units).call(), () -> collector.getDiagnostics().toString());
+        }
+        diagnostics = collector.getDiagnostics();
+        loader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, GeneratedAccessorsTest.class.getClassLoader());
+        customerClass = loader.loadClass("test.beans.Customer");
+    }
+
+    /**
+     * Tests that the generated accessors describe the same properties as {@link Introspector}. The class property is suppressed by default.
+     */
+    @Test
+    void testDescriptors() throws Exception {
+        final PropertyDescriptor[] expected = Arrays.stream(Introspector.getBeanInfo(customerClass).getPropertyDescriptors())
+                .filter(d -> !"class".equals(d.getName())).toArray(PropertyDescriptor[]::new);
+        final PropertyUtilsBean propertyUtils = new PropertyUtilsBean();
+        propertyUtils.removeBeanIntrospector(SuppressPropertiesBeanIntrospector.SUPPRESS_CLASS);
+        assertEquals(expected.length + 1, propertyUtils.getPropertyDescriptors(customerClass).length);
+        final PropertyDescriptor[] actual = new PropertyUtilsBean().getPropertyDescriptors(customerClass).clone();
+        Arrays.sort(actual, Comparator.comparing(PropertyDescriptor::getName));
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getName(), actual[i].getName());
+            assertEquals(expected[i].getPropertyType(), actual[i].getPropertyType());
+            assertEquals(expected[i].getReadMethod(), actual[i].getReadMethod());
+            assertEquals(expected[i].getWriteMethod(), actual[i].getWriteMethod());
+        }
+    }
+
+    /**
+     * Tests that an explicit {@code BeanInfo} takes precedence over the generated accessors.
+     */
+    @Test
+    void testExplicitBeanInfo() throws Exception {
+        final Class<?> customizedClass = loader.loadClass("test.beans.Customized");
+        assertNotNull(AccessorRegistry.find(customizedClass));
+        final PropertyDescriptor[] descriptors = new PropertyUtilsBean().getPropertyDescriptors(customizedClass);
+        assertEquals(1, descriptors.length);
+        assertEquals("name", descriptors[0].getName());
+    }
+
+    /**
+     * Tests that the accessors and the service provider configuration file are generated, and that unsupported classes are reported.
+     */
+    @Test
+    void testGeneration() throws IOException {
+        final Path services = tempDir.resolve("classes/META-INF/services/" + BeanAccessors.class.getName());
+        assertEquals(Arrays.asList("test.beans.Customer_Address_BeanAccessors", "test.beans.Customer_BeanAccessors", "test.beans.Customized_BeanAccessors"),
+                Files.readAllLines(services, StandardCharsets.UTF_8));
+        assertFalse(Files.exists(tempDir.resolve("classes/test/beans/Indexed_BeanAccessors.class")));
+        assertTrue(diagnostics.stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING && d.getMessage(Locale.ROOT).contains("test.beans.Indexed")));
+    }
+
+    /**
+     * Tests reading and writing properties through the generated accessors.
+     */
+    @Test
+    void testPropertyAccess() throws Exception {
+        final PropertyUtilsBean propertyUtils = new PropertyUtilsBean();
+        final Object customer = customerClass.getConstructor().newInstance();
+        assertNotNull(AccessorRegistry.find(customerClass));
+        assertNull(AccessorRegistry.find(loader.loadClass("test.beans.Indexed")));
+        assertEquals("test.beans.Customer_BeanAccessors", propertyUtils.getProperty(customer, "caller"));
+        propertyUtils.setProperty(customer, "name", "Jane");
+        propertyUtils.setProperty(customer, "age", Integer.valueOf(42));
+        propertyUtils.setProperty(customer, "active", Boolean.TRUE);
+        propertyUtils.setProperty(customer, "tags", Collections.singletonList("vip"));
+        propertyUtils.setProperty(customer, "address.city", "Berlin");
+        assertEquals("Jane", propertyUtils.getProperty(customer, "name"));
+        assertEquals(Integer.valueOf(42), propertyUtils.getProperty(customer, "age"));
+        assertEquals(Boolean.TRUE, propertyUtils.getProperty(customer, "active"));
+        assertEquals("vip", propertyUtils.getProperty(customer, "tags[0]"));
+        assertEquals("Berlin", propertyUtils.getProperty(customer, "address.city"));
+        assertFalse(propertyUtils.isReadable(customer, "class"));
+        assertTrue(propertyUtils.isWriteable(customer, "writeOnly"));
+        assertFalse(propertyUtils.isReadable(customer, "writeOnly"));
+        assertFalse(propertyUtils.isWriteable(customer, "address"));
+
+        final BeanUtilsBean beanUtils = new BeanUtilsBean(new ConvertUtilsBean(), propertyUtils);
+        beanUtils.setProperty(customer, "age", "7");
+        assertEquals("7", beanUtils.getProperty(customer, "age"));
+        final Object copy = customerClass.getConstructor().newInstance();
+        beanUtils.copyProperties(copy, customer);
+        assertEquals("Jane", propertyUtils.getProperty(copy, "name"));
+        assertArrayEquals(new Object[] { "vip" }, ((List<?>) propertyUtils.getProperty(copy, "tags")).toArray());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.beanutils2;
+
+import java.beans.Introspector;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit Test Case containing microbenchmarks comparing DefaultBeanIntrospector and ReflectionBeanIntrospector.
+ */
+public class IntrospectionBenchCase {
+
+    // The classes to be introspected
+    private static final Class<?>[] BEAN_CLASSES = { TestBean.class, AlphaBean.class, BenchBean.class, IndexedTestBean.class, NestedTestBean.class,
+            PrimitiveBean.class, MappedPropertyTestBean.class };
+
+    // Basic loop counter
+    private long counter = 1000;
+
+    private static PropertyUtilsBean introspect(final BeanIntrospector introspector) {
+        final PropertyUtilsBean pu = new PropertyUtilsBean();
+        pu.resetBeanIntrospectors(introspector);
+        for (final Class<?> beanClass : BEAN_CLASSES) {
+            pu.getPropertyDescriptors(beanClass);
+        }
+        // Start each iteration with a cold cache of java.beans.Introspector
+        Introspector.flushCaches();
+        return pu;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Sets up instance variables required by this test case.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        // Set up loop counter (if property specified)
+        final String prop = System.getProperty("counter");
+        if (prop != null) {
+            counter = Long.parseLong(prop);
+        }
+
+    }
+
+    private void time(final String label, final BeanIntrospector introspector) {
+
+        long startMillis;
+        long stopMillis;
+
+        for (long i = 0; i < counter; i++) {
+            introspect(introspector);
+        }
+        startMillis = System.currentTimeMillis();
+        for (long i = 0; i < counter; i++) {
+            introspect(introspector);
+        }
+        stopMillis = System.currentTimeMillis();
+        System.err.println(label + ".introspect(" + BEAN_CLASSES.length + " classes), count=" + counter + ", time=" + (stopMillis - startMillis));
+
+        // Retained memory of the introspection results
+        final List<PropertyUtilsBean> retained = new ArrayList<>();
+        final long before = usedMemory();
+        for (long i = 0; i < counter; i++) {
+            retained.add(introspect(introspector));
+        }
+        final long after = usedMemory();
+        System.err.println(label + ".retained, count=" + retained.size() + ", bytes per instance=" + (after - before) / retained.size());
+
+    }
+
+    // Time introspection with DefaultBeanIntrospector
+    @Test
+    void testDefaultBeanIntrospector() {
+        time("Default", DefaultBeanIntrospector.INSTANCE);
+    }
+
+    // Time introspection with ReflectionBeanIntrospector
+    @Test
+    void testReflectionBeanIntrospector() {
+        time("Reflection", ReflectionBeanIntrospector.INSTANCE);
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.PropertyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests snapshots of introspection results written by {@link PropertyUtilsBean#exportSnapshot(java.io.OutputStream)}.
+ */
+class IntrospectionSnapshotTest {
+
+    /**
+     * A {@code BeanIntrospector} which counts the classes it introspects.
+     */
+    private static final class CountingIntrospector implements BeanIntrospector {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void introspect(final IntrospectionContext icontext) {
+            count.incrementAndGet();
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private CountingIntrospector counter;
+
+    private PropertyUtilsBean propertyUtils;
+
+    /**
+     * Compiles a class {@code test.Sample} with the given body and loads it with a new class loader.
+     */
+    private Class<?> compileSample(final String directory, final String body) throws Exception {
+        final Path sources = Files.createDirectories(tempDir.resolve(directory).resolve("test"));
+        final Path source = sources.resolve("Sample.java");
+        Files.write(source, ("package test;\npublic class Sample {\n" + body + "}\n").getBytes(StandardCharsets.UTF_8));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, source.toString()));
+        final URLClassLoader loader = new URLClassLoader(new URL[] { tempDir.resolve(directory).toUri().toURL() }, null);
+        return loader.loadClass("test.Sample");
+    }
+
+    private byte[] export(final PropertyUtilsBean source) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.exportSnapshot(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes the header of a snapshot with a string table containing a single string.
+     */
+    private DataOutputStream header(final ByteArrayOutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(0x42555348);
+        data.writeInt(1);
+        data.writeInt(1);
+        data.writeUTF("test.Sample");
+        data.writeInt(0);
+        return data;
+    }
+
+    private PropertyUtilsBean newPropertyUtils(final CountingIntrospector introspector) {
+        final PropertyUtilsBean result = new PropertyUtilsBean();
+        result.addBeanIntrospector(introspector);
+        return result;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        final PropertyUtilsBean source = newPropertyUtils(new CountingIntrospector());
+        source.getPropertyDescriptors(TestBean.class);
+        assertNotNull(source.getPropertyDescriptor(new TestBean(), "mappedProperty"));
+        counter = new CountingIntrospector();
+        propertyUtils = newPropertyUtils(counter);
+        assertEquals(1, propertyUtils.loadSnapshot(new ByteArrayInputStream(export(source))));
+    }
+
+    /**
+     * Tests that a class which has changed since the snapshot was written is introspected.
+     */
+    @Test
+    void testChangedClass() throws Exception {
+        final Class<?> original = compileSample("v1", "public String getName() { return null; }\n");
+        final Class<?> changed = compileSample("v2", "public String getName() { return null; }\npublic int getAge() { return 0; }\n");
+        final PropertyUtilsBean source = newPropertyUtils(new CountingIntrospector());
+        source.getPropertyDescriptors(original);
+        propertyUtils.loadSnapshot(new ByteArrayInputStream(export(source)));
+
+        assertEquals(2, propertyUtils.getPropertyDescriptors(changed).length);
+        assertEquals(1, counter.count.get());
+        assertEquals(1, propertyUtils.getPropertyDescriptors(compileSample("v1", "public String getName() { return null; }\n")).length);
+        assertEquals(1, counter.count.get());
+    }
+
+    /**
+     * Tests that clearing the descriptors discards the snapshot.
+     */
+    @Test
+    void testClearDescriptors() {
+        propertyUtils.clearDescriptors();
+        propertyUtils.getPropertyDescriptors(TestBean.class);
+        assertEquals(1, counter.count.get());
+    }
+
+    /**
+     * Tests loading snapshots whose counts have been corrupted, which must be rejected before any table is allocated.
+     */
+    @Test
+    void testCorruptedCounts() throws Exception {
+        final byte[] snapshot = export(propertyUtils);
+        for (final int count : new int[] { -1, Integer.MAX_VALUE }) {
+            // the number of strings follows the magic number and the version
+            final byte[] corrupted = snapshot.clone();
+            corrupted[8] = (byte) (count >>> 24);
+            corrupted[9] = (byte) (count >>> 16);
+            corrupted[10] = (byte) (count >>> 8);
+            corrupted[11] = (byte) count;
+            assertThrows(IOException.class, () -> propertyUtils.loadSnapshot(new ByteArrayInputStream(corrupted)));
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final DataOutputStream data = header(out);
+            data.writeInt(1);
+            data.writeInt(0);
+            data.writeInt(0);
+            data.writeInt(0);
+            data.writeInt(count);
+            assertThrows(IOException.class, () -> propertyUtils.loadSnapshot(new ByteArrayInputStream(out.toByteArray())));
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final DataOutputStream data = header(out);
+        data.writeInt(1);
+        data.writeInt(0);
+        data.writeInt(0);
+        data.writeInt(0);
+        data.writeInt(1);
+        data.writeByte(42);
+        assertThrows(IOException.class, () -> propertyUtils.loadSnapshot(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    /**
+     * Tests that a snapshot is not used if the introspectors have been configured differently.
+     */
+    @Test
+    void testDifferentIntrospectors() {
+        propertyUtils.addBeanIntrospector(new FluentPropertyBeanIntrospector());
+        propertyUtils.getPropertyDescriptors(TestBean.class);
+        assertEquals(1, counter.count.get());
+    }
+
+    /**
+     * Tests that the snapshot of classes restored from a snapshot can be exported again.
+     */
+    @Test
+    void testExportRestored() throws Exception {
+        propertyUtils.getPropertyDescriptors(TestBean.class);
+        final PropertyUtilsBean target = newPropertyUtils(counter);
+        assertEquals(1, target.loadSnapshot(new ByteArrayInputStream(export(propertyUtils))));
+        assertEquals(propertyUtils.getPropertyDescriptors(TestBean.class).length, target.getPropertyDescriptors(TestBean.class).length);
+        assertEquals(0, counter.count.get());
+    }
+
+    /**
+     * Tests loading data which is not a snapshot.
+     */
+    @Test
+    void testInvalidSnapshot() {
+        assertThrows(IOException.class, () -> propertyUtils.loadSnapshot(new ByteArrayInputStream("not a snapshot".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(IOException.class, () -> propertyUtils.loadSnapshot(new ByteArrayInputStream(new byte[0])));
+    }
+
+    /**
+     * Tests that the descriptors restored from a snapshot match the introspected descriptors.
+     */
+    @Test
+    void testRestoredDescriptors() throws Exception {
+        final PropertyDescriptor[] restored = propertyUtils.getPropertyDescriptors(TestBean.class);
+        assertEquals(0, counter.count.get());
+        final PropertyDescriptor[] expected = new PropertyUtilsBean().getPropertyDescriptors(TestBean.class);
+        assertEquals(expected.length, restored.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getName(), restored[i].getName());
+            assertEquals(expected[i].getPropertyType(), restored[i].getPropertyType());
+            assertEquals(expected[i].getReadMethod(), restored[i].getReadMethod());
+            assertEquals(expected[i].getWriteMethod(), restored[i].getWriteMethod());
+            assertEquals(expected[i].getClass(), restored[i].getClass());
+        }
+        final IndexedPropertyDescriptor indexed = (IndexedPropertyDescriptor) Arrays.stream(restored).filter(d -> "intIndexed".equals(d.getName()))
+                .findFirst().get();
+        assertEquals(TestBean.class.getMethod("getIntIndexed", int.class), indexed.getIndexedReadMethod());
+
+        final TestBean bean = new TestBean();
+        propertyUtils.setProperty(bean, "stringProperty", "restored");
+        assertEquals("restored", propertyUtils.getProperty(bean, "stringProperty"));
+        assertEquals(Integer.valueOf(10), propertyUtils.getProperty(bean, "intIndexed[1]"));
+    }
+
+    /**
+     * Tests that the mapped descriptors are restored from a snapshot.
+     */
+    @Test
+    void testRestoredMappedDescriptors() throws Exception {
+        final Object descriptor = propertyUtils.getMappedPropertyDescriptors(TestBean.class).get("mappedProperty");
+        assertInstanceOf(MappedPropertyDescriptor.class, descriptor);
+        assertEquals(TestBean.class.getMethod("getMappedProperty", String.class), ((MappedPropertyDescriptor) descriptor).getMappedReadMethod());
+        assertNull(propertyUtils.getMappedPropertyDescriptors(TestBean.class).get("mappedIntProperty"));
+        assertEquals("First Value", propertyUtils.getProperty(new TestBean(), "mappedProperty(First Key)"));
+        assertTrue(propertyUtils.isReadable(new TestBean(), "mappedProperty(First Key)"));
+    }
+}
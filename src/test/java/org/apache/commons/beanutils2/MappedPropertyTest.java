@@ -17,11 +17,14 @@
 package org.apache.commons.beanutils2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.beans.IntrospectionException;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -181,6 +184,36 @@ class MappedPropertyTest {
         assertNull(desc.getMappedWriteMethod(), "Setter is found");
     }
 
+    /**
+     * Test the names of the candidates for mapped properties
+     */
+    @Test
+    void testGetMappedPropertyNames() {
+        final Class<?> clazz = MappedPropertyTestBean.class;
+        final Set<String> names = MappedPropertyDescriptor.getMappedPropertyNames(clazz);
+        assertTrue(names.contains("mappedGetterOnly"));
+        assertTrue(names.contains("mappedSetterOnly"));
+        assertTrue(names.contains("anyMapped"));
+        assertFalse(names.contains("xxxxxxx"));
+        for (final String name : names) {
+            assertTrue(MappedPropertyDescriptor.hasMappedMethods(clazz, name), name);
+        }
+    }
+
+    /**
+     * Test the cheap test for candidates of mapped accessor methods
+     */
+    @Test
+    void testHasMappedMethods() {
+        final Class<?> clazz = MappedPropertyTestBean.class;
+        assertTrue(MappedPropertyDescriptor.hasMappedMethods(clazz, "mappedGetterOnly"));
+        assertTrue(MappedPropertyDescriptor.hasMappedMethods(clazz, "mappedSetterOnly"));
+        assertTrue(MappedPropertyDescriptor.hasMappedMethods(clazz, "anyMapped"));
+        assertTrue(MappedPropertyDescriptor.hasMappedMethods(MappedPropertyChildInterface.class, "mapproperty"));
+        assertFalse(MappedPropertyDescriptor.hasMappedMethods(clazz, "xxxxxxx"));
+        assertFalse(MappedPropertyDescriptor.hasMappedMethods(clazz, ""));
+    }
+
     /**
      * Test Mapped Property - Setter Only
      */
@@ -19,6 +19,8 @@ package org.apache.commons.beanutils2;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Method;
@@ -69,6 +71,32 @@ class MethodUtilsTest {
         assertEquals(0, MethodUtils.clearCache());
     }
 
+    /**
+     * Tests the cache statistics and that lookups for unknown methods are answered without reflection.
+     */
+    @Test
+    void testCacheStatistics() throws Exception {
+        MethodUtils.clearCache();
+        final Class<?>[] paramTypes = { String.class };
+        final long hits = MethodUtils.getCacheHitCount();
+        final long misses = MethodUtils.getCacheMissCount();
+        final Method method = MethodUtils.getAccessibleMethod(TestBean.class, "setStringProperty", paramTypes);
+        assertEquals(misses + 1, MethodUtils.getCacheMissCount());
+        paramTypes[0] = Integer.class; // the cache holds a copy of the parameter types
+        assertNull(MethodUtils.getAccessibleMethod(TestBean.class, "setStringProperty", paramTypes));
+        assertEquals(misses + 2, MethodUtils.getCacheMissCount());
+        assertSame(method, MethodUtils.getAccessibleMethod(TestBean.class, "setStringProperty", String.class));
+        assertEquals(hits + 1, MethodUtils.getCacheHitCount());
+
+        // unknown names and numbers of parameters
+        assertNull(MethodUtils.getAccessibleMethod(TestBean.class, "unknownMethod", String.class));
+        assertNull(MethodUtils.getAccessibleMethod(TestBean.class, "setStringProperty"));
+        assertNull(MethodUtils.getMatchingAccessibleMethod(TestBean.class, "setStringProperty", new Class<?>[] { String.class, String.class }));
+        assertEquals(hits + 4, MethodUtils.getCacheHitCount());
+        assertEquals(misses + 2, MethodUtils.getCacheMissCount());
+        assertEquals(1, MethodUtils.clearCache());
+    }
+
     /**
      * <p>
      * Test {@code getAccessibleMethod}.
@@ -99,6 +127,19 @@ class MethodUtilsTest {
         assertMethod(method, "methodBaz");
     }
 
+    /**
+     * Tests that exact and matching lookups are cached separately and that matching lookups consider variable arguments.
+     */
+    @Test
+    void testGetMatchingAccessibleMethod() throws Exception {
+        final Method matching = MethodUtils.getMatchingAccessibleMethod(TestBean.class, "setIntProperty", new Class<?>[] { Integer.class });
+        assertMethod(matching, "setIntProperty");
+        assertNull(MethodUtils.getAccessibleMethod(TestBean.class, "setIntProperty", Integer.class));
+        assertSame(matching, MethodUtils.getMatchingAccessibleMethod(TestBean.class, "setIntProperty", new Class<?>[] { Integer.class }));
+        assertMethod(MethodUtils.getMatchingAccessibleMethod(String.class, "format", new Class<?>[] { String.class, Integer.class, Integer.class }),
+                "format");
+    }
+
     @Test
     void testNoCaching() throws Exception {
         // no caching
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PropertyAccessor}.
+ */
+class PropertyAccessorTest {
+
+    private PropertyUtilsBean propertyUtils;
+
+    @BeforeEach
+    void setUp() {
+        propertyUtils = new PropertyUtilsBean();
+    }
+
+    @Test
+    void testGetSet() throws Exception {
+        final TestBean bean = new TestBean();
+        final PropertyAccessor<TestBean, String> accessor = propertyUtils.accessor(TestBean.class, "stringProperty", String.class);
+        assertEquals("This is a string", accessor.get(bean));
+        accessor.set(bean, "accessor");
+        assertEquals("accessor", bean.getStringProperty());
+        assertEquals(TestBean.class, accessor.getBeanClass());
+        assertEquals("stringProperty", accessor.getName());
+        assertEquals(String.class, accessor.getValueType());
+    }
+
+    @Test
+    void testIncompatibleType() {
+        assertThrows(IllegalArgumentException.class, () -> propertyUtils.accessor(TestBean.class, "stringProperty", Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> propertyUtils.accessor(TestBean.class, "nested.intProperty", long.class));
+        assertThrows(NullPointerException.class, () -> propertyUtils.accessor(TestBean.class, "stringProperty", null));
+    }
+
+    @Test
+    void testNestedAndIndexed() throws Exception {
+        final TestBean bean = new TestBean();
+        final PropertyAccessor<TestBean, Integer> accessor = propertyUtils.accessor(TestBean.class, "nested.intArray[1]", Integer.class);
+        accessor.set(bean, Integer.valueOf(17));
+        assertEquals(Integer.valueOf(17), accessor.get(bean));
+        assertEquals(Integer.valueOf(17), propertyUtils.getProperty(bean, "nested.intArray[1]"));
+    }
+
+    @Test
+    void testPrimitiveType() throws Exception {
+        final TestBean bean = new TestBean();
+        final PropertyAccessor<TestBean, Integer> accessor = propertyUtils.accessor(TestBean.class, "intProperty", int.class);
+        assertEquals(Integer.class, accessor.getValueType());
+        accessor.set(bean, Integer.valueOf(5));
+        assertEquals(Integer.valueOf(5), accessor.get(bean));
+        assertThrows(IllegalArgumentException.class, () -> accessor.set(bean, null));
+    }
+
+    @Test
+    void testSubtypes() throws Exception {
+        final CompiledPropertyTest.Holder holder = new CompiledPropertyTest.Holder();
+        holder.setValue("text");
+        final PropertyAccessor<CompiledPropertyTest.Holder, String> narrowing = propertyUtils.accessor(CompiledPropertyTest.Holder.class, "value",
+                String.class);
+        assertEquals("text", narrowing.get(holder));
+        holder.setValue(Integer.valueOf(1));
+        assertThrows(ClassCastException.class, () -> narrowing.get(holder));
+        final PropertyAccessor<TestBean, Number> widening = propertyUtils.accessor(TestBean.class, "doubleProperty", Number.class);
+        assertEquals(Double.valueOf(321.0), widening.get(new TestBean()));
+    }
+
+    @Test
+    void testUnknownProperty() {
+        final PropertyAccessor<TestBean, Object> accessor = propertyUtils.accessor(TestBean.class, "unknown", Object.class);
+        assertThrows(NoSuchMethodException.class, () -> accessor.get(new TestBean()));
+    }
+}
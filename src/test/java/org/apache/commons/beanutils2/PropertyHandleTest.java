@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.commons.beanutils2.priv.PrivateBeanFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code PropertyHandle}.
+ */
+class PropertyHandleTest {
+
+    /**
+     * A bean class which is not accessible for a public lookup.
+     */
+    private static final class HiddenBean {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(final String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A bean class whose accessors throw exceptions.
+     */
+    public static class ThrowingBean {
+
+        public String getValue() {
+            throw new IllegalStateException("get");
+        }
+
+        public void setValue(final String value) {
+            throw new IllegalStateException("set");
+        }
+    }
+
+    /**
+     * Tests that values which the write handle cannot accept are detected.
+     */
+    @Test
+    void testCanWrite() throws Exception {
+        final PropertyHandle handle = new PropertyHandle(null, TestBean.class.getMethod("setIntProperty", int.class));
+        assertTrue(handle.canWrite(Integer.valueOf(1)));
+        assertFalse(handle.canWrite(null), "null for primitive");
+        assertFalse(handle.canWrite(Short.valueOf((short) 1)), "widening conversion");
+        assertFalse(handle.canWrite("1"), "wrong type");
+    }
+
+    /**
+     * Tests that no handles are created for methods which cannot be looked up publicly.
+     */
+    @Test
+    void testInaccessibleMethods() throws Exception {
+        final Method getter = HiddenBean.class.getMethod("getValue");
+        final Method setter = HiddenBean.class.getMethod("setValue", String.class);
+        final PropertyHandle handle = new PropertyHandle(getter, setter);
+        assertFalse(handle.hasReadHandle());
+        assertFalse(handle.canWrite("test"));
+        assertSame(getter, handle.getReadMethod());
+        assertSame(setter, handle.getWriteMethod());
+    }
+
+    /**
+     * Tests that exceptions thrown by the accessors are wrapped like reflection does.
+     */
+    @Test
+    void testInvocationTargetException() throws Exception {
+        final PropertyHandle handle = new PropertyHandle(ThrowingBean.class.getMethod("getValue"), ThrowingBean.class.getMethod("setValue", String.class));
+        final ThrowingBean bean = new ThrowingBean();
+        InvocationTargetException ite = assertThrows(InvocationTargetException.class, () -> handle.read(bean));
+        assertEquals("get", ite.getCause().getMessage());
+        ite = assertThrows(InvocationTargetException.class, () -> handle.write(bean, "value"));
+        assertEquals("set", ite.getCause().getMessage());
+    }
+
+    /**
+     * Tests that PropertyUtilsBean reports the same exceptions as before for exceptions thrown by accessors.
+     */
+    @Test
+    void testPropertyUtilsInvocationTargetException() {
+        final PropertyUtilsBean pub = new PropertyUtilsBean();
+        final ThrowingBean bean = new ThrowingBean();
+        final InvocationTargetException ite = assertThrows(InvocationTargetException.class, () -> pub.getSimpleProperty(bean, "value"));
+        assertTrue(ite.getCause() instanceof IllegalStateException);
+        assertThrows(InvocationTargetException.class, () -> pub.setSimpleProperty(bean, "value", "test"));
+    }
+
+    /**
+     * Tests that the reflection fallback is used for a setter invocation requiring a conversion.
+     */
+    @Test
+    void testPropertyUtilsNullForPrimitive() {
+        final PropertyUtilsBean pub = new PropertyUtilsBean();
+        final IllegalArgumentException iae = assertThrows(IllegalArgumentException.class, () -> pub.setSimpleProperty(new TestBean(), "intProperty", null));
+        assertTrue(iae.getMessage().startsWith("Cannot invoke " + TestBean.class.getName() + ".setIntProperty"), iae.getMessage());
+    }
+
+    /**
+     * Tests that properties of non-public classes accessible via public interfaces can be accessed.
+     */
+    @Test
+    void testPropertyUtilsPrivateBean() throws Exception {
+        final PropertyUtilsBean pub = new PropertyUtilsBean();
+        final Object bean = PrivateBeanFactory.create();
+        assertEquals("This is bar", pub.getSimpleProperty(bean, "bar"));
+        assertThrows(NoSuchMethodException.class, () -> pub.getSimpleProperty(bean, "foo"));
+    }
+
+    /**
+     * Tests reading and writing properties using the handles.
+     */
+    @Test
+    void testReadWrite() throws Exception {
+        final PropertyHandle handle = new PropertyHandle(TestBean.class.getMethod("getIntProperty"), TestBean.class.getMethod("setIntProperty", int.class));
+        final TestBean bean = new TestBean();
+        assertTrue(handle.hasReadHandle());
+        handle.write(bean, Integer.valueOf(42));
+        assertEquals(42, bean.getIntProperty());
+        assertEquals(Integer.valueOf(42), handle.read(bean));
+    }
+
+    /**
+     * Tests that a handle without methods does not provide access.
+     */
+    @Test
+    void testNoMethods() {
+        final PropertyHandle handle = new PropertyHandle(null, null);
+        assertFalse(handle.hasReadHandle());
+        assertFalse(handle.canWrite(null));
+        assertNull(handle.getReadMethod());
+        assertNull(handle.getWriteMethod());
+    }
+
+    /**
+     * Tests that widening conversions still work when writing a property via PropertyUtilsBean.
+     */
+    @Test
+    void testPropertyUtilsWidening() throws Exception {
+        final PropertyUtilsBean pub = new PropertyUtilsBean();
+        final TestBean bean = new TestBean();
+        pub.setSimpleProperty(bean, "intProperty", Short.valueOf((short) 7));
+        assertEquals(7, bean.getIntProperty());
+        pub.setSimpleProperty(bean, "stringProperty", null);
+        assertNull(pub.getSimpleProperty(bean, "stringProperty"));
+    }
+}
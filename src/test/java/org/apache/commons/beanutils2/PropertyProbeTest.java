@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.beanutils2.PropertyProbe.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PropertyProbe} and the probing methods of {@link PropertyUtilsBean}.
+ */
+class PropertyProbeTest {
+
+    private PropertyUtilsBean propertyUtils;
+
+    private TestBean bean;
+
+    /**
+     * Asserts that the throwing counterpart of a probe reports the same outcome.
+     */
+    private void assertSameFailure(final PropertyProbe probe, final String name) {
+        final Exception expected = assertThrows(Exception.class, () -> propertyUtils.getProperty(bean, name));
+        final Exception actual = assertThrows(Exception.class, probe::orElseThrow);
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(expected.getMessage(), probe.getMessage());
+    }
+
+    @BeforeEach
+    public void setUp() {
+        propertyUtils = new PropertyUtilsBean();
+        bean = new TestBean();
+    }
+
+    @Test
+    void testAvailable() throws Exception {
+        final PropertyProbe probe = propertyUtils.tryGetProperty(bean, "nested.stringProperty");
+        assertEquals(Status.AVAILABLE, probe.getStatus());
+        assertTrue(probe.isAvailable());
+        assertEquals("This is a string", probe.getValue());
+        assertEquals("This is a string", probe.orElse("other"));
+        assertEquals("This is a string", probe.orElseThrow());
+        assertNull(probe.getMessage());
+        assertEquals(Integer.valueOf(30), propertyUtils.tryGetProperty(bean, "intIndexed[3]").getValue());
+        assertEquals("First Value", propertyUtils.tryGetProperty(bean, "mappedProperty(First Key)").getValue());
+    }
+
+    @Test
+    void testAvailableNullValue() throws Exception {
+        final PropertyProbe probe = propertyUtils.tryGetProperty(bean, "nullProperty");
+        assertTrue(probe.isAvailable());
+        assertNull(probe.getValue());
+        assertNull(probe.orElse("other"));
+    }
+
+    @Test
+    void testDynaBean() throws Exception {
+        final DynaBean dynaBean = new BasicDynaClass("Test", null, new DynaProperty[] { new DynaProperty("name", String.class) }).newInstance();
+        dynaBean.set("name", "value");
+        assertEquals("value", propertyUtils.tryGetProperty(dynaBean, "name").getValue());
+        final PropertyProbe probe = propertyUtils.tryGetProperty(dynaBean, "unknown");
+        assertEquals(Status.NO_SUCH_PROPERTY, probe.getStatus());
+        assertEquals("Unknown property 'unknown' on dynaclass '" + dynaBean.getDynaClass() + "'", probe.getMessage());
+        assertTrue(propertyUtils.tryIsWriteable(dynaBean, "name").isAvailable());
+        assertEquals(Status.NO_SUCH_PROPERTY, propertyUtils.tryIsReadable(dynaBean, "unknown").getStatus());
+    }
+
+    @Test
+    void testMapBean() throws Exception {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("key", bean);
+        assertSame(bean, propertyUtils.tryGetProperty(map, "key").getValue());
+        assertEquals("This is a string", propertyUtils.tryGetProperty(map, "key.stringProperty").getValue());
+        assertEquals(Status.NESTED_NULL, propertyUtils.tryGetProperty(map, "missing.stringProperty").getStatus());
+    }
+
+    @Test
+    void testNestedNull() throws Exception {
+        final PropertyProbe probe = propertyUtils.tryGetProperty(bean, "nullProperty.length");
+        assertEquals(Status.NESTED_NULL, probe.getStatus());
+        assertFalse(probe.isAvailable());
+        assertNull(probe.getValue());
+        assertEquals("other", probe.orElse("other"));
+        assertSameFailure(probe, "nullProperty.length");
+    }
+
+    @Test
+    void testNoGetter() throws Exception {
+        final PropertyProbe probe = propertyUtils.tryGetProperty(bean, "writeOnlyProperty");
+        assertEquals(Status.NOT_READABLE, probe.getStatus());
+        assertSameFailure(probe, "writeOnlyProperty");
+        assertEquals(Status.NOT_READABLE, propertyUtils.tryGetProperty(bean, "nested.writeOnlyProperty").getStatus());
+    }
+
+    @Test
+    void testThrowingMethodsUnchanged() {
+        assertThrows(NullPointerException.class, () -> propertyUtils.tryGetProperty(null, "stringProperty"));
+        assertThrows(IndexOutOfBoundsException.class, () -> propertyUtils.tryGetProperty(bean, "intArray[99]"));
+        assertThrows(IllegalArgumentException.class, () -> propertyUtils.tryGetProperty(bean, "stringProperty[0]"));
+    }
+
+    @Test
+    void testTryIsReadable() {
+        assertTrue(propertyUtils.tryIsReadable(bean, "readOnlyProperty").isAvailable());
+        assertTrue(propertyUtils.tryIsReadable(bean, "nested.intIndexed").isAvailable());
+        final PropertyProbe noGetter = propertyUtils.tryIsReadable(bean, "writeOnlyProperty");
+        assertEquals(Status.NOT_READABLE, noGetter.getStatus());
+        assertEquals("Property 'writeOnlyProperty' has no getter method in class '" + TestBean.class + "'", noGetter.getMessage());
+        assertEquals(Status.NO_SUCH_PROPERTY, propertyUtils.tryIsReadable(bean, "unknown").getStatus());
+        assertEquals(Status.NO_SUCH_PROPERTY, propertyUtils.tryIsReadable(bean, "unknown.stringProperty").getStatus());
+        final PropertyProbe nestedNull = propertyUtils.tryIsReadable(bean, "nullProperty.length");
+        assertEquals(Status.NESTED_NULL, nestedNull.getStatus());
+        assertEquals("Null property value for 'nullProperty' on bean class '" + TestBean.class + "'", nestedNull.getMessage());
+        assertThrows(NestedNullException.class, () -> propertyUtils.isReadable(bean, "nullProperty.length"));
+    }
+
+    @Test
+    void testTryIsWriteable() throws Exception {
+        assertTrue(propertyUtils.tryIsWriteable(bean, "writeOnlyProperty").isAvailable());
+        assertTrue(propertyUtils.tryIsWriteable(bean, "nested.stringProperty").isAvailable());
+        final PropertyProbe noSetter = propertyUtils.tryIsWriteable(bean, "readOnlyProperty");
+        assertEquals(Status.NOT_WRITEABLE, noSetter.getStatus());
+        assertEquals("Property 'readOnlyProperty' has no setter method in class '" + TestBean.class + "'", noSetter.getMessage());
+        assertThrows(NoSuchMethodException.class, noSetter::orElseThrow);
+        assertEquals(Status.NO_SUCH_PROPERTY, propertyUtils.tryIsWriteable(bean, "unknown").getStatus());
+        assertFalse(propertyUtils.isWriteable(bean, "readOnlyProperty"));
+    }
+
+    @Test
+    void testUnknownProperty() throws Exception {
+        final PropertyProbe probe = propertyUtils.tryGetProperty(bean, "unknown");
+        assertEquals(Status.NO_SUCH_PROPERTY, probe.getStatus());
+        assertFalse(probe.isAvailable());
+        assertEquals("Unknown property 'unknown' on class '" + TestBean.class + "'", probe.getMessage());
+        assertSameFailure(probe, "unknown");
+        assertSameFailure(propertyUtils.tryGetProperty(bean, "unknown[0]"), "unknown[0]");
+        assertSameFailure(propertyUtils.tryGetProperty(bean, "unknown(key)"), "unknown(key)");
+        assertSameFailure(propertyUtils.tryGetProperty(bean, "nested.unknown"), "nested.unknown");
+    }
+}
@@ -17,11 +17,41 @@
 package org.apache.commons.beanutils2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.beanutils2.expression.DefaultResolver;
+import org.apache.commons.beanutils2.expression.PropertyPath;
 import org.apache.commons.beanutils2.expression.Resolver;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -29,6 +59,79 @@ import org.junit.jupiter.api.Test;
  */
 class PropertyUtilsBeanTest {
 
+    /**
+     * A bean class which is introspected by the concurrency tests.
+     */
+    public static class IntrospectedBean {
+
+        public String getName() {
+            return null;
+        }
+    }
+
+    /**
+     * Tests that a copy plan contains only properties readable in the origin class and writable in the destination class, and that it is cached.
+     */
+    @Test
+    void testCopyPlan() {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final CopyPlan plan = propertyUtilsBean.getCopyPlan(TestBean.class, TestBean.class);
+        assertSame(plan, propertyUtilsBean.getCopyPlan(TestBean.class, TestBean.class));
+        final Set<String> names = new HashSet<>();
+        for (int i = 0; i < plan.size(); i++) {
+            names.add(plan.getName(i));
+            assertNotNull(plan.getReader(i).getReadMethod());
+            assertNotNull(plan.getWriter(i).getWriteMethod());
+        }
+        assertTrue(names.contains("stringProperty"));
+        assertTrue(names.contains("intProperty"));
+        assertFalse(names.contains("readOnlyProperty"));
+        assertFalse(names.contains("writeOnlyProperty"));
+        assertFalse(names.contains("class"));
+        propertyUtilsBean.clearDescriptors();
+        assertNotSame(plan, propertyUtilsBean.getCopyPlan(TestBean.class, TestBean.class));
+    }
+
+    /**
+     * Tests copying properties between standard beans of different classes.
+     */
+    @Test
+    void testCopyPropertiesBeans() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final TestBean orig = new TestBean();
+        orig.setStringProperty("copied");
+        orig.setIntProperty(42);
+        final TestBeanPublicSubclass dest = new TestBeanPublicSubclass();
+        for (int i = 0; i < 2; i++) {
+            propertyUtilsBean.copyProperties(dest, orig);
+            assertEquals("copied", dest.getStringProperty());
+            assertEquals(42, dest.getIntProperty());
+            assertEquals("Write Only String Property", dest.getWriteOnlyPropertyValue());
+        }
+    }
+
+    /**
+     * Tests copying properties from a map, including keys which are not simple property names.
+     */
+    @Test
+    void testCopyPropertiesMap() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final TestBean dest = new TestBean();
+        final Map<String, Object> orig = new HashMap<>();
+        orig.put("stringProperty", "from map");
+        orig.put("intProperty", Integer.valueOf(17));
+        orig.put("unknown", "ignored");
+        orig.put("readOnlyProperty", "ignored");
+        propertyUtilsBean.copyProperties(dest, orig);
+        assertEquals("from map", dest.getStringProperty());
+        assertEquals(17, dest.getIntProperty());
+        assertEquals("Read Only String Property", dest.getReadOnlyProperty());
+
+        orig.clear();
+        orig.put("nested.stringProperty", "nested");
+        assertThrows(IllegalArgumentException.class, () -> propertyUtilsBean.copyProperties(dest, orig));
+    }
+
     @Test
     void testGetMappedPropertyDescriptors() throws Exception {
         assertNull(new PropertyUtilsBean().getMappedPropertyDescriptors((Object) null));
@@ -47,6 +150,330 @@ class PropertyUtilsBeanTest {
         assertThrows(NullPointerException.class, () -> new PropertyUtilsBean().getPropertyEditorClass("", null));
     }
 
+    @Test
+    void testGetPropertyPathCached() {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final PropertyPath path = propertyUtilsBean.getPropertyPath("nested.intArray[1]");
+        assertSame(path, propertyUtilsBean.getPropertyPath("nested.intArray[1]"));
+        propertyUtilsBean.setResolver(new DefaultResolver());
+        assertNotSame(path, propertyUtilsBean.getPropertyPath("nested.intArray[1]"));
+    }
+
+    /**
+     * Tests that a bean class is introspected only once if multiple threads request it at the same time.
+     */
+    @Test
+    void testIntrospectionConcurrent() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final AtomicInteger introspections = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        propertyUtilsBean.addBeanIntrospector(icontext -> {
+            introspections.incrementAndGet();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final int threadCount = 8;
+        final List<Thread> threads = new ArrayList<>();
+        final AtomicInteger results = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                final PropertyDescriptor[] descriptors = propertyUtilsBean.getPropertyDescriptors(IntrospectedBean.class);
+                if (descriptors.length > 0) {
+                    results.incrementAndGet();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            while (!threads.stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+                Thread.sleep(10);
+            }
+        });
+        release.countDown();
+        for (final Thread thread : threads) {
+            thread.join(30000);
+        }
+        assertEquals(1, introspections.get());
+        assertEquals(threadCount, results.get());
+    }
+
+    /**
+     * Tests that a bean introspector can request the introspection data of the class it is processing without blocking.
+     */
+    @Test
+    void testIntrospectionReentrant() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final AtomicInteger depth = new AtomicInteger();
+        propertyUtilsBean.addBeanIntrospector(icontext -> {
+            if (depth.getAndIncrement() == 0) {
+                assertNotNull(propertyUtilsBean.getPropertyDescriptors(icontext.getTargetClass()));
+            }
+        });
+        final PropertyDescriptor[] descriptors = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> propertyUtilsBean.getPropertyDescriptors(IntrospectedBean.class));
+        assertNotNull(propertyUtilsBean.getPropertyDescriptor(new IntrospectedBean(), "name"));
+        assertEquals(descriptors.length, propertyUtilsBean.getPropertyDescriptors(IntrospectedBean.class).length);
+    }
+
+    /**
+     * Tests reading nested properties with a null link, per call and with null-safe nesting enabled for the instance.
+     */
+    @Test
+    void testNullSafeNesting() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final TestBean bean = new TestBean();
+        assertFalse(propertyUtilsBean.isNullSafeNesting());
+        assertNull(propertyUtilsBean.getNullSafeProperty(bean, "nullProperty.length"));
+        assertNull(propertyUtilsBean.getNullSafeProperty(bean, propertyUtilsBean.getPropertyPath("nested.nullProperty.length")));
+        assertEquals("This is a string", propertyUtilsBean.getNullSafeProperty(bean, "nested.stringProperty"));
+        assertThrows(NoSuchMethodException.class, () -> propertyUtilsBean.getNullSafeProperty(bean, "nested.unknown"));
+        assertThrows(NestedNullException.class, () -> propertyUtilsBean.getNestedProperty(bean, "nullProperty.length"));
+        final CompiledProperty compiled = propertyUtilsBean.compile(TestBean.class, "nullProperty.length");
+        assertNull(compiled.getNullSafe(bean));
+        assertThrows(NestedNullException.class, () -> compiled.get(bean));
+
+        propertyUtilsBean.setNullSafeNesting(true);
+        assertTrue(propertyUtilsBean.isNullSafeNesting());
+        assertNull(propertyUtilsBean.getNestedProperty(bean, "nullProperty.length"));
+        assertNull(propertyUtilsBean.getProperty(bean, propertyUtilsBean.getPropertyPath("nullProperty.length.x")));
+        assertNull(compiled.get(bean));
+        assertNull(new BeanUtilsBean(new ConvertUtilsBean(), propertyUtilsBean).getProperty(bean, "nullProperty.length"));
+        assertEquals("This is a string", propertyUtilsBean.getProperty(bean, "nested.stringProperty"));
+        // writes and readability tests are not affected
+        assertThrows(NestedNullException.class, () -> propertyUtilsBean.setProperty(bean, "nullProperty.length", "x"));
+        assertThrows(NestedNullException.class, () -> propertyUtilsBean.isReadable(bean, "nullProperty.length"));
+    }
+
+    /**
+     * Tests that a subclass overriding the getters is called for all property values which are read.
+     */
+    @Test
+    void testOverriddenGetters() throws Exception {
+        final List<String> names = new ArrayList<>();
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean() {
+            @Override
+            public Object getIndexedProperty(final Object bean, final String name, final int index)
+                    throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+                names.add(name + "[" + index + "]");
+                return super.getIndexedProperty(bean, name, index);
+            }
+
+            @Override
+            public Object getSimpleProperty(final Object bean, final String name)
+                    throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+                names.add(name);
+                return super.getSimpleProperty(bean, name);
+            }
+        };
+        assertTrue(propertyUtilsBean.isDelegatingGetters());
+        assertFalse(new PropertyUtilsBean().isDelegatingGetters());
+        final TestBean bean = new TestBean();
+
+        assertEquals(bean.getNested().getStringProperty(), propertyUtilsBean.getNestedProperty(bean, "nested.stringProperty"));
+        assertEquals(Arrays.asList("nested", "stringProperty"), names);
+        names.clear();
+        assertEquals(Integer.valueOf(10), propertyUtilsBean.getProperty(bean, "intArray[1]"));
+        assertEquals(Collections.singletonList("intArray[1]"), names);
+        names.clear();
+        assertEquals(bean.getIntProperty(), propertyUtilsBean.getIntProperty(bean, "intProperty"));
+        assertEquals(Collections.singletonList("intProperty"), names);
+        names.clear();
+        assertEquals(bean.getNested().getStringProperty(), propertyUtilsBean.compile(TestBean.class, "nested.stringProperty").get(bean));
+        assertEquals(Arrays.asList("nested", "stringProperty"), names);
+        names.clear();
+        propertyUtilsBean.setNullSafeNesting(true);
+        assertEquals(bean.getNested().getStringProperty(), propertyUtilsBean.getNestedProperty(bean, "nested.stringProperty"));
+        assertEquals(Arrays.asList("nested", "stringProperty"), names);
+        names.clear();
+
+        final BeanUtilsBean beanUtilsBean = new BeanUtilsBean(new ConvertUtilsBean(), propertyUtilsBean);
+        beanUtilsBean.setProperty(bean, "nested.stringProperty", "nested value");
+        assertEquals("nested value", bean.getNested().getStringProperty());
+        assertTrue(names.contains("nested"));
+        names.clear();
+        final TestBean dest = new TestBean();
+        beanUtilsBean.copyProperties(dest, bean);
+        assertTrue(names.contains("stringProperty"));
+        names.clear();
+        propertyUtilsBean.copyProperties(dest, bean);
+        assertTrue(names.contains("stringProperty"));
+    }
+
+    /**
+     * Tests the accessors for primitive values, both without boxing and with conversions.
+     */
+    @Test
+    void testPrimitiveProperties() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final TestBean bean = new TestBean();
+        assertEquals(123, propertyUtilsBean.getIntProperty(bean, "intProperty"));
+        assertEquals(321L, propertyUtilsBean.getLongProperty(bean, "longProperty"));
+        assertEquals(321.0, propertyUtilsBean.getDoubleProperty(bean, "doubleProperty"));
+        assertTrue(propertyUtilsBean.getBooleanProperty(bean, "booleanProperty"));
+        propertyUtilsBean.setIntProperty(bean, "intProperty", 5);
+        propertyUtilsBean.setLongProperty(bean, "longProperty", 6L);
+        propertyUtilsBean.setDoubleProperty(bean, "doubleProperty", 7.5);
+        propertyUtilsBean.setBooleanProperty(bean, "booleanProperty", false);
+        assertEquals(5, bean.getIntProperty());
+        assertEquals(6L, bean.getLongProperty());
+        assertEquals(7.5, bean.getDoubleProperty());
+        assertFalse(bean.getBooleanProperty());
+
+        // conversions if the declared type differs
+        assertEquals(5L, propertyUtilsBean.getLongProperty(bean, "intProperty"));
+        assertEquals(123, propertyUtilsBean.getIntProperty(bean, "floatProperty"));
+        propertyUtilsBean.setIntProperty(bean, "longProperty", 8);
+        assertEquals(8L, bean.getLongProperty());
+        assertThrows(IllegalArgumentException.class, () -> propertyUtilsBean.getIntProperty(bean, "stringProperty"));
+        assertThrows(IllegalArgumentException.class, () -> propertyUtilsBean.getBooleanProperty(bean, "intProperty"));
+        assertThrows(IllegalArgumentException.class, () -> propertyUtilsBean.setLongProperty(bean, "intProperty", 9L));
+        assertThrows(NoSuchMethodException.class, () -> propertyUtilsBean.getIntProperty(bean, "unknown"));
+        assertThrows(NullPointerException.class, () -> propertyUtilsBean.getIntProperty(null, "intProperty"));
+
+        // nested, indexed and dynamic properties use the generic logic
+        propertyUtilsBean.setIntProperty(bean, "nested.intIndexed[1]", 11);
+        assertEquals(11, propertyUtilsBean.getIntProperty(bean, "nested.intIndexed[1]"));
+        final Map<String, Object> map = new HashMap<>();
+        map.put("count", Integer.valueOf(3));
+        assertEquals(3.0, propertyUtilsBean.getDoubleProperty(map, "count"));
+        propertyUtilsBean.setLongProperty(map, "count", 4L);
+        assertEquals(Long.valueOf(4), map.get("count"));
+    }
+
+    /**
+     * Tests that the accessors for primitive values report a null nested reference by an exception, even if null-safe nesting is enabled.
+     */
+    @Test
+    void testPrimitivePropertiesNullSafeNesting() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        propertyUtilsBean.setNullSafeNesting(true);
+        final TestBean bean = new TestBean();
+        assertNull(propertyUtilsBean.getProperty(bean, "nullProperty.length"));
+        assertThrows(NestedNullException.class, () -> propertyUtilsBean.getIntProperty(bean, "nullProperty.length"));
+        assertThrows(NestedNullException.class, () -> propertyUtilsBean.getBooleanProperty(bean, "nullProperty.empty"));
+        assertThrows(NestedNullException.class, () -> propertyUtilsBean.compile(TestBean.class, "nullProperty.length").getInt(bean));
+    }
+
+    /**
+     * Tests pinned introspection mode.
+     */
+    @Test
+    void testPinnedIntrospection() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        assertFalse(propertyUtilsBean.isPinnedIntrospection());
+        final int modificationCount = propertyUtilsBean.getModificationCount();
+        propertyUtilsBean.setPinnedIntrospection(true);
+        assertTrue(propertyUtilsBean.isPinnedIntrospection());
+        assertEquals(modificationCount + 1, propertyUtilsBean.getModificationCount());
+        propertyUtilsBean.setPinnedIntrospection(true);
+        assertEquals(modificationCount + 1, propertyUtilsBean.getModificationCount());
+
+        final TestBean bean = new TestBean();
+        propertyUtilsBean.setIndexedProperty(bean, "intIndexed", 1, Integer.valueOf(42));
+        assertEquals(Integer.valueOf(42), propertyUtilsBean.getIndexedProperty(bean, "intIndexed", 1));
+        propertyUtilsBean.setMappedProperty(bean, "mappedProperty", "key", "pinned");
+        assertEquals("pinned", propertyUtilsBean.getMappedProperty(bean, "mappedProperty", "key"));
+        propertyUtilsBean.setProperty(bean, "stringProperty", "value");
+        assertEquals("value", propertyUtilsBean.getProperty(bean, "stringProperty"));
+        assertTrue(propertyUtilsBean.isWriteable(bean, "intIndexed[0]"));
+    }
+
+    /**
+     * Tests that the introspection data of a class of another class loader survives the clearing of soft references in pinned mode only.
+     */
+    @Test
+    void testPinnedIntrospectionSoftReferencesCleared() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { AlphaBean.class.getProtectionDomain().getCodeSource().getLocation() }, null)) {
+            final Class<?> beanClass = loader.loadClass(AlphaBean.class.getName());
+            assertNotSame(AlphaBean.class, beanClass);
+            final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+            ClassCache<?> cache = (ClassCache<?>) FieldUtils.readField(propertyUtilsBean, "descriptorsCache", true);
+            final Object data = cache.get(beanClass);
+            cache.clearSoftValues();
+            assertNotSame(data, cache.get(beanClass));
+
+            propertyUtilsBean.setPinnedIntrospection(true);
+            cache = (ClassCache<?>) FieldUtils.readField(propertyUtilsBean, "descriptorsCache", true);
+            final Object pinned = cache.get(beanClass);
+            cache.clearSoftValues();
+            assertSame(pinned, cache.get(beanClass));
+            assertEquals("value", propertyUtilsBean.getProperty(beanClass.getConstructor(String.class).newInstance("value"), "name"));
+        }
+    }
+
+    /**
+     * Tests warming up the caches for a number of classes in parallel.
+     */
+    @Test
+    void testPrewarm() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final AtomicInteger introspections = new AtomicInteger();
+        propertyUtilsBean.addBeanIntrospector(icontext -> introspections.incrementAndGet());
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            propertyUtilsBean.prewarm(Arrays.asList(TestBean.class, AlphaBean.class, BetaBean.class), executor).get();
+            propertyUtilsBean.prewarmCopy(TestBean.class, Collections.singletonList(TestBean.class), executor).get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(3, introspections.get());
+        assertNotNull(propertyUtilsBean.getPropertyHandle(TestBean.class, "stringProperty"));
+        assertInstanceOf(MappedPropertyDescriptor.class, propertyUtilsBean.getMappedPropertyDescriptors(TestBean.class).get("mappedProperty"));
+        assertNull(propertyUtilsBean.getMappedPropertyDescriptors(TestBean.class).get("stringProperty"));
+        assertNotNull(propertyUtilsBean.getCopyPlan(TestBean.class, TestBean.class));
+        assertEquals("First Value", propertyUtilsBean.getProperty(new TestBean(), "mappedProperty(First Key)"));
+        propertyUtilsBean.getPropertyDescriptors(TestBean.class);
+        assertEquals(3, introspections.get());
+
+        assertTrue(propertyUtilsBean.prewarm(Collections.emptyList(), null).isDone());
+        assertThrows(NullPointerException.class, () -> propertyUtilsBean.prewarm(Arrays.asList(TestBean.class, null), null));
+        propertyUtilsBean.addBeanIntrospector(icontext -> {
+            throw new IllegalStateException("failed");
+        });
+        final CompletableFuture<Void> failed = propertyUtilsBean.prewarm(Collections.singletonList(IntrospectedBean.class), null);
+        final ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void testPropertyPathAccess() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final TestBean bean = new TestBean();
+        final PropertyPath indexed = propertyUtilsBean.getPropertyPath("nested.intArray[1]");
+        propertyUtilsBean.setProperty(bean, indexed, Integer.valueOf(42));
+        assertEquals(Integer.valueOf(42), propertyUtilsBean.getProperty(bean, indexed));
+        assertEquals(42, bean.getNested().getIntArray()[1]);
+
+        final PropertyPath mapped = propertyUtilsBean.getPropertyPath("nested.mappedProperty(key)");
+        propertyUtilsBean.setProperty(bean, mapped, "value");
+        assertEquals("value", propertyUtilsBean.getProperty(bean, mapped));
+
+        final Map<String, Object> map = new HashMap<>();
+        map.put("bean", bean);
+        assertEquals("value", propertyUtilsBean.getProperty(map, propertyUtilsBean.getPropertyPath("bean.nested.mappedProperty(key)")));
+    }
+
+    @Test
+    void testPropertyPathInvalidIndex() {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> propertyUtilsBean.getProperty(new TestBean(), propertyUtilsBean.getPropertyPath("intArray[x]")));
+        assertEquals("Invalid indexed property 'intArray[x]' on bean class '" + TestBean.class + "' Invalid index value 'x'", e.getMessage());
+    }
+
+    @Test
+    void testPropertyPathNestedNull() {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final TestBean bean = new TestBean();
+        final NestedNullException e = assertThrows(NestedNullException.class,
+                () -> propertyUtilsBean.getProperty(bean, propertyUtilsBean.getPropertyPath("nullProperty.length.x")));
+        assertEquals("Null property value for 'nullProperty.length.x' on bean class '" + TestBean.class + "'", e.getMessage());
+    }
+
     @Test
     void testSetResolver() throws Exception {
         final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
@@ -58,4 +485,45 @@ class PropertyUtilsBeanTest {
         assertEquals(resolver, propertyUtilsBean.getResolver());
     }
 
+    /**
+     * Tests that names not resolving to a property are cached, that the cache is bounded and that it is invalidated when the introspectors change.
+     */
+    @Test
+    void testUnresolvedNames() throws Exception {
+        final PropertyUtilsBean propertyUtilsBean = new PropertyUtilsBean();
+        final TestBean bean = new TestBean();
+        assertNull(propertyUtilsBean.getPropertyDescriptor(bean, "unknown"));
+        assertEquals(1, propertyUtilsBean.getUnresolvedNameMissCount());
+        assertEquals(0, propertyUtilsBean.getUnresolvedNameHitCount());
+        assertNull(propertyUtilsBean.getPropertyDescriptor(bean, "unknown"));
+        assertFalse(propertyUtilsBean.isReadable(bean, "unknown"));
+        assertEquals(1, propertyUtilsBean.getUnresolvedNameMissCount());
+        assertEquals(2, propertyUtilsBean.getUnresolvedNameHitCount());
+        assertNotNull(propertyUtilsBean.getPropertyDescriptor(bean, "mappedProperty"));
+
+        // many different names
+        for (int i = 0; i < 1000; i++) {
+            assertNull(propertyUtilsBean.getPropertyDescriptor(bean, "unknown" + i));
+        }
+        assertEquals(1001, propertyUtilsBean.getUnresolvedNameMissCount());
+
+        // a name found later by a new introspector, and suppressed again
+        assertNull(propertyUtilsBean.getPropertyDescriptor(bean, "extra"));
+        propertyUtilsBean.addBeanIntrospector(icontext -> {
+            try {
+                icontext.addPropertyDescriptor(new PropertyDescriptor("extra", TestBean.class, "getStringProperty", null));
+            } catch (final IntrospectionException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        propertyUtilsBean.clearDescriptors();
+        assertNotNull(propertyUtilsBean.getPropertyDescriptor(bean, "extra"));
+        final BeanIntrospector suppress = new SuppressPropertiesBeanIntrospector(Collections.singleton("extra"));
+        propertyUtilsBean.addBeanIntrospector(suppress);
+        propertyUtilsBean.clearDescriptors();
+        assertNull(propertyUtilsBean.getPropertyDescriptor(bean, "extra"));
+        assertTrue(propertyUtilsBean.removeBeanIntrospector(suppress));
+        propertyUtilsBean.clearDescriptors();
+        assertNotNull(propertyUtilsBean.getPropertyDescriptor(bean, "extra"));
+    }
 }
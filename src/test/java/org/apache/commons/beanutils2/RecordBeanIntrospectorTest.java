@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@code RecordBeanIntrospector} and the methods creating records. The record class is compiled at runtime because the tests are compiled
+ * for Java 8.
+ */
+@EnabledForJreRange(min = JRE.JAVA_16)
+class RecordBeanIntrospectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Class<?> recordClass;
+
+    private PropertyUtilsBean propertyUtils;
+
+    private Object newRecord(final String stringProperty, final int intProperty, final boolean booleanProperty, final String missing) throws Exception {
+        return recordClass.getConstructor(String.class, int.class, boolean.class, String.class).newInstance(stringProperty, intProperty, booleanProperty,
+                missing);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        final Path sources = Files.createDirectories(tempDir.resolve("test"));
+        final Path source = sources.resolve("Sample.java");
+        Files.write(source, ("package test;\n" + "public record Sample(String stringProperty, int intProperty, boolean booleanProperty, String missing) {\n"
+                + "    public Sample {\n" + "        if (intProperty < 0) {\n" + "            throw new IllegalArgumentException(\"intProperty\");\n"
+                + "        }\n" + "    }\n" + "}\n").getBytes(StandardCharsets.UTF_8));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, source.toString()));
+        final URLClassLoader loader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, null);
+        recordClass = loader.loadClass("test.Sample");
+        propertyUtils = new PropertyUtilsBean();
+        propertyUtils.addBeanIntrospector(RecordBeanIntrospector.INSTANCE);
+    }
+
+    /**
+     * Tests that the properties of a class which is not a record are not changed.
+     */
+    @Test
+    void testBeanClass() {
+        assertEquals(new PropertyUtilsBean().getPropertyDescriptors(TestBean.class).length, propertyUtils.getPropertyDescriptors(TestBean.class).length);
+    }
+
+    /**
+     * Tests creating a record from a standard JavaBean.
+     */
+    @Test
+    void testCopyToRecordFromBean() throws Exception {
+        final TestBean bean = new TestBean();
+        bean.setStringProperty("copied");
+        assertEquals(newRecord("copied", 123, true, null), propertyUtils.copyToRecord(recordClass, bean));
+    }
+
+    /**
+     * Tests creating a record from a {@code DynaBean}.
+     */
+    @Test
+    void testCopyToRecordFromDynaBean() throws Exception {
+        final DynaBean bean = new BasicDynaClass("Sample", null,
+                new DynaProperty[] { new DynaProperty("stringProperty", String.class), new DynaProperty("intProperty", Integer.class) }).newInstance();
+        bean.set("stringProperty", "dyna");
+        bean.set("intProperty", Integer.valueOf(7));
+        assertEquals(newRecord("dyna", 7, false, null), propertyUtils.copyToRecord(recordClass, bean));
+    }
+
+    /**
+     * Tests creating a record from a map; missing values of primitive components are replaced by default values.
+     */
+    @Test
+    void testCopyToRecordFromMap() throws Exception {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("stringProperty", "map");
+        map.put("unknown", "ignored");
+        assertEquals(newRecord("map", 0, false, null), propertyUtils.copyToRecord(recordClass, map));
+    }
+
+    /**
+     * Tests creating a record from another record.
+     */
+    @Test
+    void testCopyToRecordFromRecord() throws Exception {
+        final Object orig = newRecord("record", 5, true, "present");
+        assertEquals(orig, propertyUtils.copyToRecord(recordClass, orig));
+        assertEquals(orig, new BeanUtilsBean(new ConvertUtilsBean(), propertyUtils).copyToRecord(recordClass, orig));
+    }
+
+    /**
+     * Tests that an exception thrown by the canonical constructor is reported.
+     */
+    @Test
+    void testCopyToRecordInvalidValue() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("intProperty", Integer.valueOf(-1));
+        final InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> propertyUtils.copyToRecord(recordClass, map));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    /**
+     * Tests that a class which is not a record is rejected.
+     */
+    @Test
+    void testCopyToRecordNotRecord() {
+        assertThrows(IllegalArgumentException.class, () -> propertyUtils.copyToRecord(TestBean.class, new TestBean()));
+        assertThrows(NullPointerException.class, () -> propertyUtils.copyToRecord(null, new TestBean()));
+    }
+
+    /**
+     * Tests that values are not converted by {@code PropertyUtilsBean}.
+     */
+    @Test
+    void testCopyToRecordWrongType() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("intProperty", "42");
+        assertThrows(IllegalArgumentException.class, () -> propertyUtils.copyToRecord(recordClass, map));
+    }
+
+    /**
+     * Tests the properties created for the components of a record.
+     */
+    @Test
+    void testIntrospect() throws Exception {
+        final PropertyDescriptor[] descriptors = propertyUtils.getPropertyDescriptors(recordClass);
+        final String[] names = Arrays.stream(descriptors).map(PropertyDescriptor::getName).sorted().toArray(String[]::new);
+        assertEquals(Arrays.asList("booleanProperty", "intProperty", "missing", "stringProperty"), Arrays.asList(names));
+        for (final PropertyDescriptor descriptor : descriptors) {
+            assertEquals(recordClass.getMethod(descriptor.getName()), descriptor.getReadMethod());
+            assertNull(descriptor.getWriteMethod());
+        }
+        final Object bean = newRecord("value", 1, true, null);
+        assertEquals("value", propertyUtils.getProperty(bean, "stringProperty"));
+        assertEquals(Integer.valueOf(1), propertyUtils.getProperty(bean, "intProperty"));
+        assertTrue(propertyUtils.isReadable(bean, "booleanProperty"));
+        assertFalse(propertyUtils.isWriteable(bean, "booleanProperty"));
+        assertEquals(0, new PropertyUtilsBean().getPropertyDescriptors(recordClass).length);
+    }
+
+    /**
+     * Tests creating a record from request parameters with conversions.
+     */
+    @Test
+    void testPopulateRecord() throws Exception {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("stringProperty", "populated");
+        map.put("intProperty", "42");
+        map.put("booleanProperty", new String[] { "true" });
+        assertEquals(newRecord("populated", 42, true, null), new BeanUtilsBean().populateRecord(recordClass, map));
+    }
+}
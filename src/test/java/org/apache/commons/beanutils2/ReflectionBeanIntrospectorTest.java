@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code ReflectionBeanIntrospector}.
+ */
+class ReflectionBeanIntrospectorTest {
+
+    /**
+     * A bean with accessors which do not follow the usual pattern.
+     */
+    public static class UnusualBean {
+
+        public String getAmbiguous() {
+            return null;
+        }
+
+        public void setAmbiguous(final int value) {
+            // only the setter matching the getter is used
+        }
+
+        public void setAmbiguous(final String value) {
+            // ignore
+        }
+
+        public Boolean getBoxed() {
+            return null;
+        }
+
+        public boolean isBoxed() {
+            return false;
+        }
+
+        public String getItems(final int index) {
+            return null;
+        }
+
+        public void setItems(final int index, final String value) {
+            // ignore
+        }
+
+        public void setOverloaded(final Object value) {
+            // without a getter, the most specific setter is used
+        }
+
+        public void setOverloaded(final String value) {
+            // ignore
+        }
+
+        public void setUnrelated(final String value) {
+            // without a getter, the type names decide
+        }
+
+        public void setUnrelated(final int value) {
+            // ignore
+        }
+
+        public Object get() {
+            return null;
+        }
+
+        public static String getStatic() {
+            return null;
+        }
+
+        public void setWriteOnly(final long value) {
+            // ignore
+        }
+    }
+
+    private static void assertSameDescriptors(final Class<?> beanClass) {
+        final PropertyDescriptor[] expected = introspect(DefaultBeanIntrospector.INSTANCE, beanClass);
+        final PropertyDescriptor[] actual = introspect(ReflectionBeanIntrospector.INSTANCE, beanClass);
+        assertEquals(names(expected), names(actual), beanClass.getName());
+        for (int i = 0; i < expected.length; i++) {
+            final String message = beanClass.getName() + "." + expected[i].getName();
+            assertSame(expected[i].getClass(), actual[i].getClass(), message);
+            assertEquals(expected[i].getPropertyType(), actual[i].getPropertyType(), message);
+            assertEquals(expected[i].getReadMethod(), actual[i].getReadMethod(), message);
+            assertEquals(expected[i].getWriteMethod(), actual[i].getWriteMethod(), message);
+            if (expected[i] instanceof IndexedPropertyDescriptor) {
+                final IndexedPropertyDescriptor expectedIndexed = (IndexedPropertyDescriptor) expected[i];
+                final IndexedPropertyDescriptor actualIndexed = (IndexedPropertyDescriptor) actual[i];
+                assertEquals(expectedIndexed.getIndexedPropertyType(), actualIndexed.getIndexedPropertyType(), message);
+                assertEquals(expectedIndexed.getIndexedReadMethod(), actualIndexed.getIndexedReadMethod(), message);
+                assertEquals(expectedIndexed.getIndexedWriteMethod(), actualIndexed.getIndexedWriteMethod(), message);
+            }
+        }
+    }
+
+    private static PropertyDescriptor[] introspect(final BeanIntrospector introspector, final Class<?> beanClass) {
+        final DefaultIntrospectionContext context = new DefaultIntrospectionContext(beanClass);
+        try {
+            introspector.introspect(context);
+        } catch (final java.beans.IntrospectionException e) {
+            throw new AssertionError(e);
+        }
+        final PropertyDescriptor[] descriptors = context.getPropertyDescriptors();
+        Arrays.sort(descriptors, (d1, d2) -> d1.getName().compareTo(d2.getName()));
+        return descriptors;
+    }
+
+    private static List<String> names(final PropertyDescriptor[] descriptors) {
+        return Arrays.asList(Arrays.stream(descriptors).map(PropertyDescriptor::getName).toArray(String[]::new));
+    }
+
+    /**
+     * Tests that the properties of common bean classes are the same as with {@code DefaultBeanIntrospector}.
+     */
+    @Test
+    void testSameAsDefault() {
+        assertSameDescriptors(TestBean.class);
+        assertSameDescriptors(AlphaBean.class);
+        assertSameDescriptors(SonOfAlphaBean.class);
+        assertSameDescriptors(BenchBean.class);
+        assertSameDescriptors(IndexedTestBean.class);
+        assertSameDescriptors(NestedTestBean.class);
+        assertSameDescriptors(PrimitiveBean.class);
+        assertSameDescriptors(MappedPropertyTestBean.class);
+        assertSameDescriptors(UnusualBean.class);
+        assertSameDescriptors(Object.class);
+        assertSameDescriptors(DynaBean.class);
+    }
+
+    /**
+     * Tests the descriptors created for accessors which do not follow the usual pattern.
+     */
+    @Test
+    void testUnusualAccessors() throws Exception {
+        final PropertyDescriptor[] descriptors = introspect(ReflectionBeanIntrospector.INSTANCE, UnusualBean.class);
+        assertEquals(Arrays.asList("ambiguous", "boxed", "class", "items", "overloaded", "unrelated", "writeOnly"), names(descriptors));
+        assertEquals(UnusualBean.class.getMethod("setAmbiguous", String.class), descriptors[0].getWriteMethod());
+        assertEquals(UnusualBean.class.getMethod("isBoxed"), descriptors[1].getReadMethod());
+        assertNull(descriptors[1].getWriteMethod());
+        final IndexedPropertyDescriptor items = (IndexedPropertyDescriptor) descriptors[3];
+        assertNull(items.getReadMethod());
+        assertEquals(UnusualBean.class.getMethod("setItems", int.class, String.class), items.getIndexedWriteMethod());
+        assertEquals(UnusualBean.class.getMethod("setOverloaded", String.class), descriptors[4].getWriteMethod());
+        assertEquals(UnusualBean.class.getMethod("setUnrelated", int.class), descriptors[5].getWriteMethod());
+    }
+
+    /**
+     * Tests accessing properties with a {@code PropertyUtilsBean} which uses the reflection-based introspector.
+     */
+    @Test
+    void testPropertyUtilsBean() throws Exception {
+        final PropertyUtilsBean propertyUtils = new PropertyUtilsBean();
+        propertyUtils.resetBeanIntrospectors(ReflectionBeanIntrospector.INSTANCE);
+        final TestBean bean = new TestBean();
+        propertyUtils.setProperty(bean, "stringProperty", "reflection");
+        assertEquals("reflection", propertyUtils.getProperty(bean, "stringProperty"));
+        assertEquals(Integer.valueOf(10), propertyUtils.getProperty(bean, "intIndexed[1]"));
+        assertEquals("String 2", propertyUtils.getProperty(bean, "listIndexed[2]"));
+        assertEquals(false, propertyUtils.isReadable(bean, "class"));
+        assertEquals(new PropertyUtilsBean().getPropertyDescriptors(TestBean.class).length, propertyUtils.getPropertyDescriptors(TestBean.class).length);
+    }
+}
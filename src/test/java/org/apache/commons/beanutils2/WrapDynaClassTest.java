@@ -18,6 +18,7 @@
 package org.apache.commons.beanutils2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Collections;
@@ -99,4 +100,19 @@ class WrapDynaClassTest {
         assertSame(first, WrapDynaClass.createDynaClass(ConcurrentBean.class));
         WrapDynaClass.clear();
     }
+
+    /**
+     * Instances created with a specific {@code PropertyUtilsBean} are cached by it and discarded when its descriptors are cleared.
+     */
+    @Test
+    void testCreateDynaClassPropertyUtilsBean() {
+        final PropertyUtilsBean pu = new PropertyUtilsBean();
+        final WrapDynaClass first = WrapDynaClass.createDynaClass(ConcurrentBean.class, pu);
+        assertSame(first, WrapDynaClass.createDynaClass(ConcurrentBean.class, pu));
+        assertNotSame(first, WrapDynaClass.createDynaClass(ConcurrentBean.class));
+        WrapDynaClass.clear();
+        assertSame(first, WrapDynaClass.createDynaClass(ConcurrentBean.class, pu), "Cleared instance of other PropertyUtilsBean");
+        pu.clearDescriptors();
+        assertNotSame(first, WrapDynaClass.createDynaClass(ConcurrentBean.class, pu));
+    }
 }
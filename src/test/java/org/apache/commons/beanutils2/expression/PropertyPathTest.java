@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.beanutils2.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PropertyPath}.
+ */
+class PropertyPathTest {
+
+    private final Resolver resolver = new DefaultResolver();
+
+    @Test
+    void testInvalidIndex() {
+        final PropertyPath path = PropertyPath.parse("a[x]", resolver);
+        final PropertyPath.Segment segment = path.getLastSegment();
+        assertTrue(segment.isIndexed());
+        assertFalse(segment.isValid());
+        assertEquals(-1, segment.getIndex());
+        assertEquals("a", segment.getName());
+    }
+
+    @Test
+    void testMixedPath() {
+        final PropertyPath path = PropertyPath.parse("order.lines[3].attrs(color)", resolver);
+        assertEquals("order.lines[3].attrs(color)", path.getExpression());
+        assertEquals(3, path.size());
+
+        final PropertyPath.Segment order = path.getSegment(0);
+        assertEquals("order", order.getExpression());
+        assertEquals("order", order.getName());
+        assertEquals("order.lines[3].attrs(color)", order.getRemainder());
+        assertFalse(order.isIndexed());
+        assertFalse(order.isMapped());
+
+        final PropertyPath.Segment lines = path.getSegment(1);
+        assertEquals("lines[3]", lines.getExpression());
+        assertEquals("lines", lines.getName());
+        assertEquals("lines[3].attrs(color)", lines.getRemainder());
+        assertTrue(lines.isIndexed());
+        assertEquals(3, lines.getIndex());
+        assertNull(lines.getKey());
+
+        final PropertyPath.Segment attrs = path.getSegment(2);
+        assertSame(attrs, path.getLastSegment());
+        assertEquals("attrs", attrs.getName());
+        assertTrue(attrs.isMapped());
+        assertEquals("color", attrs.getKey());
+        assertEquals(-1, attrs.getIndex());
+        assertTrue(attrs.isValid());
+    }
+
+    @Test
+    void testMappedKeyWithDelimiters() {
+        final PropertyPath path = PropertyPath.parse("mno(pqr.s).t", resolver);
+        assertEquals(2, path.size());
+        assertEquals("pqr.s", path.getSegment(0).getKey());
+        assertEquals("t", path.getLastSegment().getExpression());
+    }
+
+    @Test
+    void testNullArguments() {
+        assertThrows(NullPointerException.class, () -> PropertyPath.parse(null, resolver));
+        assertThrows(NullPointerException.class, () -> PropertyPath.parse("a", null));
+    }
+
+    @Test
+    void testSimple() {
+        final PropertyPath path = PropertyPath.parse("name", resolver);
+        assertEquals(1, path.size());
+        assertEquals("name", path.getLastSegment().getName());
+        assertEquals("name", path.toString());
+    }
+}